@@ -0,0 +1,218 @@
+package mioneF.yumCup.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import mioneF.yumCup.infrastructure.api.resilience.AdaptiveRateLimiter;
+import mioneF.yumCup.infrastructure.api.resilience.ApiClientPolicy;
+import mioneF.yumCup.infrastructure.api.resilience.Bulkhead;
+import mioneF.yumCup.infrastructure.api.resilience.CircuitBreaker;
+import mioneF.yumCup.infrastructure.api.resilience.DistributedRateLimiter;
+import mioneF.yumCup.infrastructure.api.resilience.RequestHedger;
+import mioneF.yumCup.infrastructure.api.resilience.RetryPolicy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 클라이언트별 호출 정책 (<kakao|google>.api.* 설정)
+ */
+@Configuration
+public class ApiClientPolicyConfig {
+
+	@Bean
+	@Qualifier("kakaoApiPolicy")
+	public ApiClientPolicy kakaoApiPolicy(
+			Environment environment,
+			MeterRegistry meterRegistry,
+			StringRedisTemplate redisTemplate) {
+		return ApiClientPolicy.builder()
+				.rateLimiter( rateLimiter( "kakao", "kakao.api.limiter", environment, meterRegistry ) )
+				.clusterRateLimiter( clusterRateLimiter( "kakao", "kakao.api.limiter.cluster", environment, meterRegistry, redisTemplate ) )
+				.circuitBreaker( circuitBreaker( "kakao", "kakao.api.circuit-breaker", environment, meterRegistry ) )
+				.hedger( hedger( "kakao", "kakao.api.hedge", environment, meterRegistry ) )
+				.bulkhead( bulkhead( "kakao", "kakao.api.bulkhead", environment, meterRegistry ) )
+				.retryPolicy( retryPolicy( "kakao", "kakao.api.retry", environment, meterRegistry ) )
+				.build();
+	}
+
+	@Bean
+	@Qualifier("googleApiPolicy")
+	public ApiClientPolicy googleApiPolicy(
+			Environment environment,
+			MeterRegistry meterRegistry,
+			StringRedisTemplate redisTemplate) {
+		return ApiClientPolicy.builder()
+				.rateLimiter( rateLimiter( "google", "google.api.limiter", environment, meterRegistry ) )
+				.clusterRateLimiter( clusterRateLimiter( "google", "google.api.limiter.cluster", environment, meterRegistry, redisTemplate ) )
+				.circuitBreaker( circuitBreaker( "google", "google.api.circuit-breaker", environment, meterRegistry ) )
+				.hedger( hedger( "google", "google.api.hedge", environment, meterRegistry ) )
+				.bulkhead( bulkhead( "google", "google.api.bulkhead", environment, meterRegistry ) )
+				.retryPolicy( retryPolicy( "google", "google.api.retry", environment, meterRegistry ) )
+				.build();
+	}
+
+	/**
+	 * enabled가 false면 null (제한 없음)
+	 */
+	private AdaptiveRateLimiter rateLimiter(
+			String name,
+			String prefix,
+			Environment environment,
+			MeterRegistry meterRegistry) {
+
+		if ( !environment.getProperty( prefix + ".enabled", Boolean.class, true ) ) {
+			return null;
+		}
+
+		return AdaptiveRateLimiter.builder()
+				.name( name )
+				.permitsPerSecond( environment.getProperty( prefix + ".permits-per-second", Double.class, 10.0 ) )
+				.burst( environment.getProperty( prefix + ".burst", Integer.class, 10 ) )
+				.initialLimit( environment.getProperty( prefix + ".initial-concurrency", Integer.class, 4 ) )
+				.minLimit( environment.getProperty( prefix + ".min-concurrency", Integer.class, 1 ) )
+				.maxLimit( environment.getProperty( prefix + ".max-concurrency", Integer.class, 16 ) )
+				.latencyThreshold( millis( environment, prefix + ".latency-threshold-ms", 2000 ) )
+				.maxQueueSize( environment.getProperty( prefix + ".max-queue-size", Integer.class, 256 ) )
+				.maxQueueTime( millis( environment, prefix + ".max-queue-time-ms", 3000 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	/**
+	 * API 키 단위 클러스터 한도 (모든 인스턴스 합계), enabled가 false면 null
+	 * fallback은 Redis 장애 시 인스턴스 하나가 쓸 몫 (기본: 클러스터 한도의 절반)
+	 */
+	private DistributedRateLimiter clusterRateLimiter(
+			String name,
+			String prefix,
+			Environment environment,
+			MeterRegistry meterRegistry,
+			StringRedisTemplate redisTemplate) {
+
+		if ( !environment.getProperty( prefix + ".enabled", Boolean.class, true ) ) {
+			return null;
+		}
+
+		double permitsPerSecond = environment.getProperty( prefix + ".permits-per-second", Double.class, 10.0 );
+
+		return DistributedRateLimiter.builder()
+				.name( name )
+				.redisTemplate( redisTemplate )
+				.permitsPerSecond( permitsPerSecond )
+				.burst( environment.getProperty( prefix + ".burst", Integer.class, (int) Math.ceil( permitsPerSecond ) ) )
+				.batchSize( environment.getProperty( prefix + ".batch-size", Integer.class, 5 ) )
+				.batchTtl( millis( environment, prefix + ".batch-ttl-ms", 1000 ) )
+				.fallbackPermitsPerSecond( environment.getProperty(
+						prefix + ".fallback-permits-per-second",
+						Double.class,
+						permitsPerSecond / 2
+				) )
+				.maxWait( millis( environment, prefix + ".max-wait-ms", 3000 ) )
+				.redisRetryInterval( millis( environment, prefix + ".redis-retry-interval-ms", 5000 ) )
+				.commandTimeout( millis( environment, prefix + ".command-timeout-ms", 200 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	/**
+	 * 에러율 / 느린 응답 비율 기준 circuit breaker, enabled가 false면 null
+	 */
+	private CircuitBreaker circuitBreaker(
+			String name,
+			String prefix,
+			Environment environment,
+			MeterRegistry meterRegistry) {
+
+		if ( !environment.getProperty( prefix + ".enabled", Boolean.class, true ) ) {
+			return null;
+		}
+
+		return CircuitBreaker.builder()
+				.name( name )
+				.windowSize( environment.getProperty( prefix + ".window-size", Integer.class, 20 ) )
+				.minimumCalls( environment.getProperty( prefix + ".minimum-calls", Integer.class, 10 ) )
+				.failureRateThreshold( environment.getProperty( prefix + ".failure-rate-threshold", Double.class, 0.5 ) )
+				.slowCallRateThreshold( environment.getProperty( prefix + ".slow-call-rate-threshold", Double.class, 0.5 ) )
+				.slowCallThreshold( millis( environment, prefix + ".slow-call-threshold-ms", 3000 ) )
+				.openDuration( millis( environment, prefix + ".open-duration-ms", 30000 ) )
+				.halfOpenCalls( environment.getProperty( prefix + ".half-open-calls", Integer.class, 3 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	/**
+	 * 느린 GET을 한 번 더 보내는 hedger, enabled가 false면 null
+	 * budget-percent는 전체 요청 대비 hedge 요청의 최대 비율(%)
+	 */
+	private RequestHedger hedger(
+			String name,
+			String prefix,
+			Environment environment,
+			MeterRegistry meterRegistry) {
+
+		if ( !environment.getProperty( prefix + ".enabled", Boolean.class, false ) ) {
+			return null;
+		}
+
+		return RequestHedger.builder()
+				.name( name )
+				.percentile( environment.getProperty( prefix + ".percentile", Double.class, 0.95 ) )
+				.minDelay( millis( environment, prefix + ".min-delay-ms", 50 ) )
+				.budgetRatio( environment.getProperty( prefix + ".budget-percent", Double.class, 5.0 ) / 100 )
+				.maxBudget( environment.getProperty( prefix + ".max-budget", Integer.class, 10 ) )
+				.sampleSize( environment.getProperty( prefix + ".sample-size", Integer.class, 200 ) )
+				.minSamples( environment.getProperty( prefix + ".min-samples", Integer.class, 20 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	/**
+	 * 프로세스 내 동시 호출 한도, enabled가 false면 null
+	 * max-per-request는 들어온 요청 하나가 동시에 쓸 수 있는 최대 슬롯 수
+	 */
+	private Bulkhead bulkhead(
+			String name,
+			String prefix,
+			Environment environment,
+			MeterRegistry meterRegistry) {
+
+		if ( !environment.getProperty( prefix + ".enabled", Boolean.class, false ) ) {
+			return null;
+		}
+
+		return Bulkhead.builder()
+				.name( name )
+				.maxConcurrent( environment.getProperty( prefix + ".max-concurrent", Integer.class, 64 ) )
+				.maxPerRequest( environment.getProperty( prefix + ".max-per-request", Integer.class, 16 ) )
+				.maxQueueSize( environment.getProperty( prefix + ".max-queue-size", Integer.class, 512 ) )
+				.maxWait( millis( environment, prefix + ".max-wait-ms", 2000 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	/**
+	 * 재시도 정책 (max-total-delay-ms: 요청 하나가 재시도 대기에 쓸 수 있는 최대 시간)
+	 */
+	private RetryPolicy retryPolicy(
+			String name,
+			String prefix,
+			Environment environment,
+			MeterRegistry meterRegistry) {
+
+		return RetryPolicy.builder()
+				.name( name )
+				.maxAttempts( environment.getProperty( prefix + ".max-attempts", Integer.class, 3 ) )
+				.baseDelay( millis( environment, prefix + ".base-delay-ms", 200 ) )
+				.maxDelay( millis( environment, prefix + ".max-delay-ms", 2000 ) )
+				.maxTotalDelay( millis( environment, prefix + ".max-total-delay-ms", 3000 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	private static Duration millis(Environment environment, String key, long defaultMillis) {
+		return Duration.ofMillis( environment.getProperty( key, Long.class, defaultMillis ) );
+	}
+}
@@ -0,0 +1,86 @@
+package mioneF.yumCup.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.core.env.Environment;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 외부 API별 Reactor Netty 커넥션 풀 / 타임아웃 설정 (<prefix>.max-connections 등)
+ * 풀 메트릭은 reactor.netty.connection.provider.* (name 태그 = 풀 이름)로 노출
+ */
+record HttpClientPoolSettings(
+		int maxConnections,
+		int pendingAcquireMaxCount,
+		Duration pendingAcquireTimeout,
+		Duration maxIdleTime,
+		Duration maxLifeTime,
+		Duration evictInBackground,
+		int connectTimeoutMillis,
+		Duration responseTimeout,
+		boolean http2,
+		int warmupConnections
+) {
+
+	static HttpClientPoolSettings from(Environment environment, String prefix) {
+		return new HttpClientPoolSettings(
+				environment.getProperty( prefix + ".max-connections", Integer.class, 16 ),
+				environment.getProperty( prefix + ".pending-acquire-max-count", Integer.class, 256 ),
+				millis( environment, prefix + ".pending-acquire-timeout-ms", 2000 ),
+				millis( environment, prefix + ".max-idle-time-ms", 30000 ),
+				millis( environment, prefix + ".max-life-time-ms", 300000 ),
+				millis( environment, prefix + ".evict-in-background-ms", 30000 ),
+				environment.getProperty( prefix + ".connect-timeout-ms", Integer.class, 2000 ),
+				millis( environment, prefix + ".response-timeout-ms", 10000 ),
+				environment.getProperty( prefix + ".http2", Boolean.class, false ),
+				environment.getProperty( prefix + ".warmup-connections", Integer.class, 2 )
+		);
+	}
+
+	/**
+	 * 시작 시 미리 만들 커넥션 수 (풀 크기 이내)
+	 * HTTP/2는 요청을 커넥션 하나에 multiplexing하므로 HEAD를 동시에 보내도 커넥션은 하나만 생김 (1개만 warm-up)
+	 */
+	int connectionsToWarm() {
+		int connections = Math.max( 0, Math.min( warmupConnections, maxConnections ) );
+		return http2 ? Math.min( connections, 1 ) : connections;
+	}
+
+	/**
+	 * 풀 크기 / 대기열 / idle·수명 기반 정리를 설정한 커넥션 풀 (메트릭 활성화)
+	 */
+	ConnectionProvider connectionProvider(String name) {
+		return ConnectionProvider.builder( name )
+				.maxConnections( maxConnections )
+				.pendingAcquireMaxCount( pendingAcquireMaxCount )
+				.pendingAcquireTimeout( pendingAcquireTimeout )
+				.maxIdleTime( maxIdleTime )
+				.maxLifeTime( maxLifeTime )
+				.evictInBackground( evictInBackground )
+				.metrics( true )
+				.build();
+	}
+
+	/**
+	 * keep-alive 커넥션 재사용, 연결 / 응답 타임아웃, HTTP/2(ALPN으로 협상, 미지원 시 HTTP/1.1) 설정
+	 */
+	HttpClient httpClient(ConnectionProvider connectionProvider) {
+		HttpClient httpClient = HttpClient.create( connectionProvider )
+				.option( ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis )
+				.option( ChannelOption.SO_KEEPALIVE, true )
+				.keepAlive( true )
+				.responseTimeout( responseTimeout );
+
+		if ( http2 ) {
+			return httpClient.secure().protocol( HttpProtocol.H2, HttpProtocol.HTTP11 );
+		}
+		return httpClient;
+	}
+
+	private static Duration millis(Environment environment, String key, long defaultMillis) {
+		return Duration.ofMillis( environment.getProperty( key, Long.class, defaultMillis ) );
+	}
+}
@@ -5,6 +5,10 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Configuration
 public class RedisConfig {
@@ -16,4 +20,28 @@ public class RedisConfig {
 		mapper.disable( SerializationFeature.WRITE_DATES_AS_TIMESTAMPS );
 		return mapper;
 	}
+
+	/**
+	 * 캐시 값 저장용 템플릿 (값은 CacheCodec이 직렬화한 byte[] 그대로 저장)
+	 */
+	@Bean
+	public RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory connectionFactory) {
+		RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+		template.setConnectionFactory( connectionFactory );
+		template.setKeySerializer( RedisSerializer.string() );
+		template.setValueSerializer( RedisSerializer.byteArray() );
+		template.setHashKeySerializer( RedisSerializer.string() );
+		template.setHashValueSerializer( RedisSerializer.byteArray() );
+		return template;
+	}
+
+	/**
+	 * 인스턴스 간 캐시 무효화 pub/sub 구독용 리스너 컨테이너
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory( connectionFactory );
+		return container;
+	}
 }
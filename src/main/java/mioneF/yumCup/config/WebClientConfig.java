@@ -1,12 +1,16 @@
 package mioneF.yumCup.config;
 
+import mioneF.yumCup.infrastructure.api.ExternalApiConnectionWarmer;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
@@ -16,11 +20,37 @@ public class WebClientConfig {
     @Value("${google.api.key}")
     private String googleApiKey;
 
+    // API별 풀 설정은 한 번만 읽어 커넥션 풀 / WebClient / warm-up에 같이 사용
+    @Bean
+    HttpClientPoolSettings kakaoPoolSettings(Environment environment) {
+        return HttpClientPoolSettings.from(environment, "kakao.api.pool");
+    }
+
+    @Bean
+    HttpClientPoolSettings googlePoolSettings(Environment environment) {
+        return HttpClientPoolSettings.from(environment, "google.api.pool");
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider(
+            @Qualifier("kakaoPoolSettings") HttpClientPoolSettings settings) {
+        return settings.connectionProvider("kakao");
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider googleConnectionProvider(
+            @Qualifier("googlePoolSettings") HttpClientPoolSettings settings) {
+        return settings.connectionProvider("google");
+    }
+
     @Bean
     @Qualifier("kakaoWebClient")  // Qualifier 추가
-    public WebClient kakaoWebClient() {
+    public WebClient kakaoWebClient(
+            @Qualifier("kakaoConnectionProvider") ConnectionProvider connectionProvider,
+            @Qualifier("kakaoPoolSettings") HttpClientPoolSettings settings) {
         return WebClient.builder()
                 .baseUrl("https://dapi.kakao.com")
+                .clientConnector(new ReactorClientHttpConnector(settings.httpClient(connectionProvider)))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader("Authorization", "KakaoAK " + kakaoApiKey)
                 .build();
@@ -28,10 +58,27 @@ public class WebClientConfig {
 
     @Bean
     @Qualifier("googleWebClient")  // Qualifier 추가
-    public WebClient googleWebClient() {
+    public WebClient googleWebClient(
+            @Qualifier("googleConnectionProvider") ConnectionProvider connectionProvider,
+            @Qualifier("googlePoolSettings") HttpClientPoolSettings settings) {
         return WebClient.builder()
                 .baseUrl("https://maps.googleapis.com")
+                .clientConnector(new ReactorClientHttpConnector(settings.httpClient(connectionProvider)))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
+
+    @Bean
+    public ExternalApiConnectionWarmer externalApiConnectionWarmer(
+            @Qualifier("kakaoWebClient") WebClient kakaoWebClient,
+            @Qualifier("googleWebClient") WebClient googleWebClient,
+            @Qualifier("kakaoPoolSettings") HttpClientPoolSettings kakaoSettings,
+            @Qualifier("googlePoolSettings") HttpClientPoolSettings googleSettings) {
+        return new ExternalApiConnectionWarmer(
+                kakaoWebClient,
+                googleWebClient,
+                kakaoSettings.connectionsToWarm(),
+                googleSettings.connectionsToWarm()
+        );
+    }
 }
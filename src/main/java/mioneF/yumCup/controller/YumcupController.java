@@ -7,13 +7,17 @@ import mioneF.yumCup.domain.dto.request.LocationRequest;
 import mioneF.yumCup.domain.dto.request.SelectWinnerRequest;
 import mioneF.yumCup.domain.dto.response.GameResponse;
 import mioneF.yumCup.external.kakao.service.KakapMapGameService;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
 import mioneF.yumCup.performance.Monitored;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+
 @Slf4j
 @RestController
 @RequiredArgsConstructor
@@ -21,6 +25,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class YumcupController {
     private final KakapMapGameService kakapMapGameService;
 
+    @Value("${game.start.time-budget-ms:5000}")
+    private long startTimeBudgetMillis;
+
     @PostMapping("/select")
     public ResponseEntity<MatchResult> selectWinner(@RequestBody SelectWinnerRequest request) {
         MatchResult response = kakapMapGameService.selectWinner(request.gameId(), request.matchId(),
@@ -28,11 +35,16 @@ public class YumcupController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 게임 시작 요청 전체에 time budget 적용, 마감까지 준비된 레스토랑으로 게임 생성
+     */
     @Monitored
     @PostMapping("/start/location")
     public ResponseEntity<GameResponse> startLocationBasedGame(@RequestBody LocationRequest request) {
         log.info("Received location request: {}", request);
-        GameResponse response = kakapMapGameService.startLocationBasedGame(request);
+        RequestDeadline deadline = RequestDeadline.after(Duration.ofMillis(startTimeBudgetMillis));
+        GameResponse response = RequestDeadline.callWith(deadline,
+                () -> kakapMapGameService.startLocationBasedGame(request));
         log.info("Successfully started location based game");
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,56 @@
+package mioneF.yumCup.domain;
+
+import mioneF.yumCup.domain.entity.Restaurant;
+
+/**
+ * 캐시에 보관하는 레스토랑 스냅샷 (RestaurantResponse 구성과 반경 필터링에 필요한 필드만)
+ */
+public record RestaurantSnapshot(
+		Long id,
+		String kakaoId,
+		String name,
+		String category,
+		Integer distance,
+		Double latitude,
+		Double longitude,
+		String address,
+		String roadAddress,
+		String phone,
+		String placeUrl,
+		String photoUrl,
+		Double rating,
+		Integer ratingCount,
+		Integer priceLevel,
+		Boolean isOpenNow
+) {
+	public static RestaurantSnapshot from(Restaurant restaurant) {
+		return new RestaurantSnapshot(
+				restaurant.getId(),
+				restaurant.getKakaoId(),
+				restaurant.getName(),
+				restaurant.getCategory(),
+				restaurant.getDistance(),
+				restaurant.getLatitude(),
+				restaurant.getLongitude(),
+				restaurant.getAddress(),
+				restaurant.getRoadAddress(),
+				restaurant.getPhone(),
+				restaurant.getPlaceUrl(),
+				restaurant.getPhotoUrl(),
+				restaurant.getRating(),
+				restaurant.getRatingCount(),
+				restaurant.getPriceLevel(),
+				restaurant.getIsOpenNow()
+		);
+	}
+
+	/**
+	 * 거리만 바꾼 스냅샷 (저장된 거리는 처음 검색한 위치 기준이므로 요청 위치 기준으로 다시 계산할 때 사용)
+	 */
+	public RestaurantSnapshot withDistance(Integer distance) {
+		return new RestaurantSnapshot(
+				id, kakaoId, name, category, distance, latitude, longitude, address, roadAddress,
+				phone, placeUrl, photoUrl, rating, ratingCount, priceLevel, isOpenNow
+		);
+	}
+}
@@ -1,5 +1,6 @@
 package mioneF.yumCup.domain.dto.response;
 
+import mioneF.yumCup.domain.RestaurantSnapshot;
 import mioneF.yumCup.domain.entity.PriceLevel;
 import mioneF.yumCup.domain.entity.Restaurant;
 
@@ -35,4 +36,22 @@ public record RestaurantResponse(
 				restaurant.getIsOpenNow()
 		);
 	}
+
+	public static RestaurantResponse from(RestaurantSnapshot snapshot) {
+		return new RestaurantResponse(
+				snapshot.id(),
+				snapshot.name(),
+				snapshot.category(),
+				snapshot.distance(),
+				snapshot.address(),
+				snapshot.roadAddress(),
+				snapshot.phone(),
+				snapshot.placeUrl(),
+				snapshot.photoUrl(),
+				snapshot.rating(),
+				snapshot.ratingCount(),
+				PriceLevel.getDescription( snapshot.priceLevel() ),
+				snapshot.isOpenNow()
+		);
+	}
 }
@@ -20,7 +20,11 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(indexes = @Index(name = "idx_kakao_id", columnList = "kakaoId", unique = true))
+@Table(indexes = {
+		@Index(name = "idx_kakao_id", columnList = "kakaoId", unique = true),
+		@Index(name = "idx_restaurant_lat_lng", columnList = "latitude, longitude"),
+		@Index(name = "idx_restaurant_needs_enrichment", columnList = "needsEnrichment")
+})
 public class Restaurant {
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "restaurant_seq_generator")
@@ -60,6 +64,9 @@ public class Restaurant {
 
 	private Boolean isOpenNow;
 
+	// Google 보강 없이 저장되어 나중에 보강해야 하는지 (재시작 후에도 보강 대상을 찾을 수 있도록 DB에 저장)
+	private Boolean needsEnrichment;
+
 	private LocalDateTime updatedAt;
 
 	@Builder(toBuilder = true)
@@ -118,6 +125,22 @@ public class Restaurant {
 		this.photoUrl = newInfo.getPhotoUrl();
 		this.priceLevel = newInfo.getPriceLevel();
 		this.isOpenNow = newInfo.getIsOpenNow();
+		this.needsEnrichment = false;
+	}
+
+	public boolean needsEnrichment() {
+		return Boolean.TRUE.equals( needsEnrichment );
+	}
+
+	public void markNeedsEnrichment() {
+		this.needsEnrichment = true;
+	}
+
+	/**
+	 * Google에서 찾지 못한 경우에도 보강 시도가 끝났으면 보강 대상에서 제외
+	 */
+	public void markEnriched() {
+		this.needsEnrichment = false;
 	}
 
 	// 게임 관련 메서드
@@ -0,0 +1,10 @@
+package mioneF.yumCup.exception;
+
+/**
+ * 외부 API 동시 호출 한도가 가득 차 대기열에 들어가지 못했거나 대기 시간을 넘겨 호출하지 않고 실패
+ */
+public class BulkheadFullException extends ExternalApiException {
+    public BulkheadFullException(String message) {
+        super(message, null);
+    }
+}
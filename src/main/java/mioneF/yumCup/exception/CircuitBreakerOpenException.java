@@ -0,0 +1,10 @@
+package mioneF.yumCup.exception;
+
+/**
+ * 외부 API circuit breaker가 열려 있어 호출하지 않고 바로 실패
+ */
+public class CircuitBreakerOpenException extends ExternalApiException {
+    public CircuitBreakerOpenException(String message) {
+        super(message, null);
+    }
+}
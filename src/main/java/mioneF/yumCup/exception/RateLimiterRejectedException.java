@@ -0,0 +1,10 @@
+package mioneF.yumCup.exception;
+
+/**
+ * 외부 API rate limiter 대기열이 가득 찼거나 허용 / 토큰 대기 시간을 넘겨 호출하지 않고 실패
+ */
+public class RateLimiterRejectedException extends ExternalApiException {
+    public RateLimiterRejectedException(String message) {
+        super(message, null);
+    }
+}
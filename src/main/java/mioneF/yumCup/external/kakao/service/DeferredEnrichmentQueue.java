@@ -0,0 +1,207 @@
+package mioneF.yumCup.external.kakao.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Google 보강 없이 저장된 레스토랑의 보강 대기열
+ * Google circuit breaker가 열린 동안이나 요청 마감 때문에 Kakao 정보만으로 만든 레스토랑을 모아 두었다가,
+ * breaker가 닫히거나 시험 호출이 가능해지면 주기적으로 batchSize 개씩 Google 정보를 조회하여 저장된 레스토랑에 반영.
+ * 대기열은 메모리에만 있으므로 보강이 필요한 레스토랑은 DB에도 표시(needsEnrichment)해 두고,
+ * 대기열이 비면 표시된 레스토랑을 DB에서 읽어 보강 (대기열이 가득 차 버린 항목이나 재시작 / 배포로 사라진 항목도 다시 보강됨).
+ * 한 번의 보강은 runBudget 마감을 가진 요청 하나로 취급 (외부 API bulkhead의 요청별 한도 적용, 마감이 지나면 남은 항목은 다음 주기로)
+ */
+@Slf4j
+@Component
+public class DeferredEnrichmentQueue {
+
+	private final RestaurantEnrichmentService enrichmentService;
+	private final RestaurantPersistenceService persistenceService;
+	private final GooglePlaceService googlePlaceService;
+	private final MeterRegistry meterRegistry;
+	private final int maxSize;
+	private final int batchSize;
+	private final long intervalMillis;
+	private final Duration runBudget;
+
+	// kakaoId -> 보강할 레스토랑 (this로 보호, 삽입 순서 유지)
+	private final Map<String, Restaurant> pending = new LinkedHashMap<>();
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofVirtual().name( "deferred-enrichment" ).factory()
+	);
+
+	public DeferredEnrichmentQueue(
+			RestaurantEnrichmentService enrichmentService,
+			RestaurantPersistenceService persistenceService,
+			GooglePlaceService googlePlaceService,
+			MeterRegistry meterRegistry,
+			@Value("${external-api.deferred-enrichment.max-size:1000}") int maxSize,
+			@Value("${external-api.deferred-enrichment.batch-size:16}") int batchSize,
+			@Value("${external-api.deferred-enrichment.interval-ms:30000}") long intervalMillis,
+			@Value("${external-api.deferred-enrichment.run-budget-ms:10000}") long runBudgetMillis) {
+		this.enrichmentService = enrichmentService;
+		this.persistenceService = persistenceService;
+		this.googlePlaceService = googlePlaceService;
+		this.meterRegistry = meterRegistry;
+		this.maxSize = maxSize;
+		this.batchSize = batchSize;
+		this.intervalMillis = intervalMillis;
+		this.runBudget = Duration.ofMillis( runBudgetMillis );
+
+		Gauge.builder( "yumcup.restaurant.enrichment.deferred.queued", this, DeferredEnrichmentQueue::size )
+				.description( "Restaurants waiting for Google enrichment" )
+				.register( meterRegistry );
+	}
+
+	@PostConstruct
+	public void start() {
+		scheduler.scheduleWithFixedDelay( this::drainSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS );
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Google 정보가 없는 레스토랑만 대기열에 추가 (이미 있으면 무시)
+	 */
+	public void enqueue(List<Restaurant> restaurants) {
+		int dropped = 0;
+
+		synchronized ( this ) {
+			for ( Restaurant restaurant : restaurants ) {
+				if ( restaurant.getRating() != null || restaurant.getPhotoUrl() != null ) {
+					continue;
+				}
+
+				pending.putIfAbsent( restaurant.getKakaoId(), restaurant );
+
+				if ( pending.size() > maxSize ) {
+					Iterator<String> oldest = pending.keySet().iterator();
+					oldest.next();
+					oldest.remove();
+					dropped++;
+				}
+			}
+		}
+
+		if ( dropped > 0 ) {
+			record( "dropped", dropped );
+		}
+	}
+
+	public synchronized int size() {
+		return pending.size();
+	}
+
+	/**
+	 * Google 호출이 가능하면 batchSize 개 보강 후 저장 (대기열이 비어 있으면 DB에 보강 필요로 표시된 레스토랑 사용)
+	 * 호출이 실패하면(breaker가 다시 열린 경우 포함) 남은 항목은 대기열에 되돌리고 다음 주기에 재시도
+	 */
+	void drain() {
+		if ( !googlePlaceService.isAvailable() ) {
+			return;
+		}
+
+		List<Restaurant> batch = poll();
+		if ( batch.isEmpty() ) {
+			batch = persistenceService.findNeedingEnrichment( batchSize );
+		}
+		if ( batch.isEmpty() ) {
+			return;
+		}
+
+		List<Restaurant> polled = batch;
+		List<String> notFound = new ArrayList<>();
+		List<Restaurant> enriched = RequestDeadline.callWith(
+				RequestDeadline.after( runBudget ),
+				() -> enrich( polled, notFound )
+		);
+
+		int updated = persistenceService.applyEnrichment( enriched );
+		persistenceService.markEnriched( notFound );
+		record( "enriched", updated );
+
+		log.info( "Deferred enrichment applied to {} restaurants ({} still queued)", updated, size() );
+	}
+
+	/**
+	 * batch 순서대로 Google 정보 조회, 실패하면 남은 항목은 대기열에 되돌림
+	 * Google에서 찾지 못한 레스토랑의 kakaoId는 notFound에 모음
+	 */
+	private List<Restaurant> enrich(List<Restaurant> batch, List<String> notFound) {
+		List<Restaurant> enriched = new ArrayList<>( batch.size() );
+
+		for ( int i = 0; i < batch.size(); i++ ) {
+			Restaurant restaurant = batch.get( i );
+			try {
+				Optional<Restaurant> googleInfo = enrichmentService.findGoogleInfo( restaurant );
+				if ( googleInfo.isPresent() ) {
+					enriched.add( googleInfo.get() );
+				}
+				else {
+					notFound.add( restaurant.getKakaoId() );
+				}
+			}
+			catch (Exception e) {
+				log.warn( "Deferred enrichment failed for {}: {}", restaurant.getName(), e.getMessage() );
+				requeue( batch.subList( i, batch.size() ) );
+				record( "failed", batch.size() - i );
+				break;
+			}
+		}
+
+		record( "not_found", notFound.size() );
+		return enriched;
+	}
+
+	private void drainSafely() {
+		try {
+			drain();
+		}
+		catch (Exception e) {
+			log.error( "Deferred enrichment run failed: {}", e.getMessage(), e );
+		}
+	}
+
+	private synchronized List<Restaurant> poll() {
+		List<Restaurant> batch = new ArrayList<>( Math.min( batchSize, pending.size() ) );
+		Iterator<Restaurant> iterator = pending.values().iterator();
+
+		while ( iterator.hasNext() && batch.size() < batchSize ) {
+			batch.add( iterator.next() );
+			iterator.remove();
+		}
+		return batch;
+	}
+
+	private synchronized void requeue(List<Restaurant> restaurants) {
+		restaurants.forEach( restaurant -> pending.putIfAbsent( restaurant.getKakaoId(), restaurant ) );
+	}
+
+	private void record(String result, int count) {
+		if ( count > 0 ) {
+			meterRegistry.counter( "yumcup.restaurant.enrichment.deferred", "result", result ).increment( count );
+		}
+	}
+}
@@ -6,6 +6,7 @@ import mioneF.yumCup.domain.dto.response.GooglePlaceResponse;
 import mioneF.yumCup.infrastructure.api.GooglePlacesApiClient;
 import mioneF.yumCup.performance.Monitored;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 /**
  * Google Places API 서비스
@@ -36,6 +37,28 @@ public class GooglePlaceService {
 		return response;
 	}
 
+	/**
+	 * Google Places API로 장소 정보 조회 (non-blocking)
+	 */
+	public Mono<GooglePlaceResponse> findPlaceAsync(String kakaoId, String name, double lat, double lng) {
+		log.info( "Fetching place info from Google API for: {} (kakaoId: {})", name, kakaoId );
+
+		return googleApiClient.findPlaceAsync( name, lat, lng, GooglePlaceResponse.class )
+				.doOnNext( response -> log.info(
+						"Google API response for {}: status={}, candidates={}",
+						name,
+						response.status(),
+						response.candidates() != null ? response.candidates().size() : 0
+				) );
+	}
+
+	/**
+	 * Google Places API 호출 가능 여부 (circuit breaker가 열려 있으면 false)
+	 */
+	public boolean isAvailable() {
+		return googleApiClient.isAvailable();
+	}
+
 	/**
 	 * 사진 URL 생성
 	 */
@@ -1,27 +1,39 @@
 package mioneF.yumCup.external.kakao.service;
 
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.domain.RestaurantSnapshot;
 import mioneF.yumCup.domain.entity.Restaurant;
-import mioneF.yumCup.exception.InsufficientRestaurantsException;
-import mioneF.yumCup.exception.NoNearbyRestaurantsException;
-import mioneF.yumCup.external.kakao.dto.KakaoDocument;
-import mioneF.yumCup.external.kakao.dto.KakaoSearchResponse;
-import mioneF.yumCup.infrastructure.api.KakaoLocalApiClient;
+import mioneF.yumCup.infrastructure.cache.CacheEntry;
+import mioneF.yumCup.infrastructure.cache.CacheStrategy;
 import mioneF.yumCup.infrastructure.cache.GeohashCacheStrategy;
+import mioneF.yumCup.infrastructure.cache.RedisFillLease;
+import mioneF.yumCup.infrastructure.cache.RestaurantSnapshotCache;
+import mioneF.yumCup.infrastructure.cache.SingleFlight;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+import mioneF.yumCup.infrastructure.geo.GeoDistance;
+import mioneF.yumCup.infrastructure.geo.NearbyRestaurantIndex;
 import mioneF.yumCup.performance.Monitored;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -32,14 +44,42 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class KakaoMapRestaurantService {
 
-	private static final int REQUIRED_RESTAURANTS = 16;
-	private static final int KAKAO_PAGE_SIZE = 15;
+	private static final int REQUIRED_RESTAURANTS = KakaoRestaurantFetcher.REQUIRED_RESTAURANTS;
+	private static final int KAKAO_PAGE_SIZE = KakaoRestaurantFetcher.KAKAO_PAGE_SIZE;
 	private static final long CACHE_TTL_SECONDS = 3600;
+	private static final String CACHE_KEY_PREFIX = "restaurants:kakaoIds";
 
-	private final KakaoLocalApiClient kakaoApiClient;
-	private final RestaurantEnrichmentService enrichmentService;
+	static final TypeReference<List<String>> KAKAO_IDS_TYPE = new TypeReference<>() {
+	};
+
+	private final KakaoRestaurantFetcher restaurantFetcher;
 	private final RestaurantPersistenceService persistenceService;
-	private final GeohashCacheStrategy cacheStrategy;
+	private final GooglePlaceService googlePlaceService;
+	private final DeferredEnrichmentQueue deferredEnrichmentQueue;
+	private final GeohashCacheStrategy geohashCacheStrategy;
+	private final CacheStrategy cacheStrategy;
+	private final SingleFlight singleFlight;
+	private final RedisFillLease fillLease;
+	private final RestaurantSnapshotCache snapshotCache;
+	private final List<NearbyRestaurantIndex> nearbyIndexes;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${cache.geohash.neighbor-lookup:true}")
+	private boolean neighborLookupEnabled;
+
+	@Value("${cache.stale-while-revalidate.stale-seconds:600}")
+	private long staleWindowSeconds;
+
+	@Value("${restaurant-index.max-candidates:45}")
+	private int indexMaxCandidates;
+
+	@Value("${game.start.persist-reserve-ms:500}")
+	private long persistReserveMillis;
+
+	@Value("${cache.stale-while-revalidate.refresh-budget-ms:10000}")
+	private long refreshBudgetMillis;
+
+	private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
 
 	private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
 
@@ -64,19 +104,18 @@ public class KakaoMapRestaurantService {
 	public List<Restaurant> searchNearbyRestaurants(Double latitude, Double longitude, Integer radius) {
 		log.info( "Searching restaurants: location=({}, {}), radius={}m", latitude, longitude, radius );
 
-		String cacheKey = cacheStrategy.generateGeohashKey(
-				"restaurants:kakaoIds",
-				latitude,
-				longitude,
-				String.valueOf( radius )
-		);
+		String cacheKey = geohashCacheStrategy.generateRadiusKey( CACHE_KEY_PREFIX, latitude, longitude, radius );
 
-		Optional<List> cachedKakaoIds = cacheStrategy.get( cacheKey, List.class );
+		Optional<CacheEntry<List<String>>> cachedEntry = cacheStrategy.getEntry( cacheKey, KAKAO_IDS_TYPE );
 
-		if ( cachedKakaoIds.isPresent() ) {
-			@SuppressWarnings("unchecked")
-			List<String> kakaoIds = (List<String>) cachedKakaoIds.get();
+		if ( cachedEntry.isPresent() ) {
+			List<String> kakaoIds = cachedEntry.get().value();
 			log.info( "Cache HIT: Returning {} restaurants from cache", kakaoIds.size() );
+			recordLookup( "hit", 0 );
+
+			if ( cachedEntry.get().isStale() ) {
+				refreshInBackground( cacheKey, cachedEntry.get(), latitude, longitude, radius );
+			}
 
 			List<Restaurant> restaurants = persistenceService.findByKakaoIds( kakaoIds );
 			Collections.shuffle( restaurants );
@@ -84,141 +123,324 @@ public class KakaoMapRestaurantService {
 			return restaurants;
 		}
 
-		log.info( "Cache MISS: Fetching restaurants from APIs" );
+		long startedAt = System.currentTimeMillis();
+		Optional<List<Restaurant>> coveringRestaurants = findWithinRadius(
+				geohashCacheStrategy.generateCoveringKeys( CACHE_KEY_PREFIX, latitude, longitude, radius ),
+				latitude,
+				longitude,
+				radius
+		);
 
-		List<Restaurant> allRestaurants = fetchRestaurantsFromKakao( latitude, longitude, radius );
+		if ( coveringRestaurants.isPresent() ) {
+			return useDerivedCandidates( cacheKey, coveringRestaurants.get(), "covering_hit", startedAt );
+		}
 
-		List<Restaurant> savedRestaurants = persistenceService.saveOrUpdate( allRestaurants );
+		if ( neighborLookupEnabled ) {
+			Optional<List<Restaurant>> neighborRestaurants = findWithinRadius(
+					geohashCacheStrategy.generateNeighborKeys( CACHE_KEY_PREFIX, latitude, longitude, radius ),
+					latitude,
+					longitude,
+					radius
+			);
 
-		List<String> kakaoIds = savedRestaurants.stream()
-				.map( Restaurant::getKakaoId )
-				.toList();
+			if ( neighborRestaurants.isPresent() ) {
+				return useDerivedCandidates( cacheKey, neighborRestaurants.get(), "neighbor_hit", startedAt );
+			}
+		}
 
-		cacheStrategy.put( cacheKey, kakaoIds, CACHE_TTL_SECONDS );
-		log.info( "Cached {} restaurant IDs", kakaoIds.size() );
+		Optional<List<Restaurant>> indexedRestaurants = findFromIndex( latitude, longitude, radius );
+		if ( indexedRestaurants.isPresent() ) {
+			return useDerivedCandidates( cacheKey, indexedRestaurants.get(), "index_hit", startedAt );
+		}
 
-		Collections.shuffle( savedRestaurants );
-		return savedRestaurants;
+		log.info( "Cache MISS: Fetching restaurants from APIs" );
+
+		// 같은 키로 동시에 들어온 미스는 leader 한 번의 외부 API 조회 결과를 공유
+		List<Restaurant> loadedRestaurants = singleFlight.execute(
+				cacheKey,
+				() -> loadAndCache( cacheKey, latitude, longitude, radius )
+		);
+
+		List<Restaurant> restaurants = new ArrayList<>( loadedRestaurants );
+		Collections.shuffle( restaurants );
+		return restaurants;
 	}
 
 	/**
-	 * Kakao API로 레스토랑 수집 (병렬 페이징 + 일괄 비동기 처리)
-	 * 메모리 최적화: 중간 List 대신 배열 사용, allOf().join()으로 일괄 대기
+	 * 외부 API 조회 후 저장 및 캐싱 (single-flight leader만 실행)
+	 * 직전 leader가 이미 캐시를 채웠을 수 있으므로 먼저 캐시를 다시 확인하고,
+	 * 다른 인스턴스와는 Redis lease로 조율하여 클러스터 전체에서 한 번만 외부 API 호출
 	 */
-	private List<Restaurant> fetchRestaurantsFromKakao(Double latitude, Double longitude, Integer radius) {
-		int pagesNeeded = (int) Math.ceil( (double) REQUIRED_RESTAURANTS / KAKAO_PAGE_SIZE );
-
-		log.info( "Fetching {} pages from Kakao API in parallel", pagesNeeded );
-
-		// 1. 카카오 API 병렬 호출 - 배열로 직접 생성하여 중간 리스트 제거
-		@SuppressWarnings("unchecked")
-		CompletableFuture<KakaoSearchResponse>[] kakaoFutures = IntStream.rangeClosed( 1, pagesNeeded )
-				.mapToObj( page -> CompletableFuture.supplyAsync(
-						() -> fetchRestaurantsPage( latitude, longitude, radius, page ),
-						executorService
-				) )
-				.toArray( CompletableFuture[]::new );
-
-		// 2. 모든 카카오 API 호출 완료 대기 후 결과 수집
-		CompletableFuture.allOf( kakaoFutures ).join();
-
-		List<KakaoDocument> allDocuments = Arrays.stream( kakaoFutures )
-				.map( this::getCompletedKakaoResponse )
-				.filter( Objects::nonNull )
-				.flatMap( response -> response.documents().stream() )
-				.limit( REQUIRED_RESTAURANTS )
-				.toList();
-
-		if ( allDocuments.isEmpty() ) {
-			throw new NoNearbyRestaurantsException( "Can't find any nearby restaurant" );
+	private List<Restaurant> loadAndCache(String cacheKey, Double latitude, Double longitude, Integer radius) {
+		Optional<List<Restaurant>> cachedRestaurants = findCachedRestaurants( cacheKey );
+		if ( cachedRestaurants.isPresent() ) {
+			recordLookup( "hit", 0 );
+			return cachedRestaurants.get();
 		}
 
-		log.info(
-				"Collected {} documents from Kakao, starting Google API enrichment in parallel",
-				allDocuments.size()
+		return fillLease.fill(
+				cacheKey,
+				() -> findCachedRestaurants( cacheKey ),
+				lease -> fetchAndCache( cacheKey, latitude, longitude, radius, lease, "miss" )
 		);
+	}
 
-		// 3. 구글 API 일괄 병렬 호출 - 배열로 직접 생성
-		@SuppressWarnings("unchecked")
-		CompletableFuture<Restaurant>[] googleFutures = allDocuments.stream()
-				.map( doc -> CompletableFuture.supplyAsync(
-						() -> enrichWithGoogleInfoSafe( doc ),
-						executorService
-				) )
-				.toArray( CompletableFuture[]::new );
-
-		// 4. 모든 구글 API 호출 완료 대기 후 결과 수집
-		CompletableFuture.allOf( googleFutures ).join();
-
-		List<Restaurant> allRestaurants = Arrays.stream( googleFutures )
-				.map( this::getCompletedRestaurantResult )
-				.filter( Objects::nonNull )
-				.toList();
+	/**
+	 * soft 만료가 지난(stale) 캐시를 백그라운드에서 갱신 (stale-while-revalidate)
+	 * 인스턴스 내에서는 키당 한 번만 예약하고, 다른 인스턴스가 lease를 잡고 있으면 갱신을 생략.
+	 * 갱신 한 번을 요청 하나로 보고 refreshBudget 마감을 주므로 외부 API bulkhead의 요청별 한도도 함께 적용되고,
+	 * 마감까지 보강하지 못한 레스토랑은 게임 시작과 같이 보강 대기열로 넘김
+	 */
+	public void refreshInBackground(
+			String cacheKey,
+			CacheEntry<?> staleEntry,
+			Double latitude,
+			Double longitude,
+			Integer radius) {
 
-		log.info( "Completed processing {} restaurants", allRestaurants.size() );
+		meterRegistry.timer( "yumcup.cache.swr.staleness" )
+				.record( Duration.ofMillis( staleEntry.staleAgeMillis() ) );
 
-		if ( allRestaurants.size() < REQUIRED_RESTAURANTS ) {
-			throw new InsufficientRestaurantsException(
-					String.format( "Need at least 16 restaurants, but found only %d", allRestaurants.size() )
-			);
+		if ( !refreshingKeys.add( cacheKey ) ) {
+			return;
 		}
-		return allRestaurants;
-	}
 
-	/**
-	 * 완료된 Kakao Future에서 결과 추출 (allOf 이후 호출)
-	 */
-	private KakaoSearchResponse getCompletedKakaoResponse(CompletableFuture<KakaoSearchResponse> future) {
 		try {
-			return future.getNow( null );
+			executorService.execute( () -> refresh( cacheKey, latitude, longitude, radius ) );
+			recordRefresh( "scheduled" );
 		}
-		catch (Exception e) {
-			log.error( "Error fetching from Kakao API: {}", e.getMessage() );
-			return null;
+		catch (RejectedExecutionException e) {
+			refreshingKeys.remove( cacheKey );
+			log.warn( "Background refresh rejected for key: {}", cacheKey );
 		}
 	}
 
-	/**
-	 * Google API enrichment을 안전하게 처리
-	 */
-	private Restaurant enrichWithGoogleInfoSafe(KakaoDocument doc) {
+	private void refresh(String cacheKey, Double latitude, Double longitude, Integer radius) {
 		try {
-			return enrichmentService.enrichWithGoogleInfo( doc );
+			Optional<RedisFillLease.Lease> lease = fillLease.tryAcquire( cacheKey );
+			if ( lease.isEmpty() ) {
+				recordRefresh( "skipped" );
+				return;
+			}
+
+			try {
+				RequestDeadline.callWith(
+						RequestDeadline.after( Duration.ofMillis( refreshBudgetMillis ) ),
+						() -> fetchAndCache( cacheKey, latitude, longitude, radius, lease.get(), "refresh" )
+				);
+				recordRefresh( "completed" );
+			}
+			finally {
+				fillLease.release( lease.get() );
+			}
 		}
 		catch (Exception e) {
-			log.error( "Error processing restaurant {}: {}", doc.place_name(), e.getMessage() );
-			return null;
+			log.warn( "Background refresh failed for key {}: {}", cacheKey, e.getMessage() );
+			recordRefresh( "failed" );
+		}
+		finally {
+			refreshingKeys.remove( cacheKey );
 		}
 	}
 
 	/**
-	 * 완료된 Restaurant Future에서 결과 추출 (allOf 이후 호출)
+	 * kakaoId 목록 캐싱 (soft TTL 이후 stale, stale 구간이 지나면 만료)
+	 * 값 계산 소요 시간을 함께 저장하여 만료가 가까워질수록 확률적으로 조기 갱신 (XFetch)
 	 */
-	private Restaurant getCompletedRestaurantResult(CompletableFuture<Restaurant> future) {
-		try {
-			return future.getNow( null );
+	private void cacheKakaoIds(String cacheKey, List<String> kakaoIds, long computeMillis) {
+		cacheStrategy.putEntry( cacheKey, kakaoIdsEntry( kakaoIds, computeMillis ) );
+	}
+
+	private CacheEntry<List<String>> kakaoIdsEntry(List<String> kakaoIds, long computeMillis) {
+		return CacheEntry.of( kakaoIds, CACHE_TTL_SECONDS, CACHE_TTL_SECONDS + staleWindowSeconds, computeMillis );
+	}
+
+	/**
+	 * 외부 API 조회 → 저장 → 캐싱 (lease holder만 실행)
+	 * 캐시 쓰기는 fencing token 확인과 함께 원자적으로 수행하여 lease 만료 후 다른 인스턴스가 이어받았다면 쓰기 생략.
+	 * Google circuit breaker가 열려 있으면 Google 보강 없이 Kakao 정보만으로 게임을 만들고 보강 대기열에 추가.
+	 * 요청 마감이 있으면 저장 / 캐싱 시간(persistReserve)을 남기고 외부 API를 조회하며,
+	 * 그 전에 보강을 끝내지 못한 레스토랑은 Kakao 정보만으로 저장하고 보강 대기열에 추가
+	 */
+	private List<Restaurant> fetchAndCache(
+			String cacheKey,
+			Double latitude,
+			Double longitude,
+			Integer radius,
+			RedisFillLease.Lease lease,
+			String lookupResult) {
+
+		long startedAt = System.currentTimeMillis();
+
+		boolean degraded = !googlePlaceService.isAvailable();
+		if ( degraded ) {
+			log.warn( "Google Places circuit is open, building game from Kakao data only" );
 		}
-		catch (Exception e) {
-			log.error( "Error getting restaurant result: {}", e.getMessage() );
-			return null;
+
+		Optional<RequestDeadline> fetchDeadline = RequestDeadline.current()
+				.map( deadline -> deadline.minus( Duration.ofMillis( persistReserveMillis ) ) );
+		Supplier<List<Restaurant>> fetch = () -> restaurantFetcher.fetch( latitude, longitude, radius, !degraded );
+
+		List<Restaurant> allRestaurants = fetchDeadline
+				.map( deadline -> RequestDeadline.callWith( deadline, fetch ) )
+				.orElseGet( fetch );
+
+		boolean partial = !degraded && fetchDeadline.map( RequestDeadline::isExpired ).orElse( false );
+		if ( partial ) {
+			log.warn( "Request deadline reached during Google enrichment, building game from partial results" );
+		}
+
+		String result = lookupResult;
+		if ( degraded ) {
+			result += "_degraded";
+		}
+		else if ( partial ) {
+			result += "_partial";
+		}
+		recordLookup( result, countExternalCalls( degraded ? 0 : allRestaurants.size() ) );
+
+		// 저장 전에 읽은 버전으로 스냅샷을 채움 (이번 저장 / 동시에 커밋된 보강으로 삭제된 kakaoId는 다음 조회 때 DB에서 채움)
+		Map<String, String> snapshotVersions = snapshotCache.versions( toKakaoIds( allRestaurants ) );
+		List<Restaurant> savedRestaurants = persistenceService.saveOrUpdate( allRestaurants, !degraded && !partial );
+		snapshotCache.putAllIfUnchanged(
+				savedRestaurants.stream().map( RestaurantSnapshot::from ).toList(),
+				snapshotVersions
+		);
+
+		if ( degraded || partial ) {
+			deferredEnrichmentQueue.enqueue( savedRestaurants );
+		}
+
+		List<String> kakaoIds = toKakaoIds( savedRestaurants );
+		long computeMillis = System.currentTimeMillis() - startedAt;
+
+		if ( fillLease.putIfCurrent( lease, cacheStrategy, cacheKey, kakaoIdsEntry( kakaoIds, computeMillis ) ) ) {
+			log.info( "Cached {} restaurant IDs", kakaoIds.size() );
+		}
+		else {
+			log.warn( "Fill lease for {} is no longer current, skipping cache write", cacheKey );
 		}
+
+		return savedRestaurants;
 	}
 
 	/**
-	 * Kakao API 페이지 조회
+	 * 캐시된 kakaoId 목록으로 레스토랑 조회
 	 */
-	private KakaoSearchResponse fetchRestaurantsPage(
+	private Optional<List<Restaurant>> findCachedRestaurants(String cacheKey) {
+		return cacheStrategy.get( cacheKey, KAKAO_IDS_TYPE )
+				.map( persistenceService::findByKakaoIds );
+	}
+
+	/**
+	 * 다른 키(큰 반경 / 인접 셀)의 캐시 후보를 한 번에 조회한 뒤 순서대로 확인
+	 * 캐시된 후보를 저장된 좌표로 요청 반경 내로 필터링하여 16개 이상 남는 첫 키를 사용
+	 */
+	private Optional<List<Restaurant>> findWithinRadius(
+			List<String> candidateKeys,
 			Double latitude,
 			Double longitude,
-			Integer radius,
-			int page) {
+			Integer radius) {
+
+		Map<String, List<String>> cachedCandidates = cacheStrategy.getAll( candidateKeys, KAKAO_IDS_TYPE );
 
-		return kakaoApiClient.searchByCategory(
+		for ( Map.Entry<String, List<String>> cached : cachedCandidates.entrySet() ) {
+			String candidateKey = cached.getKey();
+			List<String> kakaoIds = cached.getValue();
+			List<Restaurant> withinRadius = persistenceService.findByKakaoIds( kakaoIds ).stream()
+					.filter( restaurant -> isWithinRadius( restaurant, latitude, longitude, radius ) )
+					.collect( Collectors.toCollection( ArrayList::new ) );
+
+			if ( withinRadius.size() >= REQUIRED_RESTAURANTS ) {
+				log.debug( "Cache key {} covers radius {}m ({} candidates)", candidateKey, radius, withinRadius.size() );
+				return Optional.of( withinRadius );
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * 저장된 레스토랑 좌표 인덱스로 반경 검색 (인덱스 순서대로 시도)
+	 * 16개 이상 찾으면 외부 API 호출 없이 사용하고, 부족하면 빈 값을 반환하여 외부 API로 fallback
+	 */
+	private Optional<List<Restaurant>> findFromIndex(Double latitude, Double longitude, Integer radius) {
+		for ( NearbyRestaurantIndex index : nearbyIndexes ) {
+			List<Long> ids = index.findWithinRadius( latitude, longitude, radius, indexMaxCandidates );
+			if ( ids.size() < REQUIRED_RESTAURANTS ) {
+				log.debug( "{} found {} restaurants within {}m", index.getClass().getSimpleName(), ids.size(), radius );
+				continue;
+			}
+
+			List<Restaurant> restaurants = persistenceService.findByIds( ids );
+			if ( restaurants.size() >= REQUIRED_RESTAURANTS ) {
+				return Optional.of( restaurants );
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * 다른 키에서 찾은 후보를 요청 키로도 캐싱하여 다음 동일 요청은 바로 적중
+	 * 후보를 찾는 데 걸린 시간을 계산 시간으로 저장 (XFetch)
+	 */
+	private List<Restaurant> useDerivedCandidates(
+			String cacheKey,
+			List<Restaurant> restaurants,
+			String result,
+			long startedAt) {
+		log.info( "Cache HIT ({}): Returning {} restaurants", result, restaurants.size() );
+		recordLookup( result, 0 );
+
+		cacheKakaoIds( cacheKey, toKakaoIds( restaurants ), System.currentTimeMillis() - startedAt );
+		Collections.shuffle( restaurants );
+
+		return restaurants;
+	}
+
+	/**
+	 * 레스토랑이 요청 위치 기준 반경 내에 있는지 확인
+	 */
+	private boolean isWithinRadius(Restaurant restaurant, Double latitude, Double longitude, Integer radius) {
+		if ( restaurant.getLatitude() == null || restaurant.getLongitude() == null ) {
+			return false;
+		}
+
+		return GeoDistance.meters(
 				latitude,
 				longitude,
-				radius,
-				page,
-				KakaoSearchResponse.class
-		);
+				restaurant.getLatitude(),
+				restaurant.getLongitude()
+		) <= radius;
+	}
+
+	private List<String> toKakaoIds(List<Restaurant> restaurants) {
+		return restaurants.stream()
+				.map( Restaurant::getKakaoId )
+				.toList();
+	}
+
+	/**
+	 * 캐시 미스 1회당 외부 API 호출 수 (Kakao 페이지 + Google 보강, 보강을 건너뛰면 0)
+	 */
+	private int countExternalCalls(int enrichedCount) {
+		int pagesNeeded = (int) Math.ceil( (double) REQUIRED_RESTAURANTS / KAKAO_PAGE_SIZE );
+		return pagesNeeded + enrichedCount;
+	}
+
+	private void recordRefresh(String outcome) {
+		meterRegistry.counter( "yumcup.cache.swr.refresh", "outcome", outcome ).increment();
+	}
+
+	/**
+	 * 캐시 조회 결과와 검색당 외부 API 호출 수 기록
+	 */
+	private void recordLookup(String result, int externalCalls) {
+		meterRegistry.counter( "yumcup.restaurant.cache.lookup", "result", result ).increment();
+		DistributionSummary.builder( "yumcup.restaurant.search.external.calls" )
+				.description( "External API calls spent per restaurant search" )
+				.register( meterRegistry )
+				.record( externalCalls );
 	}
 }
@@ -0,0 +1,83 @@
+package mioneF.yumCup.external.kakao.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import mioneF.yumCup.domain.Meta;
+import mioneF.yumCup.external.kakao.dto.KakaoDocument;
+import mioneF.yumCup.external.kakao.dto.KakaoSearchResponse;
+
+/**
+ * 검색 한 번의 Kakao 페이지 진행 상태
+ * 페이지 간 중복 id와 좌표 / 거리가 없는 문서를 걸러 사용 가능한 문서만 넘기고,
+ * Meta.is_end / pageable_count로 다음 페이지를 조회할 필요가 있는지 판단.
+ * 한 구독 안에서 페이지 순서대로 호출되므로 별도 동기화 없음
+ */
+final class KakaoPageCursor {
+
+	// Kakao 카테고리 검색이 허용하는 최대 페이지
+	static final int MAX_PAGE = 45;
+
+	private final int required;
+	private final int pageSize;
+	private final Set<String> seenIds = new HashSet<>();
+	private boolean end;
+	private Integer pageableCount;
+
+	KakaoPageCursor(int required, int pageSize) {
+		this.required = required;
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * 페이지 응답 반영, 처음 보는 사용 가능한 문서만 반환
+	 */
+	List<KakaoDocument> accept(KakaoSearchResponse response) {
+		Meta meta = response.meta();
+		if ( meta != null ) {
+			end |= Boolean.TRUE.equals( meta.is_end() );
+			if ( meta.pageable_count() != null ) {
+				pageableCount = meta.pageable_count();
+			}
+		}
+
+		if ( response.documents() == null ) {
+			return List.of();
+		}
+
+		List<KakaoDocument> accepted = new ArrayList<>( response.documents().size() );
+		for ( KakaoDocument doc : response.documents() ) {
+			if ( isUsable( doc ) && seenIds.add( doc.id() ) ) {
+				accepted.add( doc );
+			}
+		}
+		return accepted;
+	}
+
+	/**
+	 * 마지막 페이지를 받았는지 여부 (이후 페이지 응답은 필요 없음)
+	 */
+	boolean isEnd() {
+		return end;
+	}
+
+	/**
+	 * 아직 필요한 만큼 모이지 않았고 page에 조회할 문서가 남아 있는지 여부
+	 */
+	boolean hasPage(int page) {
+		return !end
+				&& seenIds.size() < required
+				&& page <= MAX_PAGE
+				&& ( pageableCount == null || ( page - 1 ) * pageSize < pageableCount );
+	}
+
+	int found() {
+		return seenIds.size();
+	}
+
+	private static boolean isUsable(KakaoDocument doc) {
+		return doc.id() != null && doc.x() != null && doc.y() != null && doc.distance() != null;
+	}
+}
@@ -0,0 +1,364 @@
+package mioneF.yumCup.external.kakao.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.exception.InsufficientRestaurantsException;
+import mioneF.yumCup.exception.NoNearbyRestaurantsException;
+import mioneF.yumCup.exception.RestaurantProcessingException;
+import mioneF.yumCup.exception.RestaurantProcessingTimeoutException;
+import mioneF.yumCup.external.kakao.dto.KakaoDocument;
+import mioneF.yumCup.external.kakao.dto.KakaoSearchResponse;
+import mioneF.yumCup.infrastructure.api.KakaoLocalApiClient;
+import mioneF.yumCup.infrastructure.concurrent.QuorumTaskScope;
+import mioneF.yumCup.infrastructure.concurrent.QuorumTaskScope.Subtask;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 API로 주변 레스토랑 수집 (Kakao 페이지 조회 → 문서별 Google 보강)
+ * reactive 모드는 Kakao 페이지가 도착하는 대로 Google 보강을 시작하는 pipeline으로, 동시 호출 수를 제한하며 호출 대기 중 스레드를 점유하지 않고,
+ * blocking 모드는 호출마다 가상 스레드에서 block() 하는 기존 방식 (부하 비교 / 롤백용).
+ * QuorumTaskScope(interrupt 취소, close 대기 한도, abandoned 메트릭)는 blocking 모드에만 적용되며,
+ * reactive 모드의 남은 호출 취소는 Reactor 구독 취소로 처리 (16개가 모이면 take가, 요청 스레드가 interrupt되면 block()이 구독 취소)
+ */
+@Slf4j
+@Component
+public class KakaoRestaurantFetcher {
+
+	static final int REQUIRED_RESTAURANTS = 16;
+	static final int KAKAO_PAGE_SIZE = 15;
+
+	private static final String KAKAO_SCOPE = "kakao-page";
+	private static final String GOOGLE_SCOPE = "google-enrichment";
+
+	private final KakaoLocalApiClient kakaoApiClient;
+	private final RestaurantEnrichmentService enrichmentService;
+	private final boolean reactiveEnabled;
+	private final int kakaoConcurrency;
+	private final int googleConcurrency;
+	private final MeterRegistry meterRegistry;
+
+	public KakaoRestaurantFetcher(
+			KakaoLocalApiClient kakaoApiClient,
+			RestaurantEnrichmentService enrichmentService,
+			@Value("${external-api.reactive.enabled:true}") boolean reactiveEnabled,
+			@Value("${external-api.reactive.kakao-concurrency:2}") int kakaoConcurrency,
+			@Value("${external-api.reactive.google-concurrency:16}") int googleConcurrency,
+			MeterRegistry meterRegistry) {
+		this.kakaoApiClient = kakaoApiClient;
+		this.enrichmentService = enrichmentService;
+		this.reactiveEnabled = reactiveEnabled;
+		this.kakaoConcurrency = kakaoConcurrency;
+		this.googleConcurrency = googleConcurrency;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 설정된 모드로 레스토랑 수집
+	 * reactive 모드도 호출자(캐시 채우기 / single-flight)가 동기이므로 전체 fan-out 완료 시 한 번만 대기.
+	 * 현재 스레드에 요청 마감이 있으면 마감까지 받은 결과로 수집 (보강하지 못한 문서는 Kakao 정보만 사용)
+	 */
+	public List<Restaurant> fetch(Double latitude, Double longitude, Integer radius) {
+		return fetch( latitude, longitude, radius, true );
+	}
+
+	/**
+	 * enrich가 false면 Google 보강 없이 Kakao 정보만으로 수집 (Google circuit breaker가 열린 동안)
+	 */
+	public List<Restaurant> fetch(Double latitude, Double longitude, Integer radius, boolean enrich) {
+		if ( reactiveEnabled ) {
+			return fetchReactive( latitude, longitude, radius, enrich ).contextWrite( RequestDeadline::propagate ).block();
+		}
+		return fetchBlocking( latitude, longitude, radius, enrich );
+	}
+
+	/**
+	 * reactive 모드: Kakao 페이지가 도착하는 대로 문서를 바로 Google 보강으로 넘기는 pipeline (단계 사이 대기 없음)
+	 * 필요한 페이지 수만큼 동시에 조회하고, 중복 / 사용할 수 없는 문서로 모자라면 Meta.is_end / pageable_count가 허용하는 동안 다음 페이지 조회.
+	 * 사용 가능한 문서가 16개 모이면 남은 페이지 조회는 취소. 문서 순서는 페이지 순서대로 유지하며,
+	 * 실패한 Kakao 페이지 / 변환 실패 문서는 blocking 모드와 같이 건너뜀
+	 */
+	public Mono<List<Restaurant>> fetchReactive(Double latitude, Double longitude, Integer radius, boolean enrich) {
+		return Mono.defer( () -> {
+			KakaoPageCursor cursor = new KakaoPageCursor( REQUIRED_RESTAURANTS, KAKAO_PAGE_SIZE );
+
+			log.info( "Fetching {} pages from Kakao API (pipelined)", pagesNeeded() );
+
+			return kakaoDocuments( latitude, longitude, radius, 1, pagesNeeded(), cursor )
+					.take( REQUIRED_RESTAURANTS )
+					.flatMapSequential(
+							doc -> enrichAsync( doc, enrich )
+									.doOnCancel( () -> recordCancelled( GOOGLE_SCOPE ) )
+									.onErrorResume( e -> {
+										log.error( "Error processing restaurant {}: {}", doc.place_name(), e.getMessage() );
+										return Mono.empty();
+									} ),
+							googleConcurrency
+					)
+					.collectList()
+					.flatMap( restaurants -> Mono.<List<Restaurant>>deferContextual( context -> {
+						Optional<RequestDeadline> deadline = RequestDeadline.from( context );
+
+						if ( cursor.found() == 0 ) {
+							return Mono.error( noRestaurantsFound( deadline ) );
+						}
+
+						log.info( "Completed processing {} restaurants", restaurants.size() );
+
+						if ( restaurants.size() < REQUIRED_RESTAURANTS ) {
+							return Mono.error( insufficientRestaurants( restaurants.size(), deadline ) );
+						}
+						return Mono.just( restaurants );
+					} ) );
+		} );
+	}
+
+	/**
+	 * firstPage부터 pages개 페이지를 동시에 조회하여 페이지 순서대로 새 문서 방출, 모자라면 다음 페이지를 하나씩 이어서 조회
+	 * 마지막 페이지(is_end)를 받으면 아직 오지 않은 뒤 페이지는 취소
+	 */
+	private Flux<KakaoDocument> kakaoDocuments(
+			Double latitude,
+			Double longitude,
+			Integer radius,
+			int firstPage,
+			int pages,
+			KakaoPageCursor cursor) {
+
+		int nextPage = firstPage + pages;
+
+		return Flux.range( firstPage, pages )
+				.flatMapSequential( page -> searchPageAsync( latitude, longitude, radius, page ), kakaoConcurrency )
+				.map( cursor::accept )
+				.takeUntil( documents -> cursor.isEnd() )
+				.concatMapIterable( documents -> documents )
+				.concatWith( Flux.defer( () -> {
+					if ( !cursor.hasPage( nextPage ) ) {
+						return Flux.empty();
+					}
+
+					log.info( "Only {} usable documents after {} pages, fetching page {}", cursor.found(), nextPage - 1, nextPage );
+					return kakaoDocuments( latitude, longitude, radius, nextPage, 1, cursor );
+				} ) );
+	}
+
+	private Mono<KakaoSearchResponse> searchPageAsync(Double latitude, Double longitude, Integer radius, int page) {
+		return kakaoApiClient.searchByCategoryAsync(
+						latitude,
+						longitude,
+						radius,
+						page,
+						KakaoSearchResponse.class
+				)
+				.doOnCancel( () -> recordCancelled( KAKAO_SCOPE ) )
+				.onErrorResume( e -> {
+					log.error( "Error fetching from Kakao API: {}", e.getMessage() );
+					return Mono.empty();
+				} );
+	}
+
+	/**
+	 * 취소된 호출 기록 (blocking 모드의 QuorumTaskScope와 같은 메트릭)
+	 */
+	private void recordCancelled(String scope) {
+		meterRegistry.counter( QuorumTaskScope.SUBTASKS_METRIC, "scope", scope, "result", "cancelled" ).increment();
+	}
+
+	/**
+	 * blocking 모드: 호출마다 가상 스레드 하나 (병렬 페이징 → 일괄 보강)
+	 * 단계별 fan-out은 QuorumTaskScope로 묶어, 필요한 결과가 모이거나 요청 마감 / 실패 / interrupt로 끝나면
+	 * 남은 호출을 취소하고 호출 스레드가 끝나기를 요청 마감까지만 기다린 뒤 반환 (끝나지 않은 호출은 abandoned로 기록)
+	 */
+	public List<Restaurant> fetchBlocking(Double latitude, Double longitude, Integer radius, boolean enrich) {
+		int pagesNeeded = pagesNeeded();
+		Optional<RequestDeadline> deadline = RequestDeadline.current();
+
+		log.info( "Fetching {} pages from Kakao API in parallel", pagesNeeded );
+
+		// 1. 카카오 API 병렬 호출 후 결과 수집
+		List<KakaoSearchResponse> responses;
+		try (QuorumTaskScope<KakaoSearchResponse> scope = new QuorumTaskScope<>( KAKAO_SCOPE, pagesNeeded, meterRegistry )) {
+			List<Subtask<KakaoSearchResponse>> pages = IntStream.rangeClosed( 1, pagesNeeded )
+					.mapToObj( page -> scope.fork(
+							withDeadline( deadline, () -> fetchRestaurantsPage( latitude, longitude, radius, page ) )
+					) )
+					.toList();
+
+			join( scope, deadline );
+
+			responses = pages.stream()
+					.map( this::getCompletedKakaoResponse )
+					.filter( Objects::nonNull )
+					.toList();
+		}
+
+		// 페이지 간 중복 id 제거 (앞 페이지 우선)
+		Set<String> seenIds = new HashSet<>();
+		List<KakaoDocument> allDocuments = responses.stream()
+				.flatMap( response -> response.documents().stream() )
+				.filter( doc -> seenIds.add( doc.id() ) )
+				.limit( REQUIRED_RESTAURANTS )
+				.toList();
+
+		if ( allDocuments.isEmpty() ) {
+			throw noRestaurantsFound( deadline );
+		}
+
+		log.info(
+				"Collected {} documents from Kakao, starting Google API enrichment in parallel",
+				allDocuments.size()
+		);
+
+		// 2. 구글 API 병렬 호출, 16개가 준비되면 완료 (마감까지 끝나지 않은 문서는 Kakao 정보만 사용)
+		List<Restaurant> allRestaurants;
+		try (QuorumTaskScope<Restaurant> scope = new QuorumTaskScope<>( GOOGLE_SCOPE, REQUIRED_RESTAURANTS, meterRegistry )) {
+			List<Subtask<Restaurant>> enrichments = allDocuments.stream()
+					.map( doc -> scope.fork( withDeadline( deadline, () -> enrichWithGoogleInfoSafe( doc, enrich ) ) ) )
+					.toList();
+
+			join( scope, deadline );
+
+			allRestaurants = IntStream.range( 0, enrichments.size() )
+					.mapToObj( i -> getCompletedRestaurantResult( enrichments.get( i ), allDocuments.get( i ) ) )
+					.filter( Objects::nonNull )
+					.toList();
+		}
+
+		log.info( "Completed processing {} restaurants", allRestaurants.size() );
+
+		if ( allRestaurants.size() < REQUIRED_RESTAURANTS ) {
+			throw insufficientRestaurants( allRestaurants.size(), deadline );
+		}
+		return allRestaurants;
+	}
+
+	/**
+	 * scope 대기, 요청 스레드가 interrupt되면 남은 호출은 scope를 닫으며 취소
+	 */
+	private static void join(QuorumTaskScope<?> scope, Optional<RequestDeadline> deadline) {
+		try {
+			scope.join( deadline );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RestaurantProcessingException( "Interrupted while fetching nearby restaurants" );
+		}
+	}
+
+	/**
+	 * 가상 스레드에서 실행되는 호출에도 요청 마감 전달 (ThreadLocal은 다른 스레드로 전달되지 않음)
+	 */
+	private static <T> Callable<T> withDeadline(Optional<RequestDeadline> deadline, Supplier<T> task) {
+		return deadline.<Callable<T>>map( value -> () -> RequestDeadline.callWith( value, task ) ).orElse( task::get );
+	}
+
+	/**
+	 * 요청 마감이 지나 결과가 없거나 부족하면 처리 시간 초과로 구분
+	 */
+	private static RuntimeException noRestaurantsFound(Optional<RequestDeadline> deadline) {
+		if ( isExpired( deadline ) ) {
+			return new RestaurantProcessingTimeoutException( "Request deadline reached before any nearby restaurant was found" );
+		}
+		return new NoNearbyRestaurantsException( "Can't find any nearby restaurant" );
+	}
+
+	private static RuntimeException insufficientRestaurants(int found, Optional<RequestDeadline> deadline) {
+		if ( isExpired( deadline ) ) {
+			return new RestaurantProcessingTimeoutException(
+					String.format( "Request deadline reached with only %d restaurants found", found )
+			);
+		}
+		return new InsufficientRestaurantsException(
+				String.format( "Need at least 16 restaurants, but found only %d", found )
+		);
+	}
+
+	private static boolean isExpired(Optional<RequestDeadline> deadline) {
+		return deadline.map( RequestDeadline::isExpired ).orElse( false );
+	}
+
+	/**
+	 * Kakao 페이지 호출 결과 추출 (join 이후 호출), 실패 / 취소된 페이지는 null
+	 */
+	private KakaoSearchResponse getCompletedKakaoResponse(Subtask<KakaoSearchResponse> subtask) {
+		if ( subtask.state() == Subtask.State.FAILED ) {
+			log.error( "Error fetching from Kakao API: {}", subtask.exception().getMessage() );
+		}
+		return subtask.state() == Subtask.State.SUCCESS ? subtask.get() : null;
+	}
+
+	private Mono<Restaurant> enrichAsync(KakaoDocument doc, boolean enrich) {
+		if ( !enrich ) {
+			return Mono.fromCallable( () -> enrichmentService.withoutGoogleInfo( doc ) );
+		}
+		return enrichmentService.enrichWithGoogleInfoAsync( doc );
+	}
+
+	/**
+	 * Google API enrichment을 안전하게 처리
+	 */
+	private Restaurant enrichWithGoogleInfoSafe(KakaoDocument doc, boolean enrich) {
+		try {
+			if ( !enrich ) {
+				return enrichmentService.withoutGoogleInfo( doc );
+			}
+			return enrichmentService.enrichWithGoogleInfo( doc );
+		}
+		catch (Exception e) {
+			log.error( "Error processing restaurant {}: {}", doc.place_name(), e.getMessage() );
+			return null;
+		}
+	}
+
+	/**
+	 * Google 보강 결과 추출 (join 이후 호출), 요청 마감까지 끝나지 않아 취소된 문서는 Kakao 정보만 사용
+	 */
+	private Restaurant getCompletedRestaurantResult(Subtask<Restaurant> subtask, KakaoDocument doc) {
+		return switch ( subtask.state() ) {
+			case SUCCESS -> subtask.get();
+			case FAILED -> {
+				log.error( "Error getting restaurant result: {}", subtask.exception().getMessage() );
+				yield null;
+			}
+			case RUNNING, CANCELLED -> {
+				log.debug( "Google enrichment for {} did not finish before the request deadline", doc.place_name() );
+				yield enrichmentService.withoutGoogleInfo( doc );
+			}
+		};
+	}
+
+	/**
+	 * Kakao API 페이지 조회
+	 */
+	private KakaoSearchResponse fetchRestaurantsPage(
+			Double latitude,
+			Double longitude,
+			Integer radius,
+			int page) {
+
+		return kakaoApiClient.searchByCategory(
+				latitude,
+				longitude,
+				radius,
+				page,
+				KakaoSearchResponse.class
+		);
+	}
+
+	private int pagesNeeded() {
+		return (int) Math.ceil( (double) REQUIRED_RESTAURANTS / KAKAO_PAGE_SIZE );
+	}
+}
@@ -1,13 +1,15 @@
 package mioneF.yumCup.external.kakao.service;
 
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 import mioneF.yumCup.domain.MatchResult;
+import mioneF.yumCup.domain.RestaurantSnapshot;
 import mioneF.yumCup.domain.dto.request.LocationRequest;
 import mioneF.yumCup.domain.dto.response.GameResponse;
 import mioneF.yumCup.domain.dto.response.MatchResponse;
@@ -15,7 +17,11 @@ import mioneF.yumCup.domain.dto.response.RestaurantResponse;
 import mioneF.yumCup.domain.entity.Game;
 import mioneF.yumCup.domain.entity.Match;
 import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.infrastructure.cache.CacheEntry;
+import mioneF.yumCup.infrastructure.cache.CacheStrategy;
 import mioneF.yumCup.infrastructure.cache.GeohashCacheStrategy;
+import mioneF.yumCup.infrastructure.cache.RestaurantSnapshotCache;
+import mioneF.yumCup.infrastructure.geo.GeoDistance;
 import mioneF.yumCup.repository.GameRepository;
 import mioneF.yumCup.repository.RestaurantRepository;
 import mioneF.yumCup.service.GameService;
@@ -30,21 +36,25 @@ public class KakapMapGameService {
 	private final GameService gameService;
 	private final GameRepository gameRepository;
 	private final RestaurantRepository restaurantRepository;
-	private final GeohashCacheStrategy cacheStrategy;
-
-	private static final long CACHE_TTL_SECONDS = 3600;
+	private final GeohashCacheStrategy geohashCacheStrategy;
+	private final CacheStrategy cacheStrategy;
+	private final RestaurantSnapshotCache snapshotCache;
 
 	public KakapMapGameService(
 			KakaoMapRestaurantService kakaoMapService,
 			GameService gameService,
 			GameRepository gameRepository,
 			RestaurantRepository restaurantRepository,
-			GeohashCacheStrategy cacheStrategy) {
+			GeohashCacheStrategy geohashCacheStrategy,
+			CacheStrategy cacheStrategy,
+			RestaurantSnapshotCache snapshotCache) {
 		this.kakaoMapService = kakaoMapService;
 		this.gameService = gameService;
 		this.gameRepository = gameRepository;
 		this.restaurantRepository = restaurantRepository;
+		this.geohashCacheStrategy = geohashCacheStrategy;
 		this.cacheStrategy = cacheStrategy;
+		this.snapshotCache = snapshotCache;
 	}
 
 	public MatchResult selectWinner(Long gameId, Long matchId, Long winnerId) {
@@ -52,7 +62,7 @@ public class KakapMapGameService {
 	}
 
 	public GameResponse startLocationBasedGame(LocationRequest request) {
-		List<Restaurant> restaurants = searchAndPrepareRestaurants(
+		List<RestaurantSnapshot> restaurants = searchAndPrepareRestaurants(
 				request.latitude(),
 				request.longitude(),
 				request.radius()
@@ -62,39 +72,41 @@ public class KakapMapGameService {
 
 	/**
 	 * 레스토랑 검색 및 준비 (캐싱 전략 통일)
-	 * GeohashCacheStrategy를 사용하여 일관된 캐싱 처리
+	 * 캐시 적중 시 kakaoId 목록과 레스토랑 스냅샷만으로 후보를 구성하여 MySQL 조회를 생략.
+	 * 캐시 / 인접 셀 / 상위 반경 / 좌표 인덱스에서 찾은 레스토랑의 저장된 거리는 처음 검색한 위치 기준이므로
+	 * 요청 위치 기준으로 다시 계산
 	 */
-	public List<Restaurant> searchAndPrepareRestaurants(
+	public List<RestaurantSnapshot> searchAndPrepareRestaurants(
 			Double latitude, Double longitude, Integer radius) {
 
-		// GeohashCacheStrategy를 사용하여 캐시 키 생성 (일관된 방식)
-		String cacheKey = cacheStrategy.generateGeohashKey(
+		// GeohashCacheStrategy를 사용하여 캐시 키 생성 (반경에 맞는 precision)
+		String cacheKey = geohashCacheStrategy.generateRadiusKey(
 				"restaurants:kakaoIds",
 				latitude,
 				longitude,
-				String.valueOf( radius )
+				radius
 		);
 
 		log.info( "Cache key: {}", cacheKey );
 
-		// 캐시 조회 - GeohashCacheStrategy 사용
-		Optional<List> cachedList = cacheStrategy.get( cacheKey, List.class );
-		if ( cachedList.isPresent() ) {
-			@SuppressWarnings("unchecked")
-			List<String> kakaoIds = (List<String>) cachedList.get();
-			List<Restaurant> restaurants = restaurantRepository.findByKakaoIdIn( kakaoIds );
+		// 캐시 조회 - CacheStrategy(L1 near cache + L2 Redis) 사용
+		Optional<CacheEntry<List<String>>> cachedEntry = cacheStrategy.getEntry(
+				cacheKey,
+				KakaoMapRestaurantService.KAKAO_IDS_TYPE
+		);
+		if ( cachedEntry.isPresent() ) {
+			List<String> kakaoIds = cachedEntry.get().value();
+			List<RestaurantSnapshot> restaurants = findSnapshots( kakaoIds );
 
 			if ( restaurants.size() == kakaoIds.size() ) {
 				log.info( "Cache HIT: Returning {} restaurants", restaurants.size() );
-				// LinkedHashMap으로 순서 보존하며 단일 패스 처리
-				Map<String, Restaurant> map = restaurants.stream()
-						.collect( Collectors.toMap(
-								Restaurant::getKakaoId,
-								r -> r,
-								(a, b) -> a,
-								LinkedHashMap::new
-						) );
-				return kakaoIds.stream().map( map::get ).toList();
+
+				// soft 만료가 지났으면 stale 값을 바로 반환하고 백그라운드에서 갱신
+				if ( cachedEntry.get().isStale() ) {
+					kakaoMapService.refreshInBackground( cacheKey, cachedEntry.get(), latitude, longitude, radius );
+				}
+
+				return withDistanceFrom( restaurants, latitude, longitude );
 			}
 			// 캐시 데이터 불일치 시 삭제
 			log.warn( "Cache data mismatch, evicting cache" );
@@ -102,22 +114,78 @@ public class KakapMapGameService {
 		}
 
 		log.info( "Cache MISS: Fetching restaurants from API" );
+		// 캐시 저장은 searchNearbyRestaurants가 계산 시간 / fencing token과 함께 처리
 		List<Restaurant> restaurants = kakaoMapService.searchNearbyRestaurants( latitude, longitude, radius );
 
-		// 캐시 저장 - GeohashCacheStrategy 사용
-		List<String> kakaoIds = restaurants.stream()
-				.map( Restaurant::getKakaoId )
+		return withDistanceFrom(
+				restaurants.stream().map( RestaurantSnapshot::from ).toList(),
+				latitude,
+				longitude
+		);
+	}
+
+	/**
+	 * 요청 위치 기준 거리로 변경 (좌표가 없으면 저장된 거리 유지)
+	 */
+	private List<RestaurantSnapshot> withDistanceFrom(List<RestaurantSnapshot> restaurants, double latitude, double longitude) {
+		return restaurants.stream()
+				.map( snapshot -> snapshot.latitude() == null || snapshot.longitude() == null
+						? snapshot
+						: snapshot.withDistance( (int) Math.round( GeoDistance.meters(
+								latitude,
+								longitude,
+								snapshot.latitude(),
+								snapshot.longitude()
+						) ) ) )
+				.toList();
+	}
+
+	/**
+	 * kakaoId 순서대로 스냅샷 조회
+	 * 스냅샷 캐시에 없는 것만 DB에서 조회하여 스냅샷 캐시를 채우고, DB에도 없는 kakaoId는 제외.
+	 * DB 조회 전에 읽은 버전이 그대로일 때만 채우므로, 조회 도중 커밋된 변경으로 삭제된 스냅샷을 이전 값으로 되살리지 않음
+	 */
+	private List<RestaurantSnapshot> findSnapshots(List<String> kakaoIds) {
+		Map<String, RestaurantSnapshot> snapshots = new HashMap<>( snapshotCache.getAll( kakaoIds ) );
+		// id가 없는 스냅샷으로는 매치를 만들 수 없으므로 DB에서 다시 조회
+		snapshots.values().removeIf( snapshot -> snapshot.id() == null );
+
+		List<String> missingKakaoIds = kakaoIds.stream()
+				.filter( kakaoId -> !snapshots.containsKey( kakaoId ) )
 				.toList();
 
-		cacheStrategy.put( cacheKey, kakaoIds, CACHE_TTL_SECONDS );
-		log.info( "Cached {} restaurant IDs", kakaoIds.size() );
+		if ( !missingKakaoIds.isEmpty() ) {
+			log.debug( "Restaurant snapshot miss: {} / {}", missingKakaoIds.size(), kakaoIds.size() );
+
+			Map<String, String> versions = snapshotCache.versions( missingKakaoIds );
+			List<RestaurantSnapshot> loaded = restaurantRepository.findByKakaoIdIn( missingKakaoIds ).stream()
+					.map( RestaurantSnapshot::from )
+					.toList();
+
+			snapshotCache.putAllIfUnchanged( loaded, versions );
+			loaded.forEach( snapshot -> snapshots.put( snapshot.kakaoId(), snapshot ) );
+		}
 
-		return restaurants;
+		return kakaoIds.stream()
+				.map( snapshots::get )
+				.filter( Objects::nonNull )
+				.toList();
 	}
 
+	/**
+	 * 스냅샷으로 게임 생성
+	 * 매치에는 id만 필요하므로 레스토랑 엔티티를 조회하지 않고 참조(프록시)만 사용
+	 * (id가 없는 스냅샷은 참조를 만들 수 없으므로 제외)
+	 */
 	@Transactional
-	public GameResponse createGameWithRestaurants(List<Restaurant> restaurants) {
-		List<Restaurant> selectedRestaurants = restaurants.stream()
+	public GameResponse createGameWithRestaurants(List<RestaurantSnapshot> restaurants) {
+		long withoutId = restaurants.stream().filter( snapshot -> snapshot.id() == null ).count();
+		if ( withoutId > 0 ) {
+			log.warn( "Skipping {} restaurant snapshots without id", withoutId );
+		}
+
+		List<RestaurantSnapshot> selectedRestaurants = restaurants.stream()
+				.filter( snapshot -> snapshot.id() != null )
 				.limit( 16 )
 				.collect( Collectors.toList() );
 
@@ -125,8 +193,8 @@ public class KakapMapGameService {
 
 		for ( int i = 0; i < selectedRestaurants.size(); i += 2 ) {
 			Match match = Match.builder()
-					.restaurant1( selectedRestaurants.get( i ) )
-					.restaurant2( selectedRestaurants.get( i + 1 ) )
+					.restaurant1( restaurantRepository.getReferenceById( selectedRestaurants.get( i ).id() ) )
+					.restaurant2( restaurantRepository.getReferenceById( selectedRestaurants.get( i + 1 ).id() ) )
 					.round( 16 )
 					.matchOrder( ( i / 2 ) + 1 )
 					.build();
@@ -141,8 +209,8 @@ public class KakapMapGameService {
 				16,
 				new MatchResponse(
 						firstMatch.getId(),
-						RestaurantResponse.from( firstMatch.getRestaurant1() ),
-						RestaurantResponse.from( firstMatch.getRestaurant2() ),
+						RestaurantResponse.from( selectedRestaurants.get( 0 ) ),
+						RestaurantResponse.from( selectedRestaurants.get( 1 ) ),
 						firstMatch.getRound(),
 						firstMatch.getMatchOrder()
 				),
@@ -5,7 +5,11 @@ import lombok.extern.slf4j.Slf4j;
 import mioneF.yumCup.domain.dto.response.GooglePlaceResponse;
 import mioneF.yumCup.domain.entity.Restaurant;
 import mioneF.yumCup.external.kakao.dto.KakaoDocument;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
 
 /**
  * 레스토랑 정보 보강 서비스
@@ -19,10 +23,16 @@ public class RestaurantEnrichmentService {
 
 	/**
 	 * Kakao 문서를 Restaurant로 변환하고 Google 정보로 보강
+	 * 요청 마감이 지났으면 Google 조회 없이 Kakao 정보만으로 반환
 	 */
 	public Restaurant enrichWithGoogleInfo(KakaoDocument doc) {
 		Restaurant restaurant = createBaseRestaurant( doc );
 
+		if ( isExpired( RequestDeadline.current() ) ) {
+			log.debug( "Request deadline reached, skipping Google enrichment for {}", doc.place_name() );
+			return restaurant;
+		}
+
 		try {
 			GooglePlaceResponse googleResponse = googlePlaceService.findPlace(
 					doc.id(),
@@ -50,6 +60,60 @@ public class RestaurantEnrichmentService {
 		return restaurant;
 	}
 
+	/**
+	 * Kakao 문서를 Restaurant로 변환하고 Google 정보로 보강 (non-blocking)
+	 * Google 조회가 실패하거나 결과가 없거나 요청 마감이 지났으면 Kakao 정보만으로 만든 Restaurant 반환
+	 */
+	public Mono<Restaurant> enrichWithGoogleInfoAsync(KakaoDocument doc) {
+		return Mono.fromCallable( () -> createBaseRestaurant( doc ) )
+				.flatMap( restaurant -> Mono.deferContextual( context -> {
+					if ( isExpired( RequestDeadline.from( context ) ) ) {
+						log.debug( "Request deadline reached, skipping Google enrichment for {}", doc.place_name() );
+						return Mono.just( restaurant );
+					}
+
+					return googlePlaceService.findPlaceAsync(
+									doc.id(),
+									doc.place_name(),
+									restaurant.getLatitude(),
+									restaurant.getLongitude()
+							)
+							.filter( this::isValidGoogleResponse )
+							.map( response -> enrichWithGooglePlace( restaurant, response.candidates().get( 0 ) ) )
+							.doOnNext( enriched -> log.debug( "Successfully enriched {} with Google info", doc.place_name() ) )
+							.onErrorResume( e -> {
+								log.warn( "Failed to enrich {} with Google info: {}", doc.place_name(), e.getMessage() );
+								return Mono.empty();
+							} )
+							.defaultIfEmpty( restaurant );
+				} ) );
+	}
+
+	/**
+	 * Google 보강 없이 Kakao 정보만으로 Restaurant 생성 (Google circuit breaker가 열린 동안)
+	 */
+	public Restaurant withoutGoogleInfo(KakaoDocument doc) {
+		return createBaseRestaurant( doc );
+	}
+
+	/**
+	 * 이미 저장된 Restaurant를 Google 정보로 보강 (나중에 보강 대기열에서 사용)
+	 * Google에 결과가 없으면 빈 값, 호출 실패는 예외 그대로 전달
+	 */
+	public Optional<Restaurant> findGoogleInfo(Restaurant restaurant) {
+		GooglePlaceResponse googleResponse = googlePlaceService.findPlace(
+				restaurant.getKakaoId(),
+				restaurant.getName(),
+				restaurant.getLatitude(),
+				restaurant.getLongitude()
+		);
+
+		if ( !isValidGoogleResponse( googleResponse ) ) {
+			return Optional.empty();
+		}
+		return Optional.of( enrichWithGooglePlace( restaurant, googleResponse.candidates().get( 0 ) ) );
+	}
+
 	/**
 	 * Kakao 문서로 기본 Restaurant 엔티티 생성
 	 */
@@ -119,6 +183,10 @@ public class RestaurantEnrichmentService {
 				&& !response.candidates().isEmpty();
 	}
 
+	private static boolean isExpired(Optional<RequestDeadline> deadline) {
+		return deadline.map( RequestDeadline::isExpired ).orElse( false );
+	}
+
 	/**
 	 * 카테고리 이름에서 메인 카테고리 추출
 	 */
@@ -3,14 +3,20 @@ package mioneF.yumCup.external.kakao.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.infrastructure.cache.RestaurantSnapshotCache;
+import mioneF.yumCup.infrastructure.geo.NearbyRestaurantIndex;
 import mioneF.yumCup.repository.RestaurantRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -23,6 +29,8 @@ import java.util.stream.Collectors;
 public class RestaurantPersistenceService {
 
 	private final RestaurantRepository restaurantRepository;
+	private final RestaurantSnapshotCache snapshotCache;
+	private final List<NearbyRestaurantIndex> nearbyIndexes;
 
 	/**
 	 * 레스토랑 목록을 저장하거나 업데이트
@@ -30,6 +38,15 @@ public class RestaurantPersistenceService {
 	 */
 	@Transactional
 	public List<Restaurant> saveOrUpdate(List<Restaurant> restaurants) {
+		return saveOrUpdate( restaurants, true );
+	}
+
+	/**
+	 * enriched가 false(Google 보강 없이 수집)면 기존 레스토랑의 Google 정보를 빈 값으로 덮어쓰지 않도록 갱신 생략하고,
+	 * Google 정보가 없는 새 레스토랑은 보강 필요로 표시하여 저장 (다음 조회 / 보강 대기열에서 다시 보강)
+	 */
+	@Transactional
+	public List<Restaurant> saveOrUpdate(List<Restaurant> restaurants, boolean enriched) {
 		if ( restaurants == null || restaurants.isEmpty() ) {
 			log.debug( "No restaurants to save" );
 			return List.of();
@@ -51,6 +68,7 @@ public class RestaurantPersistenceService {
 		// 3. 초기 용량 지정으로 ArrayList 재할당 방지 (중간 리스트 3개 → 2개로 축소)
 		List<Restaurant> result = new ArrayList<>( size );
 		List<Restaurant> newRestaurants = new ArrayList<>( size - existingMap.size() );
+		List<String> changedKakaoIds = new ArrayList<>( size );
 		int updateCount = 0;
 
 		// 4. 단일 패스로 분류 (restaurantsToUpdate 리스트 제거)
@@ -58,11 +76,16 @@ public class RestaurantPersistenceService {
 			Restaurant existing = existingMap.get( restaurant.getKakaoId() );
 
 			if ( existing == null ) {
+				if ( !enriched && restaurant.getRating() == null && restaurant.getPhotoUrl() == null ) {
+					restaurant.markNeedsEnrichment();
+				}
 				newRestaurants.add( restaurant );
+				changedKakaoIds.add( restaurant.getKakaoId() );
 			}
 			else {
-				if ( shouldUpdate( existing ) ) {
+				if ( enriched && shouldUpdate( existing ) ) {
 					existing.updateWithNewInfo( restaurant );
+					changedKakaoIds.add( existing.getKakaoId() );
 					updateCount++;
 				}
 				result.add( existing );
@@ -85,17 +108,105 @@ public class RestaurantPersistenceService {
 				newRestaurants.size(), updateCount, result.size()
 		);
 
+		// 커밋 이후 변경된 스냅샷 삭제, 좌표 인덱스 반영 (롤백 시에는 유지)
+		afterCommit( () -> {
+			snapshotCache.evictAll( changedKakaoIds );
+			nearbyIndexes.forEach( index -> index.index( result ) );
+		} );
+
 		return result;
 	}
 
 	/**
-	 * 레스토랑 업데이트 필요 여부 확인
+	 * 나중에 조회한 Google 정보를 저장된 레스토랑에 반영 (커밋 이후 스냅샷 삭제)
+	 */
+	@Transactional
+	public int applyEnrichment(List<Restaurant> enrichedRestaurants) {
+		if ( enrichedRestaurants == null || enrichedRestaurants.isEmpty() ) {
+			return 0;
+		}
+
+		Map<String, Restaurant> enrichedMap = enrichedRestaurants.stream()
+				.collect( Collectors.toMap( Restaurant::getKakaoId, Function.identity(), (first, second) -> second ) );
+
+		List<String> updatedKakaoIds = new ArrayList<>( enrichedMap.size() );
+		for ( Restaurant existing : restaurantRepository.findByKakaoIdIn( List.copyOf( enrichedMap.keySet() ) ) ) {
+			existing.updateWithNewInfo( enrichedMap.get( existing.getKakaoId() ) );
+			updatedKakaoIds.add( existing.getKakaoId() );
+		}
+
+		afterCommit( () -> snapshotCache.evictAll( updatedKakaoIds ) );
+
+		return updatedKakaoIds.size();
+	}
+
+	/**
+	 * Google에서 찾지 못한 레스토랑의 보강 필요 표시 해제 (같은 레스토랑을 반복해서 조회하지 않도록)
+	 */
+	@Transactional
+	public void markEnriched(List<String> kakaoIds) {
+		if ( kakaoIds == null || kakaoIds.isEmpty() ) {
+			return;
+		}
+
+		restaurantRepository.findByKakaoIdIn( kakaoIds ).forEach( Restaurant::markEnriched );
+	}
+
+	/**
+	 * 보강 필요로 표시된 레스토랑 (재시작 / 대기열 초과로 메모리 대기열에서 빠진 항목 포함)
+	 */
+	@Transactional(readOnly = true)
+	public List<Restaurant> findNeedingEnrichment(int limit) {
+		return restaurantRepository.findNeedingEnrichment( PageRequest.of( 0, limit ) );
+	}
+
+	/**
+	 * 현재 트랜잭션 커밋 이후 실행, 트랜잭션 밖에서 호출되면 즉시 실행
+	 */
+	private void afterCommit(Runnable action) {
+		if ( !TransactionSynchronizationManager.isSynchronizationActive() ) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization( new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		} );
+	}
+
+	/**
+	 * 레스토랑 업데이트 필요 여부 확인 (보강 필요로 표시된 레스토랑은 갱신 시점과 관계없이 갱신)
 	 */
 	private boolean shouldUpdate(Restaurant restaurant) {
+		if ( restaurant.needsEnrichment() ) {
+			return true;
+		}
+
 		LocalDateTime lastUpdate = restaurant.getUpdatedAt();
 		LocalDateTime fourteenDaysAgo = LocalDateTime.now().minusDays( 14 );
 
-		return lastUpdate.isBefore( fourteenDaysAgo );
+		return lastUpdate == null || lastUpdate.isBefore( fourteenDaysAgo );
+	}
+
+	/**
+	 * id 목록 순서대로 레스토랑 조회 (없는 id는 제외)
+	 */
+	@Transactional(readOnly = true)
+	public List<Restaurant> findByIds(List<Long> ids) {
+		if ( ids == null || ids.isEmpty() ) {
+			return List.of();
+		}
+
+		Map<Long, Restaurant> restaurants = restaurantRepository.findAllById( ids ).stream()
+				.collect( Collectors.toMap( Restaurant::getId, Function.identity() ) );
+
+		return ids.stream()
+				.map( restaurants::get )
+				.filter( Objects::nonNull )
+				.collect( Collectors.toCollection( ArrayList::new ) );
 	}
 
 	/**
@@ -3,29 +3,57 @@ package mioneF.yumCup.infrastructure.api;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import mioneF.yumCup.exception.ExternalApiException;
+import mioneF.yumCup.exception.RateLimiterRejectedException;
+import mioneF.yumCup.infrastructure.api.resilience.AdaptiveRateLimiter;
+import mioneF.yumCup.infrastructure.api.resilience.ApiClientPolicy;
+import mioneF.yumCup.infrastructure.api.resilience.Bulkhead;
+import mioneF.yumCup.infrastructure.api.resilience.CircuitBreaker;
+import mioneF.yumCup.infrastructure.api.resilience.DistributedRateLimiter;
+import mioneF.yumCup.infrastructure.api.resilience.RequestHedger;
+import mioneF.yumCup.infrastructure.api.resilience.RetryPolicy;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 /**
  * WebClient 기반 API 클라이언트 추상 클래스
  */
 @Slf4j
-public abstract class AbstractWebClientApiClient implements ExternalApiClient {
+public abstract class AbstractWebClientApiClient implements ExternalApiClient, ReactiveExternalApiClient {
 
 	protected final WebClient webClient;
 	protected final ObjectMapper objectMapper;
+	protected final ApiClientPolicy policy;
 
 	private static final int TIMEOUT_SECONDS = 10;
-	private static final int MAX_RETRY = 3;
-	private static final long BASE_RETRY_DELAY_MS = 1000L;
 
 	protected AbstractWebClientApiClient(WebClient webClient, ObjectMapper objectMapper) {
+		this( webClient, objectMapper, ApiClientPolicy.unlimited() );
+	}
+
+	protected AbstractWebClientApiClient(WebClient webClient, ObjectMapper objectMapper, ApiClientPolicy policy) {
 		this.webClient = webClient;
 		this.objectMapper = objectMapper;
+		this.policy = policy;
+	}
+
+	/**
+	 * 호출 가능 여부 (circuit breaker가 열려 있으면 false)
+	 */
+	public boolean isAvailable() {
+		CircuitBreaker circuitBreaker = policy.circuitBreaker();
+		return circuitBreaker == null || !circuitBreaker.isOpen();
 	}
 
 	/**
@@ -33,7 +61,7 @@ public abstract class AbstractWebClientApiClient implements ExternalApiClient {
 	 */
 	@Override
 	public <T> T get(String url, Class<T> responseType) {
-		return executeWithRetry( () -> performGet( url, responseType ) );
+		return getAsync( url, responseType ).contextWrite( RequestDeadline::propagate ).block();
 	}
 
 	/**
@@ -50,46 +78,201 @@ public abstract class AbstractWebClientApiClient implements ExternalApiClient {
 	 */
 	@Override
 	public <T, R> R post(String url, T requestBody, Class<R> responseType) {
-		return executeWithRetry( () -> performPost( url, requestBody, responseType ) );
+		return postAsync( url, requestBody, responseType ).contextWrite( RequestDeadline::propagate ).block();
+	}
+
+	/**
+	 * GET 요청 수행 (non-blocking, 재시도 포함)
+	 */
+	@Override
+	public <T> Mono<T> getAsync(String url, Class<T> responseType) {
+		return withinDeadline( requestGet( url, responseType ) );
+	}
+
+	/**
+	 * GET 요청 수행 (non-blocking, URL + 쿼리 파라미터)
+	 */
+	@Override
+	public <T> Mono<T> getAsync(String baseUrl, Map<String, String> queryParams, Class<T> responseType) {
+		return getAsync( buildUrlWithParams( baseUrl, queryParams ), responseType );
+	}
+
+	/**
+	 * POST 요청 수행 (non-blocking, 재시도 포함)
+	 */
+	@Override
+	public <T, R> Mono<R> postAsync(String url, T requestBody, Class<R> responseType) {
+		return withinDeadline( requestPost( url, requestBody, responseType ) );
 	}
 
 	/**
-	 * 실제 GET 요청 수행
+	 * GET 요청 1회 (구독 시점에 요청, 실패는 ExternalApiException으로 변환)
+	 * hedger가 있으면 응답이 늦을 때 같은 GET을 한 번 더 보내 먼저 온 응답 사용
 	 */
-	protected <T> T performGet(String url, Class<T> responseType) {
-		try {
+	protected <T> Mono<T> requestGet(String url, Class<T> responseType) {
+		return admitted( hedged( () -> protect( Mono.defer( () -> {
 			log.debug( "[{}] API GET Request: {}", getApiName(), url );
 
-			String response = webClient.get()
+			return webClient.get()
 					.uri( url )
 					.retrieve()
-					.bodyToMono( String.class )
+					.bodyToMono( DataBuffer.class )
 					.timeout( Duration.ofSeconds( TIMEOUT_SECONDS ) )
-					.block();
+					.switchIfEmpty( Mono.error( () -> emptyResponse() ) );
+		} ) ) ) ).map( response -> readResponse( response, responseType ) )
+				.doOnDiscard( DataBuffer.class, DataBufferUtils::release )
+				.onErrorMap( this::toExternalApiException );
+	}
 
-			log.debug(
-					"[{}] API Response received: {} bytes",
-					getApiName(),
-					response != null ? response.length() : 0
-			);
+	/**
+	 * POST 요청 1회 (구독 시점에 요청, 실패는 ExternalApiException으로 변환)
+	 */
+	protected <T, R> Mono<R> requestPost(String url, T requestBody, Class<R> responseType) {
+		return admitted( protect( Mono.defer( () -> {
+			log.debug( "[{}] API POST Request: {}", getApiName(), url );
+
+			return webClient.post()
+					.uri( url )
+					.bodyValue( requestBody )
+					.retrieve()
+					.bodyToMono( DataBuffer.class )
+					.timeout( Duration.ofSeconds( TIMEOUT_SECONDS ) )
+					.switchIfEmpty( Mono.error( () -> emptyResponse() ) );
+		} ) ) ).map( response -> readResponse( response, responseType ) )
+				.doOnDiscard( DataBuffer.class, DataBufferUtils::release )
+				.onErrorMap( this::toExternalApiException );
+	}
 
-			return objectMapper.readValue( response, responseType );
+	/**
+	 * 재시도 포함 호출, Reactor Context에 요청 마감이 있으면 남은 시간을 전체 타임아웃으로 사용
+	 * 마감이 지났으면 호출하지 않고 바로 실패, 마감 전에 끝낼 수 없는 재시도는 하지 않음.
+	 * 마감으로 취소된 호출은 circuit breaker / rate limiter에 실패로 반영되지 않음
+	 */
+	private <T> Mono<T> withinDeadline(Mono<T> call) {
+		return Mono.deferContextual( context -> RequestDeadline.from( context )
+				.map( deadline -> deadline.isExpired()
+						? Mono.<T>error( deadlineExceeded( null ) )
+						: call.retryWhen( retrySpec( deadline ) )
+								.timeout( deadline.remaining() )
+								.onErrorMap( TimeoutException.class, this::deadlineExceeded ) )
+				.orElseGet( () -> call.retryWhen( retrySpec( null ) ) ) );
+	}
 
+	/**
+	 * bulkhead / 로컬 rate limiter 허용을 받은 뒤에 hedge하므로 hedge 요청은 원래 요청의 슬롯 / 로컬 허용을 함께 쓰고
+	 * hedge 지연 시간도 대기 시간이 아닌 HTTP 호출 시간으로만 계산 (로컬 한도를 넘는 추가 동시 요청은 hedger 예산 비율 이내).
+	 * 클러스터 할당량은 API 키 단위 한도이므로 hedge 요청도 클러스터 토큰을 따로 받고, 받지 못하면 hedge만 포기.
+	 * hedge 요청도 각자 circuit breaker에 기록되며, 진 쪽은 취소되어 결과에 반영되지 않음
+	 */
+	private <T> Mono<T> hedged(Supplier<Mono<T>> attempt) {
+		RequestHedger hedger = policy.hedger();
+		if ( hedger == null ) {
+			return attempt.get();
 		}
-		catch (WebClientResponseException e) {
-			log.error(
-					"[{}] API call failed: {} - {}",
-					getApiName(),
-					e.getStatusCode(),
-					e.getResponseBodyAsString()
-			);
-			throw new ExternalApiException(
-					String.format( "%s API call failed: %s", getApiName(), e.getMessage() ),
-					e
-			);
+
+		DistributedRateLimiter clusterRateLimiter = policy.clusterRateLimiter();
+		if ( clusterRateLimiter == null ) {
+			return hedger.hedge( attempt );
 		}
-		catch (Exception e) {
-			log.error( "[{}] Unexpected error during API call: {}", getApiName(), e.getMessage() );
+		return hedger.hedge( attempt, () -> clusterRateLimiter.acquire().then( attempt.get() ) );
+	}
+
+	/**
+	 * bulkhead → 로컬 / 클러스터 rate limiter 순서로 허용을 받은 뒤 요청
+	 * circuit breaker가 열려 있으면 허용을 기다리지 않고 바로 실패
+	 */
+	private <T> Mono<T> admitted(Mono<T> call) {
+		CircuitBreaker circuitBreaker = policy.circuitBreaker();
+		if ( circuitBreaker == null ) {
+			return isolated( limited( call ) );
+		}
+		return circuitBreaker.rejectIfOpen( isolated( limited( call ) ) );
+	}
+
+	/**
+	 * HTTP 호출 결과(실패 / 지연)를 circuit breaker에 반영
+	 * 허용을 모두 받은 뒤의 호출만 감싸므로 로컬 대기 시간은 느린 호출로, 대기 초과 거절은 실패로 세지 않음
+	 */
+	private <T> Mono<T> protect(Mono<T> exchange) {
+		CircuitBreaker circuitBreaker = policy.circuitBreaker();
+		if ( circuitBreaker == null ) {
+			return exchange;
+		}
+		return circuitBreaker.protect( exchange );
+	}
+
+	/**
+	 * bulkhead가 있으면 슬롯을 받은 뒤 rate limiter로 진행, 호출이 끝나거나 취소되면 슬롯 반환
+	 * 요청 하나가 전체 슬롯을 독차지하지 못하므로 동시 요청이 많아도 먼저 온 요청부터 끝남
+	 */
+	private <T> Mono<T> isolated(Mono<T> call) {
+		Bulkhead bulkhead = policy.bulkhead();
+		if ( bulkhead == null ) {
+			return call;
+		}
+
+		return Mono.usingWhen(
+				bulkhead.acquire(),
+				slot -> call,
+				slot -> Mono.fromRunnable( slot::release ),
+				(slot, error) -> Mono.fromRunnable( slot::release ),
+				slot -> Mono.fromRunnable( slot::release )
+		);
+	}
+
+	/**
+	 * rate limiter가 있으면 로컬 허용을 받은 뒤 클러스터 토큰을 받아 요청하고, 결과(429 / 지연 / 성공)를 limiter에 반영
+	 * 로컬에서 거절될 요청이 클러스터 토큰을 쓰지 않도록 로컬 허용을 먼저 받고, 지연 시간은 HTTP 요청 시작부터 재므로
+	 * 클러스터 대기 시간이나 대기 초과 실패는 동시 요청 한도 조절에 섞이지 않음.
+	 * 재시도도 매번 허용을 받으므로 재시도가 한도를 넘겨 트래픽을 키우지 않음
+	 */
+	private <T> Mono<T> limited(Mono<T> call) {
+		AdaptiveRateLimiter rateLimiter = policy.rateLimiter();
+		if ( rateLimiter == null ) {
+			return clusterLimited( call );
+		}
+
+		return Mono.usingWhen(
+				rateLimiter.acquire(),
+				permit -> clusterLimited( call.doOnSubscribe( subscription -> permit.markStarted() ) ),
+				permit -> Mono.fromRunnable( () -> permit.release( null ) ),
+				(permit, error) -> Mono.fromRunnable( () -> releaseOrCancel( permit, error ) ),
+				permit -> Mono.fromRunnable( permit::cancel )
+		);
+	}
+
+	/**
+	 * 클러스터 limiter가 있으면 클러스터 토큰을 받은 뒤 요청
+	 */
+	private <T> Mono<T> clusterLimited(Mono<T> call) {
+		DistributedRateLimiter clusterRateLimiter = policy.clusterRateLimiter();
+		if ( clusterRateLimiter == null ) {
+			return call;
+		}
+		return clusterRateLimiter.acquire().then( call );
+	}
+
+	/**
+	 * 클러스터 토큰을 받지 못해 요청하지 않았으면 한도 조절 없이 반환
+	 */
+	private void releaseOrCancel(AdaptiveRateLimiter.Permit permit, Throwable error) {
+		if ( error instanceof RateLimiterRejectedException ) {
+			permit.cancel();
+			return;
+		}
+		permit.release( error );
+	}
+
+	/**
+	 * 응답 버퍼를 String으로 변환하지 않고 Jackson이 UTF-8 바이트에서 바로 파싱 (읽은 뒤 버퍼 해제)
+	 */
+	protected <T> T readResponse(DataBuffer response, Class<T> responseType) {
+		log.debug( "[{}] API Response received: {} bytes", getApiName(), response.readableByteCount() );
+
+		try (InputStream body = response.asInputStream( true )) {
+			return objectMapper.readValue( body, responseType );
+		}
+		catch (IOException e) {
 			throw new ExternalApiException(
 					String.format( "%s unexpected error: %s", getApiName(), e.getMessage() ),
 					e
@@ -97,84 +280,50 @@ public abstract class AbstractWebClientApiClient implements ExternalApiClient {
 		}
 	}
 
-	/**
-	 * 실제 POST 요청 수행
-	 */
-	protected <T, R> R performPost(String url, T requestBody, Class<R> responseType) {
-		try {
-			log.debug( "[{}] API POST Request: {}", getApiName(), url );
-
-			String response = webClient.post()
-					.uri( url )
-					.bodyValue( requestBody )
-					.retrieve()
-					.bodyToMono( String.class )
-					.timeout( Duration.ofSeconds( TIMEOUT_SECONDS ) )
-					.block();
+	private ExternalApiException deadlineExceeded(Throwable cause) {
+		log.warn( "[{}] Request deadline exceeded, giving up API call", getApiName() );
+		return new ExternalApiException( String.format( "%s API call exceeded the request deadline", getApiName() ), cause );
+	}
 
-			return objectMapper.readValue( response, responseType );
+	private ExternalApiException emptyResponse() {
+		return new ExternalApiException( String.format( "%s returned an empty response", getApiName() ), null );
+	}
 
+	private Throwable toExternalApiException(Throwable e) {
+		if ( e instanceof ExternalApiException ) {
+			log.error( "[{}] Unexpected error during API call: {}", getApiName(), e.getMessage() );
+			return e;
 		}
-		catch (WebClientResponseException e) {
+
+		if ( e instanceof WebClientResponseException responseException ) {
 			log.error(
 					"[{}] API call failed: {} - {}",
 					getApiName(),
-					e.getStatusCode(),
-					e.getResponseBodyAsString()
+					responseException.getStatusCode(),
+					responseException.getResponseBodyAsString()
 			);
-			throw new ExternalApiException(
+			return new ExternalApiException(
 					String.format( "%s API call failed: %s", getApiName(), e.getMessage() ),
 					e
 			);
 		}
-		catch (Exception e) {
-			log.error( "[{}] Unexpected error: {}", getApiName(), e.getMessage() );
-			throw new ExternalApiException(
-					String.format( "%s unexpected error: %s", getApiName(), e.getMessage() ),
-					e
-			);
-		}
+
+		log.error( "[{}] Unexpected error during API call: {}", getApiName(), e.getMessage() );
+		return new ExternalApiException(
+				String.format( "%s unexpected error: %s", getApiName(), e.getMessage() ),
+				e
+		);
 	}
 
 	/**
-	 * 재시도 로직 (Exponential Backoff)
-	 */
-	private <T> T executeWithRetry(Supplier<T> apiCall) {
-		Exception lastException = null;
-
-		for ( int attempt = 1; attempt <= MAX_RETRY; attempt++ ) {
-			try {
-				return apiCall.get();
-			}
-			catch (Exception e) {
-				lastException = e;
-				log.warn(
-						"[{}] API call attempt {}/{} failed: {}",
-						getApiName(),
-						attempt,
-						MAX_RETRY,
-						e.getMessage()
-				);
-
-				if ( attempt < MAX_RETRY ) {
-					long delayMs = BASE_RETRY_DELAY_MS * attempt;
-					try {
-						log.debug( "[{}] Waiting {}ms before retry...", getApiName(), delayMs );
-						Thread.sleep( delayMs );
-					}
-					catch (InterruptedException ie) {
-						Thread.currentThread().interrupt();
-						throw new ExternalApiException( "Retry interrupted", ie );
-					}
-				}
-			}
+	 * 클라이언트별 재시도 정책 (설정이 없으면 기본 정책), 대기 중 스레드를 점유하지 않음
+	 */
+	private Retry retrySpec(RequestDeadline deadline) {
+		RetryPolicy retryPolicy = policy.retryPolicy();
+		if ( retryPolicy == null ) {
+			retryPolicy = RetryPolicy.defaults( getApiName() );
 		}
-
-		log.error( "[{}] API call failed after {} attempts", getApiName(), MAX_RETRY );
-		throw new ExternalApiException(
-				String.format( "%s API call failed after %d attempts", getApiName(), MAX_RETRY ),
-				lastException
-		);
+		return retryPolicy.toRetry( deadline );
 	}
 
 	/**
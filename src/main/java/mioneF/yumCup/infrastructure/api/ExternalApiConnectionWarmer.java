@@ -0,0 +1,79 @@
+package mioneF.yumCup.infrastructure.api;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 시작 시 외부 API 커넥션 미리 생성
+ * 첫 게임 요청의 Google 16건 fan-out이 TCP/TLS 핸드셰이크를 동시에 치르지 않도록
+ * 기본 URL로 HEAD 요청을 보내 풀에 keep-alive 커넥션을 채워 둠 (응답 상태는 무시).
+ * 커넥션 수는 WebClientConfig가 풀 설정으로 정함 (풀 크기 이내, HTTP/2는 요청을 multiplexing하므로 1개)
+ */
+@Slf4j
+public class ExternalApiConnectionWarmer {
+
+	private static final Duration WARMUP_TIMEOUT = Duration.ofSeconds( 10 );
+
+	private final WebClient kakaoWebClient;
+	private final WebClient googleWebClient;
+	private final int kakaoConnections;
+	private final int googleConnections;
+
+	public ExternalApiConnectionWarmer(
+			WebClient kakaoWebClient,
+			WebClient googleWebClient,
+			int kakaoConnections,
+			int googleConnections) {
+		this.kakaoWebClient = kakaoWebClient;
+		this.googleWebClient = googleWebClient;
+		this.kakaoConnections = kakaoConnections;
+		this.googleConnections = googleConnections;
+	}
+
+	/**
+	 * 시작을 지연시키지 않도록 비동기로 수행
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		Flux.merge(
+				warmUp( "Kakao Local API", kakaoWebClient, kakaoConnections ),
+				warmUp( "Google Places API", googleWebClient, googleConnections )
+		).subscribe();
+	}
+
+	Mono<Void> warmUp(String apiName, WebClient webClient, int connections) {
+		if ( connections <= 0 ) {
+			return Mono.empty();
+		}
+
+		long startedAt = System.currentTimeMillis();
+
+		return Flux.range( 0, connections )
+				.flatMap(
+						i -> webClient.head()
+								.uri( "/" )
+								.retrieve()
+								.toBodilessEntity()
+								.onErrorResume( e -> Mono.empty() ),
+						connections
+				)
+				.then()
+				.timeout( WARMUP_TIMEOUT )
+				.doOnSuccess( ignored -> log.info(
+						"[{}] Warmed up {} connections in {}ms",
+						apiName,
+						connections,
+						System.currentTimeMillis() - startedAt
+				) )
+				.onErrorResume( e -> {
+					log.warn( "[{}] Connection warm-up failed: {}", apiName, e.getMessage() );
+					return Mono.empty();
+				} );
+	}
+}
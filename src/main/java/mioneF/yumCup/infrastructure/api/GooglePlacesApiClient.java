@@ -1,10 +1,13 @@
 package mioneF.yumCup.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import mioneF.yumCup.infrastructure.api.resilience.ApiClientPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,11 +24,17 @@ public class GooglePlacesApiClient extends AbstractWebClientApiClient {
 	private static final String PLACE_FIELDS =
 			"rating,user_ratings_total,photos,price_level,opening_hours/open_now";
 
+	public GooglePlacesApiClient(WebClient webClient, ObjectMapper objectMapper, String apiKey) {
+		this( webClient, objectMapper, apiKey, ApiClientPolicy.unlimited() );
+	}
+
+	@Autowired
 	public GooglePlacesApiClient(
 			@Qualifier("googleWebClient") WebClient webClient,
 			ObjectMapper objectMapper,
-			@Value("${google.api.key}") String apiKey) {
-		super( webClient, objectMapper );
+			@Value("${google.api.key}") String apiKey,
+			@Qualifier("googleApiPolicy") ApiClientPolicy policy) {
+		super( webClient, objectMapper, policy );
 		this.apiKey = apiKey;
 	}
 
@@ -37,6 +46,14 @@ public class GooglePlacesApiClient extends AbstractWebClientApiClient {
 		return get( "/maps/api/place/findplacefromtext/json", params, responseType );
 	}
 
+	/**
+	 * Google Places API - Find Place 요청 (non-blocking)
+	 */
+	public <T> Mono<T> findPlaceAsync(String name, double lat, double lng, Class<T> responseType) {
+		Map<String, String> params = buildFindPlaceParams( name, lat, lng );
+		return getAsync( "/maps/api/place/findplacefromtext/json", params, responseType );
+	}
+
 	/**
 	 * Find Place API 쿼리 파라미터 생성
 	 */
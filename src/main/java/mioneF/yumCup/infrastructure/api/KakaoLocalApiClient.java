@@ -1,9 +1,12 @@
 package mioneF.yumCup.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import mioneF.yumCup.infrastructure.api.resilience.ApiClientPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,10 +20,16 @@ public class KakaoLocalApiClient extends AbstractWebClientApiClient {
 	private static final String CATEGORY_GROUP_CODE = "FD6";
 	private static final int PAGE_SIZE = 15;
 
+	public KakaoLocalApiClient(WebClient webClient, ObjectMapper objectMapper) {
+		this( webClient, objectMapper, ApiClientPolicy.unlimited() );
+	}
+
+	@Autowired
 	public KakaoLocalApiClient(
 			@Qualifier("kakaoWebClient") WebClient webClient,
-			ObjectMapper objectMapper) {
-		super( webClient, objectMapper );
+			ObjectMapper objectMapper,
+			@Qualifier("kakaoApiPolicy") ApiClientPolicy policy) {
+		super( webClient, objectMapper, policy );
 	}
 
 	/**
@@ -37,6 +46,20 @@ public class KakaoLocalApiClient extends AbstractWebClientApiClient {
 		return get( "/v2/local/search/category.json", params, responseType );
 	}
 
+	/**
+	 * 카테고리 기반 장소 검색 (non-blocking)
+	 */
+	public <T> Mono<T> searchByCategoryAsync(
+			double latitude,
+			double longitude,
+			int radius,
+			int page,
+			Class<T> responseType) {
+
+		Map<String, String> params = buildCategorySearchParams( latitude, longitude, radius, page );
+		return getAsync( "/v2/local/search/category.json", params, responseType );
+	}
+
 	/**
 	 * 카테고리 검색 쿼리 파라미터 생성
 	 */
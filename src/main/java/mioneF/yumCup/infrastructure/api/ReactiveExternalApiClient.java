@@ -0,0 +1,26 @@
+package mioneF.yumCup.infrastructure.api;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * non-blocking 외부 API 클라이언트 (구독 시점에 요청, 호출 스레드를 점유하지 않음)
+ */
+public interface ReactiveExternalApiClient {
+
+	/**
+	 * GET 요청 수행
+	 */
+	<T> Mono<T> getAsync(String url, Class<T> responseType);
+
+	/**
+	 * GET 요청 수행 (쿼리 파라미터 포함)
+	 */
+	<T> Mono<T> getAsync(String baseUrl, Map<String, String> queryParams, Class<T> responseType);
+
+	/**
+	 * POST 요청 수행
+	 */
+	<T, R> Mono<R> postAsync(String url, T requestBody, Class<R> responseType);
+}
@@ -0,0 +1,304 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.exception.RateLimiterRejectedException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 API별 클라이언트 측 rate limiter
+ * token bucket으로 초당 요청 수를 제한하고, 동시 요청 수 한도는 AIMD로 조절
+ * (429 응답이면 절반으로, 응답이 느리거나 타임아웃이면 10% 감소, 한도까지 사용 중에 정상 응답이면 1/limit 씩 증가).
+ * 허용을 기다리는 요청은 스레드를 점유하지 않고 큐에서 대기하며, 대기 시간은 메트릭으로 기록
+ */
+@Slf4j
+public class AdaptiveRateLimiter {
+
+	private static final double THROTTLED_DECREASE = 0.5;
+	private static final double SLOW_DECREASE = 0.9;
+
+	private final String name;
+	private final double permitsPerNano;
+	private final double burst;
+	private final int minLimit;
+	private final int maxLimit;
+	private final long latencyThresholdNanos;
+	private final int maxQueueSize;
+	private final Duration maxQueueTime;
+
+	private final Timer queueTimer;
+	private final Counter rejectedCounter;
+	private final Counter throttledCounter;
+
+	// 아래 상태는 this로 보호
+	private final Deque<Waiter> waiters = new ArrayDeque<>();
+	private double tokens;
+	private long refilledAtNanos;
+	private double limit;
+	private int inFlight;
+	private boolean drainScheduled;
+
+	@Builder
+	private AdaptiveRateLimiter(
+			String name,
+			double permitsPerSecond,
+			int burst,
+			int initialLimit,
+			int minLimit,
+			int maxLimit,
+			Duration latencyThreshold,
+			int maxQueueSize,
+			Duration maxQueueTime,
+			MeterRegistry meterRegistry) {
+		if ( permitsPerSecond <= 0 ) {
+			throw new IllegalArgumentException( "permitsPerSecond must be positive: " + permitsPerSecond );
+		}
+
+		this.name = Objects.requireNonNull( name );
+		this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos( 1 );
+		this.burst = Math.max( 1, burst );
+		this.minLimit = Math.max( 1, minLimit );
+		this.maxLimit = Math.max( this.minLimit, maxLimit );
+		this.latencyThresholdNanos = latencyThreshold.toNanos();
+		this.maxQueueSize = maxQueueSize;
+		this.maxQueueTime = maxQueueTime;
+
+		this.tokens = this.burst;
+		this.refilledAtNanos = System.nanoTime();
+		this.limit = Math.min( this.maxLimit, Math.max( this.minLimit, initialLimit ) );
+
+		this.queueTimer = Timer.builder( "yumcup.external.api.limiter.queue" )
+				.description( "Time spent waiting for a rate limiter permit" )
+				.tag( "api", name )
+				.publishPercentiles( 0.5, 0.99 )
+				.register( meterRegistry );
+		this.rejectedCounter = meterRegistry.counter( "yumcup.external.api.limiter.rejected", "api", name );
+		this.throttledCounter = meterRegistry.counter( "yumcup.external.api.limiter.throttled", "api", name );
+
+		Gauge.builder( "yumcup.external.api.limiter.limit", this, AdaptiveRateLimiter::currentLimit )
+				.description( "Current adaptive concurrency limit" )
+				.tag( "api", name )
+				.register( meterRegistry );
+		Gauge.builder( "yumcup.external.api.limiter.inflight", this, AdaptiveRateLimiter::inFlight )
+				.tag( "api", name )
+				.register( meterRegistry );
+		Gauge.builder( "yumcup.external.api.limiter.queued", this, AdaptiveRateLimiter::queued )
+				.tag( "api", name )
+				.register( meterRegistry );
+	}
+
+	/**
+	 * 허용(permit) 획득, 허용될 때까지 큐에서 대기
+	 * 큐가 가득 찼거나 최대 대기 시간을 넘기면 RateLimiterRejectedException (재시도하지 않음)
+	 */
+	public Mono<Permit> acquire() {
+		return Mono.<Permit>create( sink -> {
+					Waiter waiter = new Waiter( sink, System.nanoTime() );
+					sink.onCancel( () -> cancel( waiter ) );
+					enqueue( waiter );
+				} )
+				.doOnDiscard( Permit.class, Permit::cancel )
+				.timeout( maxQueueTime )
+				.onErrorMap( TimeoutException.class, e -> {
+					rejectedCounter.increment();
+					return new RateLimiterRejectedException(
+							String.format( "%s rate limiter wait exceeded %dms", name, maxQueueTime.toMillis() )
+					);
+				} );
+	}
+
+	public synchronized double currentLimit() {
+		return limit;
+	}
+
+	public synchronized int inFlight() {
+		return inFlight;
+	}
+
+	public synchronized int queued() {
+		return waiters.size();
+	}
+
+	private void enqueue(Waiter waiter) {
+		boolean full;
+		synchronized ( this ) {
+			full = waiters.size() >= maxQueueSize;
+			if ( !full ) {
+				waiters.addLast( waiter );
+			}
+		}
+
+		if ( full ) {
+			rejectedCounter.increment();
+			waiter.sink.error( new RateLimiterRejectedException(
+					String.format( "%s rate limiter queue is full (%d)", name, maxQueueSize )
+			) );
+			return;
+		}
+		drain();
+	}
+
+	private void cancel(Waiter waiter) {
+		if ( waiter.claim() ) {
+			synchronized ( this ) {
+				waiters.remove( waiter );
+			}
+		}
+	}
+
+	/**
+	 * 동시 요청 한도와 토큰이 허락하는 만큼 대기 순서대로 허용
+	 * 토큰만 부족하면 다음 토큰이 생기는 시점에 다시 시도하도록 예약
+	 */
+	private void drain() {
+		List<Waiter> granted = new ArrayList<>();
+		long retryInNanos = 0;
+		long now = System.nanoTime();
+
+		synchronized ( this ) {
+			refill( now );
+
+			while ( !waiters.isEmpty() && inFlight < (int) limit && tokens >= 1 ) {
+				Waiter waiter = waiters.pollFirst();
+				if ( waiter.claim() ) {
+					tokens -= 1;
+					inFlight++;
+					granted.add( waiter );
+				}
+			}
+
+			if ( !waiters.isEmpty() && inFlight < (int) limit && !drainScheduled ) {
+				drainScheduled = true;
+				retryInNanos = Math.max( 1, (long) ( ( 1 - tokens ) / permitsPerNano ) );
+			}
+		}
+
+		for ( Waiter waiter : granted ) {
+			queueTimer.record( now - waiter.enqueuedAtNanos, TimeUnit.NANOSECONDS );
+			waiter.sink.success( new Permit( now ) );
+		}
+
+		if ( retryInNanos > 0 ) {
+			Schedulers.parallel().schedule( this::scheduledDrain, retryInNanos, TimeUnit.NANOSECONDS );
+		}
+	}
+
+	private void scheduledDrain() {
+		synchronized ( this ) {
+			drainScheduled = false;
+		}
+		drain();
+	}
+
+	private void refill(long now) {
+		tokens = Math.min( burst, tokens + ( now - refilledAtNanos ) * permitsPerNano );
+		refilledAtNanos = now;
+	}
+
+	/**
+	 * 요청 결과로 동시 요청 한도 조절 (AIMD)
+	 */
+	private void complete(long latencyNanos, Throwable error, boolean cancelled) {
+		synchronized ( this ) {
+			int previousInFlight = inFlight--;
+
+			if ( isThrottled( error ) ) {
+				limit = Math.max( minLimit, limit * THROTTLED_DECREASE );
+				tokens = 0;
+			}
+			else if ( isTimeout( error ) || latencyNanos > latencyThresholdNanos ) {
+				limit = Math.max( minLimit, limit * SLOW_DECREASE );
+			}
+			else if ( error == null && !cancelled && previousInFlight >= (int) limit ) {
+				limit = Math.min( maxLimit, limit + 1.0 / limit );
+			}
+		}
+
+		if ( isThrottled( error ) ) {
+			throttledCounter.increment();
+			log.warn( "[{}] Throttled by provider, concurrency limit reduced to {}", name, (int) currentLimit() );
+		}
+		drain();
+	}
+
+	private static boolean isThrottled(Throwable error) {
+		return error instanceof WebClientResponseException responseException
+				&& responseException.getStatusCode().value() == 429;
+	}
+
+	private static boolean isTimeout(Throwable error) {
+		return error instanceof TimeoutException
+				|| error != null && error.getCause() instanceof TimeoutException;
+	}
+
+	/**
+	 * 획득한 허용, 요청이 끝나면 결과와 함께 한 번만 반환
+	 */
+	public final class Permit {
+
+		private volatile long startedAtNanos;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Permit(long acquiredAtNanos) {
+			this.startedAtNanos = acquiredAtNanos;
+		}
+
+		/**
+		 * 지연 시간을 지금부터 잼 (허용을 받은 뒤 요청 전까지의 대기 시간은 한도 조절에서 제외)
+		 */
+		public void markStarted() {
+			startedAtNanos = System.nanoTime();
+		}
+
+		/**
+		 * 요청 완료 (error가 null이면 성공)
+		 */
+		public void release(Throwable error) {
+			if ( released.compareAndSet( false, true ) ) {
+				complete( System.nanoTime() - startedAtNanos, error, false );
+			}
+		}
+
+		/**
+		 * 요청 취소 (한도 조절 없이 반환)
+		 */
+		public void cancel() {
+			if ( released.compareAndSet( false, true ) ) {
+				complete( 0, null, true );
+			}
+		}
+	}
+
+	private static final class Waiter {
+
+		private final MonoSink<Permit> sink;
+		private final long enqueuedAtNanos;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		private Waiter(MonoSink<Permit> sink, long enqueuedAtNanos) {
+			this.sink = sink;
+			this.enqueuedAtNanos = enqueuedAtNanos;
+		}
+
+		private boolean claim() {
+			return claimed.compareAndSet( false, true );
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import lombok.Builder;
+
+/**
+ * 외부 API 클라이언트별 호출 정책 (없는 항목은 적용하지 않음)
+ */
+@Builder
+public record ApiClientPolicy(
+		AdaptiveRateLimiter rateLimiter,
+		DistributedRateLimiter clusterRateLimiter,
+		CircuitBreaker circuitBreaker,
+		RequestHedger hedger,
+		Bulkhead bulkhead,
+		RetryPolicy retryPolicy
+) {
+
+	/**
+	 * 제한 없는 기본 정책 (테스트 / 직접 생성용, 재시도는 RetryPolicy 기본값)
+	 */
+	public static ApiClientPolicy unlimited() {
+		return ApiClientPolicy.builder().build();
+	}
+}
@@ -0,0 +1,264 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.exception.BulkheadFullException;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 API별 프로세스 내 동시 호출 한도 (bulkhead)
+ * 전체 in-flight 호출을 maxConcurrent로 제한하고, 들어온 요청(RequestDeadline) 하나가 maxPerRequest 이상 차지하지 못하게 함.
+ * 빈 슬롯은 먼저 들어온 요청(RequestDeadline.sequence)의 대기자에게 먼저 배정하므로 부하가 몰려도 먼저 온 요청부터 끝남 (모두 같이 느려지지 않음).
+ * 순서는 요청이 들어온 시점 기준이므로, 호출 사이에 잠시 대기자 / in-flight가 없던 요청(재시도 등)도 원래 순서를 유지함.
+ * 대기열이 가득 찼거나 최대 대기 시간을 넘기면 BulkheadFullException으로 바로 실패 (재시도하지 않음)
+ */
+@Slf4j
+public class Bulkhead {
+
+	private final String name;
+	private final int maxConcurrent;
+	private final int maxPerRequest;
+	private final int maxQueueSize;
+	private final Duration maxWait;
+
+	private final Timer waitTimer;
+	private final Counter queueFullCounter;
+	private final Counter waitTimeoutCounter;
+
+	// 아래 상태는 this로 보호
+	// 요청 순서(sequence)별 그룹 (대기자와 in-flight 호출이 모두 없으면 제거, 다시 들어오면 같은 순서로 추가)
+	private final NavigableMap<Long, Group> groups = new TreeMap<>();
+	private int inFlight;
+	private int queued;
+
+	@Builder
+	private Bulkhead(
+			String name,
+			int maxConcurrent,
+			int maxPerRequest,
+			int maxQueueSize,
+			Duration maxWait,
+			MeterRegistry meterRegistry) {
+		if ( maxConcurrent <= 0 ) {
+			throw new IllegalArgumentException( "maxConcurrent must be positive: " + maxConcurrent );
+		}
+
+		this.name = Objects.requireNonNull( name );
+		this.maxConcurrent = maxConcurrent;
+		this.maxPerRequest = maxPerRequest > 0 ? Math.min( maxPerRequest, maxConcurrent ) : maxConcurrent;
+		this.maxQueueSize = maxQueueSize;
+		this.maxWait = maxWait;
+
+		this.waitTimer = Timer.builder( "yumcup.external.api.bulkhead.wait" )
+				.description( "Time spent waiting for a bulkhead slot" )
+				.tag( "api", name )
+				.publishPercentiles( 0.5, 0.99 )
+				.register( meterRegistry );
+		this.queueFullCounter = meterRegistry.counter(
+				"yumcup.external.api.bulkhead.rejected", "api", name, "reason", "queue_full"
+		);
+		this.waitTimeoutCounter = meterRegistry.counter(
+				"yumcup.external.api.bulkhead.rejected", "api", name, "reason", "wait_timeout"
+		);
+
+		Gauge.builder( "yumcup.external.api.bulkhead.inflight", this, Bulkhead::inFlight )
+				.tag( "api", name )
+				.register( meterRegistry );
+		Gauge.builder( "yumcup.external.api.bulkhead.queued", this, Bulkhead::queued )
+				.tag( "api", name )
+				.register( meterRegistry );
+	}
+
+	/**
+	 * 슬롯 획득, 빈 슬롯이 배정될 때까지 스레드를 점유하지 않고 대기
+	 * Reactor Context의 RequestDeadline을 요청 구분에 사용 (게임 시작 요청 / 백그라운드 갱신 / 보강 주기마다 하나).
+	 * 마감 없이 들어온 호출은 호출마다 별도 요청으로 취급 (호출 시점의 순서를 새로 부여)
+	 */
+	public Mono<Slot> acquire() {
+		return Mono.<Slot>deferContextual( context -> {
+					long requestKey = RequestDeadline.from( context )
+							.map( RequestDeadline::sequence )
+							.orElseGet( RequestDeadline::nextSequence );
+					return Mono.<Slot>create( sink -> {
+						Waiter waiter = new Waiter( sink, requestKey, System.nanoTime() );
+						sink.onCancel( () -> cancel( waiter ) );
+						enqueue( waiter );
+					} );
+				} )
+				.doOnDiscard( Slot.class, Slot::release )
+				.timeout( maxWait )
+				.onErrorMap( TimeoutException.class, e -> {
+					waitTimeoutCounter.increment();
+					return new BulkheadFullException(
+							String.format( "%s bulkhead wait exceeded %dms", name, maxWait.toMillis() )
+					);
+				} );
+	}
+
+	public synchronized int inFlight() {
+		return inFlight;
+	}
+
+	public synchronized int queued() {
+		return queued;
+	}
+
+	private void enqueue(Waiter waiter) {
+		boolean full;
+		synchronized ( this ) {
+			full = queued >= maxQueueSize;
+			if ( !full ) {
+				groups.computeIfAbsent( waiter.requestKey, key -> new Group() ).waiters.addLast( waiter );
+				queued++;
+			}
+		}
+
+		if ( full ) {
+			queueFullCounter.increment();
+			log.warn( "[{}] Bulkhead queue is full, shedding call", name );
+			waiter.sink.error( new BulkheadFullException(
+					String.format( "%s bulkhead queue is full (%d)", name, maxQueueSize )
+			) );
+			return;
+		}
+		drain();
+	}
+
+	private void cancel(Waiter waiter) {
+		if ( waiter.claim() ) {
+			synchronized ( this ) {
+				Group group = groups.get( waiter.requestKey );
+				if ( group != null && group.waiters.remove( waiter ) ) {
+					queued--;
+					removeIfIdle( waiter.requestKey, group );
+				}
+			}
+		}
+	}
+
+	/**
+	 * 빈 슬롯을 먼저 들어온 요청부터 배정, 요청별 한도에 닿은 요청은 건너뜀
+	 */
+	private void drain() {
+		List<Granted> granted = new ArrayList<>();
+		long now = System.nanoTime();
+
+		synchronized ( this ) {
+			Iterator<Map.Entry<Long, Group>> iterator = groups.entrySet().iterator();
+			while ( inFlight < maxConcurrent && iterator.hasNext() ) {
+				Map.Entry<Long, Group> entry = iterator.next();
+				Group group = entry.getValue();
+
+				while ( inFlight < maxConcurrent && group.inFlight < maxPerRequest && !group.waiters.isEmpty() ) {
+					Waiter waiter = group.waiters.pollFirst();
+					queued--;
+					if ( waiter.claim() ) {
+						group.inFlight++;
+						inFlight++;
+						granted.add( new Granted( waiter, new Slot( entry.getKey() ) ) );
+					}
+				}
+
+				if ( group.isIdle() ) {
+					iterator.remove();
+				}
+			}
+		}
+
+		for ( Granted grant : granted ) {
+			waitTimer.record( now - grant.waiter.enqueuedAtNanos, TimeUnit.NANOSECONDS );
+			grant.waiter.sink.success( grant.slot );
+		}
+	}
+
+	private void complete(long requestKey) {
+		synchronized ( this ) {
+			inFlight--;
+			Group group = groups.get( requestKey );
+			if ( group != null ) {
+				group.inFlight--;
+				removeIfIdle( requestKey, group );
+			}
+		}
+		drain();
+	}
+
+	private void removeIfIdle(long requestKey, Group group) {
+		if ( group.isIdle() ) {
+			groups.remove( requestKey );
+		}
+	}
+
+	/**
+	 * 획득한 슬롯, 호출이 끝나거나 취소되면 한 번만 반환
+	 */
+	public final class Slot {
+
+		private final long requestKey;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Slot(long requestKey) {
+			this.requestKey = requestKey;
+		}
+
+		public void release() {
+			if ( released.compareAndSet( false, true ) ) {
+				complete( requestKey );
+			}
+		}
+	}
+
+	/**
+	 * 요청 하나의 대기자와 사용 중인 슬롯 수
+	 */
+	private static final class Group {
+
+		private final Deque<Waiter> waiters = new ArrayDeque<>();
+		private int inFlight;
+
+		private boolean isIdle() {
+			return inFlight == 0 && waiters.isEmpty();
+		}
+	}
+
+	private record Granted(Waiter waiter, Slot slot) {
+	}
+
+	private static final class Waiter {
+
+		private final MonoSink<Slot> sink;
+		private final long requestKey;
+		private final long enqueuedAtNanos;
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		private Waiter(MonoSink<Slot> sink, long requestKey, long enqueuedAtNanos) {
+			this.sink = sink;
+			this.requestKey = requestKey;
+			this.enqueuedAtNanos = enqueuedAtNanos;
+		}
+
+		private boolean claim() {
+			return claimed.compareAndSet( false, true );
+		}
+	}
+}
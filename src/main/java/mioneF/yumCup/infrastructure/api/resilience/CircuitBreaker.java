@@ -0,0 +1,309 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.exception.CircuitBreakerOpenException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 API별 circuit breaker
+ * 최근 windowSize 건의 호출 중 실패(5xx / 429 / 타임아웃 / 연결 실패) 또는 느린 응답 비율이 임계치를 넘으면 열림(OPEN).
+ * 열린 동안은 호출하지 않고 바로 CircuitBreakerOpenException, openDuration 이후 일부 호출만 시험(HALF_OPEN)하여
+ * 모두 성공하면 닫고(CLOSED) 하나라도 실패하면 다시 엶. 상태 전이는 로그와 메트릭으로 기록
+ */
+@Slf4j
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, HALF_OPEN, OPEN
+	}
+
+	private final String name;
+	private final int windowSize;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final double slowCallRateThreshold;
+	private final long slowCallNanos;
+	private final long openNanos;
+	private final int halfOpenCalls;
+	private final MeterRegistry meterRegistry;
+
+	private final Counter rejectedCounter;
+
+	// 아래 상태는 this로 보호
+	private final boolean[] failed;
+	private final boolean[] slow;
+	private int recorded;
+	private int next;
+	private int failures;
+	private int slowCalls;
+	private State state = State.CLOSED;
+	private long generation;
+	private long openUntilNanos;
+	private int halfOpenInFlight;
+	private int halfOpenSuccesses;
+
+	@Builder
+	private CircuitBreaker(
+			String name,
+			int windowSize,
+			int minimumCalls,
+			double failureRateThreshold,
+			double slowCallRateThreshold,
+			Duration slowCallThreshold,
+			Duration openDuration,
+			int halfOpenCalls,
+			MeterRegistry meterRegistry) {
+		if ( windowSize <= 0 ) {
+			throw new IllegalArgumentException( "windowSize must be positive: " + windowSize );
+		}
+
+		this.name = Objects.requireNonNull( name );
+		this.windowSize = windowSize;
+		this.minimumCalls = Math.max( 1, Math.min( minimumCalls, windowSize ) );
+		this.failureRateThreshold = failureRateThreshold;
+		this.slowCallRateThreshold = slowCallRateThreshold;
+		this.slowCallNanos = slowCallThreshold.toNanos();
+		this.openNanos = openDuration.toNanos();
+		this.halfOpenCalls = Math.max( 1, halfOpenCalls );
+		this.meterRegistry = meterRegistry;
+
+		this.failed = new boolean[windowSize];
+		this.slow = new boolean[windowSize];
+
+		this.rejectedCounter = meterRegistry.counter( "yumcup.external.api.circuit.rejected", "api", name );
+
+		Gauge.builder( "yumcup.external.api.circuit.state", this, breaker -> breaker.state().ordinal() )
+				.description( "Circuit breaker state (0: closed, 1: half-open, 2: open)" )
+				.tag( "api", name )
+				.register( meterRegistry );
+	}
+
+	/**
+	 * 구독 시점에 호출 가능 여부를 확인하고, 호출 결과(성공 / 실패 / 소요 시간)를 기록
+	 * 열려 있으면 call을 구독하지 않고 CircuitBreakerOpenException
+	 */
+	public <T> Mono<T> protect(Mono<T> call) {
+		return Mono.usingWhen(
+				Mono.fromCallable( this::attempt ),
+				attempt -> call,
+				attempt -> Mono.fromRunnable( () -> attempt.complete( null ) ),
+				(attempt, error) -> Mono.fromRunnable( () -> attempt.complete( error ) ),
+				attempt -> Mono.fromRunnable( attempt::cancel )
+		);
+	}
+
+	/**
+	 * 열려 있으면 call을 구독하지 않고 바로 CircuitBreakerOpenException (결과는 기록하지 않음)
+	 * bulkhead / rate limiter 앞에 두어 열린 동안 허용을 기다리거나 토큰을 쓰지 않게 함
+	 */
+	public <T> Mono<T> rejectIfOpen(Mono<T> call) {
+		return Mono.defer( () -> {
+			if ( isOpen() ) {
+				rejectedCounter.increment();
+				return Mono.error( new CircuitBreakerOpenException(
+						String.format( "%s circuit breaker is %s", name, State.OPEN )
+				) );
+			}
+			return call;
+		} );
+	}
+
+	/**
+	 * 현재 상태, open 시간이 지났으면 HALF_OPEN (다음 호출부터 시험 호출 허용)
+	 */
+	public State state() {
+		State from;
+		synchronized ( this ) {
+			if ( state != State.OPEN || System.nanoTime() < openUntilNanos ) {
+				return state;
+			}
+			from = transition( State.HALF_OPEN );
+		}
+		recordTransition( from, State.HALF_OPEN );
+		return State.HALF_OPEN;
+	}
+
+	/**
+	 * 호출을 막고 있는지 여부 (open 시간이 지나 시험 호출이 가능하면 false)
+	 */
+	public boolean isOpen() {
+		return state() == State.OPEN;
+	}
+
+	private Attempt attempt() {
+		State current = state();
+
+		synchronized ( this ) {
+			current = state;
+			if ( current == State.CLOSED ) {
+				return new Attempt( generation, false );
+			}
+			if ( current == State.HALF_OPEN && halfOpenInFlight < halfOpenCalls ) {
+				halfOpenInFlight++;
+				return new Attempt( generation, true );
+			}
+		}
+
+		rejectedCounter.increment();
+		throw new CircuitBreakerOpenException( String.format( "%s circuit breaker is %s", name, current ) );
+	}
+
+	/**
+	 * 호출 결과 반영, 다른 상태에서 시작된 호출의 결과는 무시
+	 */
+	private void complete(Attempt attempt, long latencyNanos, Throwable error, boolean cancelled) {
+		boolean failure = !cancelled && isFailure( error );
+		boolean slowCall = !cancelled && !failure && error == null && latencyNanos > slowCallNanos;
+		boolean ignored = cancelled || !failure && error != null;
+
+		State from = null;
+		State to = null;
+
+		synchronized ( this ) {
+			if ( attempt.generation != generation ) {
+				return;
+			}
+
+			if ( attempt.trial ) {
+				halfOpenInFlight--;
+				if ( failure || slowCall ) {
+					to = State.OPEN;
+				}
+				else if ( !ignored && ++halfOpenSuccesses >= halfOpenCalls ) {
+					to = State.CLOSED;
+				}
+			}
+			else if ( !ignored ) {
+				record( failure, slowCall );
+				if ( shouldOpen() ) {
+					to = State.OPEN;
+				}
+			}
+
+			if ( to != null ) {
+				from = transition( to );
+			}
+		}
+
+		if ( to != null ) {
+			recordTransition( from, to );
+		}
+	}
+
+	private void record(boolean failure, boolean slowCall) {
+		if ( recorded == windowSize ) {
+			failures -= failed[next] ? 1 : 0;
+			slowCalls -= slow[next] ? 1 : 0;
+		}
+		else {
+			recorded++;
+		}
+
+		failed[next] = failure;
+		slow[next] = slowCall;
+		failures += failure ? 1 : 0;
+		slowCalls += slowCall ? 1 : 0;
+		next = ( next + 1 ) % windowSize;
+	}
+
+	private boolean shouldOpen() {
+		return recorded >= minimumCalls
+				&& ( (double) failures / recorded >= failureRateThreshold
+				|| (double) slowCalls / recorded >= slowCallRateThreshold );
+	}
+
+	/**
+	 * 상태 변경 (this 잠금 안에서 호출), 이전 상태 반환
+	 */
+	private State transition(State to) {
+		State from = state;
+		state = to;
+		generation++;
+		halfOpenInFlight = 0;
+		halfOpenSuccesses = 0;
+
+		if ( to == State.OPEN ) {
+			openUntilNanos = System.nanoTime() + openNanos;
+		}
+		if ( to == State.CLOSED ) {
+			recorded = 0;
+			next = 0;
+			failures = 0;
+			slowCalls = 0;
+		}
+		return from;
+	}
+
+	private void recordTransition(State from, State to) {
+		if ( to == State.OPEN ) {
+			log.warn(
+					"[{}] Circuit breaker {} -> {} for {}ms",
+					name,
+					from,
+					to,
+					TimeUnit.NANOSECONDS.toMillis( openNanos )
+			);
+		}
+		else {
+			log.info( "[{}] Circuit breaker {} -> {}", name, from, to );
+		}
+
+		meterRegistry.counter(
+				"yumcup.external.api.circuit.transitions",
+				"api", name,
+				"from", from.name(),
+				"to", to.name()
+		).increment();
+	}
+
+	/**
+	 * 서비스 상태 이상으로 볼 실패인지 여부 (HTTP 호출에서 난 5xx / 429 / 타임아웃 / 연결 실패만)
+	 * 그 외 4xx나 응답 처리 오류, 로컬 limiter 대기 초과(TimeoutException을 감싼 ExternalApiException) 등은
+	 * 성공 / 실패 어느 쪽으로도 세지 않음
+	 */
+	private static boolean isFailure(Throwable error) {
+		if ( error instanceof WebClientResponseException responseException ) {
+			return responseException.getStatusCode().is5xxServerError()
+					|| responseException.getStatusCode().value() == 429;
+		}
+		return error instanceof TimeoutException
+				|| error instanceof WebClientRequestException;
+	}
+
+	private final class Attempt {
+
+		private final long generation;
+		private final boolean trial;
+		private final long startedAtNanos = System.nanoTime();
+		private final AtomicBoolean completed = new AtomicBoolean();
+
+		private Attempt(long generation, boolean trial) {
+			this.generation = generation;
+			this.trial = trial;
+		}
+
+		private void complete(Throwable error) {
+			if ( completed.compareAndSet( false, true ) ) {
+				CircuitBreaker.this.complete( this, System.nanoTime() - startedAtNanos, error, false );
+			}
+		}
+
+		private void cancel() {
+			if ( completed.compareAndSet( false, true ) ) {
+				CircuitBreaker.this.complete( this, 0, null, true );
+			}
+		}
+	}
+}
@@ -0,0 +1,253 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.exception.RateLimiterRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Redis 기반 클러스터 단위 token bucket (blue/green 인스턴스가 같은 API 키 할당량을 공유)
+ * 토큰은 Lua 스크립트로 원자적으로 꺼내며, 한 번에 batchSize개씩 받아 로컬에서 나눠 쓰므로
+ * 호출마다 Redis를 거치지 않음 (받은 토큰은 batchTtl 안에 쓰지 않으면 버림).
+ * Redis 장애 시나 응답이 commandTimeout 안에 오지 않으면 인스턴스 몫으로 설정한 로컬 token bucket으로 동작하고, 잠시 뒤 Redis를 다시 시도
+ */
+@Slf4j
+public class DistributedRateLimiter {
+
+	private static final String KEY_PREFIX = "ratelimit:";
+
+	// 경과 시간만큼 토큰을 채운 뒤 최대 ARGV[3]개를 꺼냄, {꺼낸 수, 다음 토큰까지 대기(ms)} 반환
+	private static final DefaultRedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+			"local rate = tonumber(ARGV[1]) "
+					+ "local burst = tonumber(ARGV[2]) "
+					+ "local requested = tonumber(ARGV[3]) "
+					+ "local time = redis.call('time') "
+					+ "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+					+ "local bucket = redis.call('hmget', KEYS[1], 'tokens', 'ts') "
+					+ "local tokens = tonumber(bucket[1]) or burst "
+					+ "local ts = tonumber(bucket[2]) or now "
+					+ "tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000) "
+					+ "local granted = math.min(requested, math.floor(tokens)) "
+					+ "tokens = tokens - granted "
+					+ "redis.call('hset', KEYS[1], 'tokens', tostring(tokens), 'ts', now) "
+					+ "redis.call('pexpire', KEYS[1], math.ceil(burst * 1000 / rate) + 1000) "
+					+ "local wait = 0 "
+					+ "if granted == 0 then wait = math.ceil((1 - tokens) * 1000 / rate) end "
+					+ "return {granted, wait}",
+			List.class
+	);
+
+	private final String name;
+	private final StringRedisTemplate redisTemplate;
+	private final double permitsPerSecond;
+	private final int burst;
+	private final int batchSize;
+	private final long batchTtlNanos;
+	private final long maxWaitNanos;
+	private final long redisRetryNanos;
+	private final Duration commandTimeout;
+	private final MeterRegistry meterRegistry;
+
+	private final ReentrantLock fetchLock = new ReentrantLock();
+
+	// 아래 상태는 this로 보호
+	private int localTokens;
+	private long localTokensExpireAtNanos;
+	private long redisUnavailableUntilNanos;
+
+	// Redis 장애 시 로컬 token bucket
+	private final double fallbackPermitsPerNano;
+	private final double fallbackBurst;
+	private double fallbackTokens;
+	private long fallbackRefilledAtNanos;
+
+	@Builder
+	private DistributedRateLimiter(
+			String name,
+			StringRedisTemplate redisTemplate,
+			double permitsPerSecond,
+			int burst,
+			int batchSize,
+			Duration batchTtl,
+			double fallbackPermitsPerSecond,
+			Duration maxWait,
+			Duration redisRetryInterval,
+			Duration commandTimeout,
+			MeterRegistry meterRegistry) {
+		if ( permitsPerSecond <= 0 || fallbackPermitsPerSecond <= 0 ) {
+			throw new IllegalArgumentException( "permitsPerSecond and fallbackPermitsPerSecond must be positive" );
+		}
+
+		this.name = Objects.requireNonNull( name );
+		this.redisTemplate = redisTemplate;
+		this.permitsPerSecond = permitsPerSecond;
+		this.burst = Math.max( 1, burst );
+		this.batchSize = Math.max( 1, Math.min( batchSize, this.burst ) );
+		this.batchTtlNanos = batchTtl.toNanos();
+		this.maxWaitNanos = maxWait.toNanos();
+		this.redisRetryNanos = redisRetryInterval.toNanos();
+		this.commandTimeout = Objects.requireNonNull( commandTimeout );
+		this.meterRegistry = meterRegistry;
+
+		this.fallbackPermitsPerNano = fallbackPermitsPerSecond / TimeUnit.SECONDS.toNanos( 1 );
+		this.fallbackBurst = Math.max( 1, Math.ceil( fallbackPermitsPerSecond ) );
+		this.fallbackTokens = this.fallbackBurst;
+		this.fallbackRefilledAtNanos = System.nanoTime();
+	}
+
+	/**
+	 * 클러스터 토큰 1개 획득, 버킷이 비었으면 다음 토큰 시점까지 대기 (스레드 점유 없음)
+	 * maxWait 안에 받지 못하면 RateLimiterRejectedException (재시도하지 않음)
+	 */
+	public Mono<Void> acquire() {
+		return Mono.defer( () -> acquire( System.nanoTime() + maxWaitNanos ) );
+	}
+
+	private Mono<Void> acquire(long deadlineNanos) {
+		return tryAcquire().flatMap( waitMillis -> {
+			if ( waitMillis == 0 ) {
+				return Mono.empty();
+			}
+
+			if ( System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( waitMillis ) > deadlineNanos ) {
+				record( "rejected" );
+				return Mono.error( new RateLimiterRejectedException(
+						String.format( "%s cluster rate limit wait exceeded %dms", name, TimeUnit.NANOSECONDS.toMillis( maxWaitNanos ) )
+				) );
+			}
+			return Mono.delay( Duration.ofMillis( waitMillis ) ).then( acquire( deadlineNanos ) );
+		} );
+	}
+
+	/**
+	 * 로컬에 받아 둔 토큰이 있으면 바로 사용, 없으면 Redis에서 한 묶음 받아옴
+	 * Redis 응답이 commandTimeout 안에 오지 않으면 기다리지 않고 로컬 fallback 사용
+	 * 반환값은 다음 시도까지 대기할 시간(ms), 0이면 획득
+	 */
+	private Mono<Long> tryAcquire() {
+		if ( takeLocalToken() ) {
+			return Mono.just( 0L );
+		}
+		if ( isRedisUnavailable() ) {
+			return Mono.just( takeFallbackToken() );
+		}
+		return Mono.fromCallable( this::fetchBatch )
+				.subscribeOn( Schedulers.boundedElastic() )
+				.timeout( commandTimeout, Mono.fromCallable( this::onCommandTimeout ) );
+	}
+
+	private long fetchBatch() {
+		// 인스턴스 내에서는 한 스레드만 Redis에서 받아 오고, 나머지는 그 결과를 사용
+		// 받아 오는 스레드가 Redis 응답을 기다리느라 잠금을 놓지 않으면 commandTimeout까지만 기다리고 로컬 fallback 사용
+		try {
+			if ( !fetchLock.tryLock( commandTimeout.toNanos(), TimeUnit.NANOSECONDS ) ) {
+				return takeFallbackToken();
+			}
+		}
+		catch (InterruptedException e) {
+			// commandTimeout으로 취소된 호출 (결과는 사용하지 않음)
+			Thread.currentThread().interrupt();
+			return 0;
+		}
+
+		try {
+			if ( takeLocalToken() ) {
+				return 0;
+			}
+
+			if ( isRedisUnavailable() ) {
+				return takeFallbackToken();
+			}
+
+			try {
+				List<?> result = redisTemplate.execute(
+						ACQUIRE_SCRIPT,
+						List.of( KEY_PREFIX + name ),
+						String.valueOf( permitsPerSecond ),
+						String.valueOf( burst ),
+						String.valueOf( batchSize )
+				);
+
+				long granted = ( (Number) result.get( 0 ) ).longValue();
+				if ( granted > 0 ) {
+					record( "granted" );
+					storeLocalTokens( (int) granted - 1 );
+					return 0;
+				}
+
+				record( "exhausted" );
+				return Math.max( 1, ( (Number) result.get( 1 ) ).longValue() );
+			}
+			catch (Exception e) {
+				log.warn( "[{}] Cluster rate limiter unavailable, using local fallback: {}", name, e.getMessage() );
+				record( "fallback" );
+				markRedisUnavailable();
+				return takeFallbackToken();
+			}
+		}
+		finally {
+			fetchLock.unlock();
+		}
+	}
+
+	/**
+	 * Redis 응답 지연: 로컬 fallback으로 진행하고 재시도 간격 동안 Redis를 건너뜀
+	 */
+	private long onCommandTimeout() {
+		log.warn( "[{}] Cluster rate limiter did not respond within {}ms, using local fallback", name, commandTimeout.toMillis() );
+		record( "timeout" );
+		markRedisUnavailable();
+		return takeFallbackToken();
+	}
+
+	private synchronized boolean takeLocalToken() {
+		if ( localTokens > 0 && System.nanoTime() < localTokensExpireAtNanos ) {
+			localTokens--;
+			return true;
+		}
+		localTokens = 0;
+		return false;
+	}
+
+	private synchronized void storeLocalTokens(int tokens) {
+		localTokens = tokens;
+		localTokensExpireAtNanos = System.nanoTime() + batchTtlNanos;
+	}
+
+	private synchronized boolean isRedisUnavailable() {
+		return System.nanoTime() < redisUnavailableUntilNanos;
+	}
+
+	private synchronized void markRedisUnavailable() {
+		redisUnavailableUntilNanos = System.nanoTime() + redisRetryNanos;
+	}
+
+	/**
+	 * 로컬 fallback token bucket에서 1개 획득, 반환값은 대기 시간(ms)
+	 */
+	private synchronized long takeFallbackToken() {
+		long now = System.nanoTime();
+		fallbackTokens = Math.min( fallbackBurst, fallbackTokens + ( now - fallbackRefilledAtNanos ) * fallbackPermitsPerNano );
+		fallbackRefilledAtNanos = now;
+
+		if ( fallbackTokens >= 1 ) {
+			fallbackTokens -= 1;
+			return 0;
+		}
+		return Math.max( 1, TimeUnit.NANOSECONDS.toMillis( (long) ( ( 1 - fallbackTokens ) / fallbackPermitsPerNano ) ) );
+	}
+
+	private void record(String result) {
+		meterRegistry.counter( "yumcup.external.api.limiter.cluster", "api", name, "result", result ).increment();
+	}
+}
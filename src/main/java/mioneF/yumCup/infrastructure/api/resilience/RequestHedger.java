@@ -0,0 +1,151 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API별 hedged request
+ * 최근 응답 시간의 percentile 만큼 기다려도 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 값을 받은 쪽을 사용 (나머지는 취소).
+ * hedge 요청의 실패는 무시하고 원래 요청을 계속 기다리므로 빨리 실패하는 hedge가 정상 요청을 취소하지 않음.
+ * hedge는 요청마다 budgetRatio 만큼 쌓이는 예산을 1씩 써서 보내므로 전체 트래픽의 budgetRatio 비율을 넘지 않음.
+ * 응답 시간 샘플이 minSamples 개 모이기 전에는 hedge 하지 않음
+ */
+@Slf4j
+public class RequestHedger {
+
+	private final String name;
+	private final double percentile;
+	private final long minDelayNanos;
+	private final double budgetRatio;
+	private final double maxBudget;
+	private final int minSamples;
+
+	private final Counter sentCounter;
+	private final Counter wonCounter;
+
+	// 아래 상태는 this로 보호
+	private final long[] samples;
+	private int sampleCount;
+	private int nextSample;
+	private double budget;
+
+	@Builder
+	private RequestHedger(
+			String name,
+			double percentile,
+			Duration minDelay,
+			double budgetRatio,
+			int maxBudget,
+			int sampleSize,
+			int minSamples,
+			MeterRegistry meterRegistry) {
+		if ( percentile <= 0 || percentile >= 1 ) {
+			throw new IllegalArgumentException( "percentile must be between 0 and 1: " + percentile );
+		}
+
+		this.name = Objects.requireNonNull( name );
+		this.percentile = percentile;
+		this.minDelayNanos = minDelay.toNanos();
+		this.budgetRatio = Math.max( 0, budgetRatio );
+		this.maxBudget = Math.max( 1, maxBudget );
+		this.samples = new long[Math.max( 1, sampleSize )];
+		this.minSamples = Math.max( 1, Math.min( minSamples, this.samples.length ) );
+
+		this.sentCounter = meterRegistry.counter( "yumcup.external.api.hedge.sent", "api", name );
+		this.wonCounter = meterRegistry.counter( "yumcup.external.api.hedge.won", "api", name );
+
+		Gauge.builder( "yumcup.external.api.hedge.delay", this, RequestHedger::hedgeDelayMillis )
+				.description( "Current delay before a hedged request is sent (ms, -1 while warming up)" )
+				.tag( "api", name )
+				.baseUnit( "milliseconds" )
+				.register( meterRegistry );
+	}
+
+	/**
+	 * attempt로 요청하고, hedge 지연 시간 안에 응답이 없고 예산이 있으면 attempt를 한 번 더 구독
+	 * 먼저 값을 받은 쪽을 사용하고 나머지는 취소. 멱등 요청(GET)에만 사용
+	 */
+	public <T> Mono<T> hedge(Supplier<Mono<T>> attempt) {
+		return hedge( attempt, attempt );
+	}
+
+	/**
+	 * hedge 요청은 backupAttempt로 보냄 (hedge 요청만 따로 허용을 받아야 할 때)
+	 * 원래 요청은 값 / 에러 모두 그대로 전달하고, hedge 요청의 에러는 무시하므로 결과는 원래 요청이 끝날 때까지 기다림
+	 */
+	public <T> Mono<T> hedge(Supplier<Mono<T>> attempt, Supplier<Mono<T>> backupAttempt) {
+		return Mono.defer( () -> {
+			long startedAt = System.nanoTime();
+			long delayNanos = onRequest();
+
+			Mono<T> primary = attempt.get();
+			if ( delayNanos < 0 ) {
+				return primary.doOnNext( value -> recordLatency( System.nanoTime() - startedAt ) );
+			}
+
+			Mono<T> backup = Mono.delay( Duration.ofNanos( delayNanos ) )
+					.filter( tick -> tryTakeBudget() )
+					.flatMap( tick -> {
+						sentCounter.increment();
+						log.debug( "[{}] Sending hedged request after {}ms", name, TimeUnit.NANOSECONDS.toMillis( delayNanos ) );
+						return backupAttempt.get().doOnNext( value -> wonCounter.increment() );
+					} )
+					.onErrorResume( error -> {
+						log.debug( "[{}] Hedged request failed, waiting for the original request: {}", name, error.toString() );
+						return Mono.never();
+					} )
+					.switchIfEmpty( Mono.never() );
+
+			return Mono.firstWithSignal( primary, backup )
+					.doOnNext( value -> recordLatency( System.nanoTime() - startedAt ) );
+		} );
+	}
+
+	/**
+	 * 요청 1건마다 예산 적립, 현재 hedge 지연 시간 반환 (샘플 부족 시 -1)
+	 */
+	private synchronized long onRequest() {
+		budget = Math.min( maxBudget, budget + budgetRatio );
+		return hedgeDelayNanos();
+	}
+
+	private synchronized boolean tryTakeBudget() {
+		if ( budget < 1 ) {
+			return false;
+		}
+		budget -= 1;
+		return true;
+	}
+
+	private synchronized void recordLatency(long latencyNanos) {
+		samples[nextSample] = latencyNanos;
+		nextSample = ( nextSample + 1 ) % samples.length;
+		sampleCount = Math.min( samples.length, sampleCount + 1 );
+	}
+
+	private synchronized long hedgeDelayNanos() {
+		if ( sampleCount < minSamples ) {
+			return -1;
+		}
+
+		long[] sorted = Arrays.copyOf( samples, sampleCount );
+		Arrays.sort( sorted );
+		int index = Math.min( sampleCount - 1, (int) Math.ceil( percentile * sampleCount ) - 1 );
+		return Math.max( minDelayNanos, sorted[Math.max( 0, index )] );
+	}
+
+	private double hedgeDelayMillis() {
+		long delayNanos = hedgeDelayNanos();
+		return delayNanos < 0 ? -1 : (double) delayNanos / TimeUnit.MILLISECONDS.toNanos( 1 );
+	}
+}
@@ -0,0 +1,200 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.exception.BulkheadFullException;
+import mioneF.yumCup.exception.CircuitBreakerOpenException;
+import mioneF.yumCup.exception.ExternalApiException;
+import mioneF.yumCup.exception.RateLimiterRejectedException;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 외부 API별 재시도 정책
+ * 일시적인 실패(5xx / 429 / 타임아웃 / 연결 실패)만 재시도하고, 4xx / 응답 파싱 오류와
+ * 로컬 거절(circuit breaker / bulkhead / rate limiter 대기 초과)은 바로 실패.
+ * 대기 시간은 decorrelated jitter 지수 백오프 (min(maxDelay, random(baseDelay, 이전 대기 * 3))),
+ * Retry-After 헤더가 있으면 그보다 먼저 재시도하지 않음. 요청 하나의 총 대기 시간이 maxTotalDelay를 넘으면 포기.
+ * 대기는 Mono.delay로 예약하므로 스레드를 점유하지 않음
+ */
+@Slf4j
+public class RetryPolicy {
+
+	private final String name;
+	private final int maxAttempts;
+	private final long baseDelayMillis;
+	private final long maxDelayMillis;
+	private final long maxTotalDelayMillis;
+	private final MeterRegistry meterRegistry;
+
+	@Builder
+	private RetryPolicy(
+			String name,
+			int maxAttempts,
+			Duration baseDelay,
+			Duration maxDelay,
+			Duration maxTotalDelay,
+			MeterRegistry meterRegistry) {
+		this.name = Objects.requireNonNull( name );
+		this.maxAttempts = Math.max( 1, maxAttempts );
+		this.baseDelayMillis = Math.max( 1, baseDelay.toMillis() );
+		this.maxDelayMillis = Math.max( this.baseDelayMillis, maxDelay.toMillis() );
+		this.maxTotalDelayMillis = maxTotalDelay.toMillis();
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 설정 없이 생성한 클라이언트용 기본 정책 (3회, 200ms ~ 2s, 요청당 최대 3s 대기)
+	 */
+	public static RetryPolicy defaults(String name) {
+		return RetryPolicy.builder()
+				.name( name )
+				.maxAttempts( 3 )
+				.baseDelay( Duration.ofMillis( 200 ) )
+				.maxDelay( Duration.ofSeconds( 2 ) )
+				.maxTotalDelay( Duration.ofSeconds( 3 ) )
+				.meterRegistry( Metrics.globalRegistry )
+				.build();
+	}
+
+	/**
+	 * retryWhen에 사용할 Retry (구독마다 대기 시간 / 예산 상태를 새로 가짐)
+	 * 시도 횟수를 모두 쓰면 "failed after N attempts" ExternalApiException
+	 */
+	public Retry toRetry() {
+		return toRetry( null );
+	}
+
+	/**
+	 * 요청 마감이 있으면 대기 후 남은 시간이 없는 재시도는 하지 않음 (재시도 예산 소진으로 처리)
+	 */
+	public Retry toRetry(RequestDeadline deadline) {
+		return Retry.from( signals -> {
+			RetryState state = new RetryState();
+
+			return signals.concatMap( signal -> {
+				Throwable failure = signal.failure();
+				long attempt = signal.totalRetries() + 1;
+
+				if ( !isRetryable( failure ) ) {
+					record( "not_retryable" );
+					return Mono.error( failure );
+				}
+
+				log.warn( "[{}] API call attempt {}/{} failed: {}", name, attempt, maxAttempts, failure.getMessage() );
+
+				if ( attempt >= maxAttempts ) {
+					record( "exhausted" );
+					log.error( "[{}] API call failed after {} attempts", name, maxAttempts );
+					return Mono.error( new ExternalApiException(
+							String.format( "%s API call failed after %d attempts", name, maxAttempts ),
+							failure
+					) );
+				}
+
+				long delayMillis = Math.max( state.nextDelay(), retryAfterMillis( failure ) );
+				if ( state.totalDelayMillis + delayMillis > maxTotalDelayMillis
+						|| deadline != null && delayMillis >= deadline.remaining().toMillis() ) {
+					record( "budget_exhausted" );
+					log.error( "[{}] Retry budget of {}ms exhausted after {} attempts", name, maxTotalDelayMillis, attempt );
+					return Mono.error( new ExternalApiException(
+							String.format( "%s API call failed after %d attempts (retry budget exhausted)", name, attempt ),
+							failure
+					) );
+				}
+
+				state.totalDelayMillis += delayMillis;
+				record( "retry" );
+				log.debug( "[{}] Retrying in {}ms", name, delayMillis );
+				return Mono.delay( Duration.ofMillis( delayMillis ) );
+			} );
+		} );
+	}
+
+	/**
+	 * 일시적인 실패인지 여부 (ExternalApiException으로 감싼 원인까지 확인)
+	 * 로컬에서 거절한 호출은 과부하 신호이므로 다시 줄을 세우지 않음
+	 */
+	public boolean isRetryable(Throwable error) {
+		for ( Throwable cause = error; cause != null; cause = cause.getCause() ) {
+			if ( isLocalRejection( cause ) ) {
+				return false;
+			}
+			if ( cause instanceof WebClientResponseException responseException ) {
+				return responseException.getStatusCode().is5xxServerError()
+						|| responseException.getStatusCode().value() == 429;
+			}
+			if ( cause instanceof TimeoutException || cause instanceof WebClientRequestException ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isLocalRejection(Throwable error) {
+		return error instanceof RateLimiterRejectedException
+				|| error instanceof BulkheadFullException
+				|| error instanceof CircuitBreakerOpenException;
+	}
+
+	/**
+	 * Retry-After 헤더(초 또는 HTTP-date)가 지정한 대기 시간, 없으면 0
+	 */
+	static long retryAfterMillis(Throwable error) {
+		for ( Throwable cause = error; cause != null; cause = cause.getCause() ) {
+			if ( cause instanceof WebClientResponseException responseException ) {
+				String retryAfter = responseException.getHeaders().getFirst( HttpHeaders.RETRY_AFTER );
+				return retryAfter == null ? 0 : parseRetryAfter( retryAfter.trim() );
+			}
+		}
+		return 0;
+	}
+
+	private static long parseRetryAfter(String retryAfter) {
+		try {
+			return Math.max( 0, Long.parseLong( retryAfter ) * 1000 );
+		}
+		catch (NumberFormatException e) {
+			try {
+				ZonedDateTime retryAt = ZonedDateTime.parse( retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME );
+				return Math.max( 0, Duration.between( ZonedDateTime.now(), retryAt ).toMillis() );
+			}
+			catch (DateTimeParseException ignored) {
+				return 0;
+			}
+		}
+	}
+
+	private void record(String result) {
+		meterRegistry.counter( "yumcup.external.api.retry", "api", name, "result", result ).increment();
+	}
+
+	/**
+	 * 요청 하나의 재시도 상태 (decorrelated jitter 이전 대기 시간, 누적 대기 시간)
+	 */
+	private final class RetryState {
+
+		private long previousDelayMillis = baseDelayMillis;
+		private long totalDelayMillis;
+
+		private long nextDelay() {
+			long upper = Math.max( baseDelayMillis + 1, previousDelayMillis * 3 );
+			previousDelayMillis = Math.min( maxDelayMillis, ThreadLocalRandom.current().nextLong( baseDelayMillis, upper ) );
+			return previousDelayMillis;
+		}
+	}
+}
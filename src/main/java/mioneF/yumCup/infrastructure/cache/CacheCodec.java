@@ -0,0 +1,26 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+import java.io.IOException;
+
+/**
+ * 캐시 엔트리 직렬화 방식
+ * Redis에는 byte[]로 저장하며, 읽을 때는 저장된 바이트로 어떤 codec이 썼는지 판별하여 형식 전환 중에도 기존 값을 읽을 수 있음
+ */
+public interface CacheCodec {
+
+	/**
+	 * 설정(cache.codec)에서 사용하는 codec 이름
+	 */
+	String name();
+
+	/**
+	 * 이 codec이 쓴 바이트인지 판별
+	 */
+	boolean canDecode(byte[] bytes);
+
+	byte[] encode(CacheEntry<?> entry) throws IOException;
+
+	<T> CacheEntry<T> decode(byte[] bytes, JavaType valueType) throws IOException;
+}
@@ -0,0 +1,83 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * soft / hard 만료 시각과 값 계산 소요 시간을 함께 보관하는 캐시 엔트리
+ * soft 만료 이후 hard 만료 전까지는 stale 상태로 값을 바로 반환하면서 백그라운드 갱신 (stale-while-revalidate)
+ * hard 만료는 Redis TTL과 같으며, 이후에는 캐시 미스로 처리
+ */
+public record CacheEntry<T>(
+		T value,
+		long softExpireAtMillis,
+		long hardExpireAtMillis,
+		long computeMillis
+) {
+
+	/**
+	 * 만료 정보 없이 저장된 이전 형식 값 (Redis TTL로만 만료)
+	 */
+	public static <T> CacheEntry<T> withoutExpiry(T value) {
+		return new CacheEntry<>( value, Long.MAX_VALUE, Long.MAX_VALUE, 0 );
+	}
+
+	public static <T> CacheEntry<T> of(T value, long softTtlSeconds, long hardTtlSeconds) {
+		return of( value, softTtlSeconds, hardTtlSeconds, 0 );
+	}
+
+	public static <T> CacheEntry<T> of(T value, long softTtlSeconds, long hardTtlSeconds, long computeMillis) {
+		long now = System.currentTimeMillis();
+		return new CacheEntry<>( value, now + softTtlSeconds * 1000, now + hardTtlSeconds * 1000, computeMillis );
+	}
+
+	/**
+	 * hard 만료까지 남은 TTL(초, 올림)
+	 */
+	public long remainingHardTtlSeconds() {
+		long remainingMillis = hardExpireAtMillis - System.currentTimeMillis();
+		return remainingMillis <= 0 ? 0 : ( remainingMillis + 999 ) / 1000;
+	}
+
+	@JsonIgnore
+	public boolean isStale() {
+		return System.currentTimeMillis() >= softExpireAtMillis;
+	}
+
+	@JsonIgnore
+	public boolean isExpired() {
+		return System.currentTimeMillis() >= hardExpireAtMillis;
+	}
+
+	/**
+	 * soft 만료 이후 경과 시간(ms), stale이 아니면 0
+	 */
+	public long staleAgeMillis() {
+		return Math.max( 0, System.currentTimeMillis() - softExpireAtMillis );
+	}
+
+	public <R> CacheEntry<R> withValue(R newValue) {
+		return new CacheEntry<>( newValue, softExpireAtMillis, hardExpireAtMillis, computeMillis );
+	}
+
+	/**
+	 * 확률적 조기 만료 (XFetch)
+	 * soft 만료가 가까울수록, 값 계산이 오래 걸렸을수록 높은 확률로 조회자가 갱신을 자원하도록 stale 처리.
+	 * 같은 시각에 저장된 엔트리들의 갱신 시점이 자연스럽게 분산됨
+	 * (now - computeMillis * beta * ln(rand) >= softExpireAt 이면 지금 만료된 것으로 간주)
+	 */
+	public CacheEntry<T> withEarlyExpiration(double beta) {
+		if ( beta <= 0 || computeMillis <= 0 || softExpireAtMillis == Long.MAX_VALUE || isStale() ) {
+			return this;
+		}
+
+		long now = System.currentTimeMillis();
+		double gap = computeMillis * beta * -Math.log( ThreadLocalRandom.current().nextDouble() );
+
+		if ( now + gap >= softExpireAtMillis ) {
+			return new CacheEntry<>( value, now, hardExpireAtMillis, computeMillis );
+		}
+		return this;
+	}
+}
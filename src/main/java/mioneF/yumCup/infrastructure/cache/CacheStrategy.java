@@ -1,5 +1,9 @@
 package mioneF.yumCup.infrastructure.cache;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,6 +16,31 @@ public interface CacheStrategy {
 	 */
 	<T> Optional<T> get(String key, Class<T> type);
 
+	/**
+	 * 캐시에서 제네릭 타입으로 데이터 조회 (예: List&lt;String&gt;)
+	 */
+	<T> Optional<T> get(String key, TypeReference<T> type);
+
+	/**
+	 * 캐시에서 만료 정보와 함께 데이터 조회 (hard 만료 전이면 stale 값도 반환)
+	 */
+	<T> Optional<CacheEntry<T>> getEntry(String key, Class<T> type);
+
+	/**
+	 * 캐시에서 만료 정보와 함께 제네릭 타입으로 데이터 조회
+	 */
+	<T> Optional<CacheEntry<T>> getEntry(String key, TypeReference<T> type);
+
+	/**
+	 * 여러 키를 한 번에 조회 (적중한 키만 요청 순서대로 반환)
+	 */
+	<T> Map<String, T> getAll(Collection<String> keys, Class<T> type);
+
+	/**
+	 * 여러 키를 제네릭 타입으로 한 번에 조회
+	 */
+	<T> Map<String, T> getAll(Collection<String> keys, TypeReference<T> type);
+
 	/**
 	 * 캐시에 데이터 저장 (기본 TTL 사용)
 	 */
@@ -22,6 +51,22 @@ public interface CacheStrategy {
 	 */
 	void put(String key, Object value, long ttlSeconds);
 
+	/**
+	 * 여러 키를 한 번에 저장 (TTL 지정)
+	 */
+	void putAll(Map<String, ?> values, long ttlSeconds);
+
+	/**
+	 * 만료 정보와 함께 캐시에 저장 (soft 만료 이후 stale, hard 만료 이후 삭제)
+	 */
+	void putEntry(String key, CacheEntry<?> entry);
+
+	/**
+	 * fenceKey의 현재 값이 fencingToken과 같을 때만 저장 (비교와 저장을 원자적으로 수행, fenceKey가 없으면 저장)
+	 * 저장했으면 true
+	 */
+	boolean putEntryIfFenced(String key, CacheEntry<?> entry, String fenceKey, long fencingToken);
+
 	/**
 	 * 캐시에서 데이터 삭제
 	 */
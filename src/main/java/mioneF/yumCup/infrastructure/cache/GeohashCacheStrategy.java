@@ -1,14 +1,29 @@
 package mioneF.yumCup.infrastructure.cache;
 
 import ch.hsr.geohash.GeoHash;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import ch.hsr.geohash.WGS84Point;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import mioneF.yumCup.infrastructure.geo.GeoDistance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -22,23 +37,85 @@ import org.springframework.data.redis.core.ScanOptions;
 @Component
 public class GeohashCacheStrategy implements CacheStrategy {
 
-	private final StringRedisTemplate redisTemplate;
-	private final ObjectMapper objectMapper;
+	private final RedisTemplate<String, byte[]> redisTemplate;
+	private final List<CacheCodec> codecs;
+	private final CacheCodec writeCodec;
+	private final JsonCacheCodec legacyCodec;
+	private final boolean envelopeWrites;
 
 	private static final long DEFAULT_TTL_SECONDS = 3600;
+
+	// fencing token(KEYS[2])이 바뀌지 않았을 때만 SET EX (비교와 쓰기를 한 번에), 썼으면 1 반환
+	private static final DefaultRedisScript<Long> FENCED_SET_SCRIPT = new DefaultRedisScript<>(
+			"local current = redis.call('get', KEYS[2]) "
+					+ "if current and current ~= ARGV[2] then return 0 end "
+					+ "redis.call('set', KEYS[1], ARGV[1], 'EX', ARGV[3]) "
+					+ "return 1",
+			Long.class
+	);
 	private static final int DEFAULT_GEOHASH_PRECISION = 6;
 
+	@Value("${cache.xfetch.enabled:true}")
+	private boolean xfetchEnabled;
+
+	@Value("${cache.xfetch.beta:1.0}")
+	private double xfetchBeta;
+
+	// 다른 요청에 재사용할 수 있도록 캐시 키로 공유되는 반경 단계 (미터)
+	private static final int[] RADIUS_TIERS = { 500, 1000, 2000, 3000, 5000, 10000, 20000 };
+
 	public GeohashCacheStrategy(
-			StringRedisTemplate redisTemplate,
-			ObjectMapper objectMapper) {
-		this.redisTemplate = redisTemplate;
-		this.objectMapper = objectMapper;
+			RedisTemplate<String, byte[]> binaryRedisTemplate,
+			List<CacheCodec> codecs,
+			@Value("${cache.codec:json}") String codecName,
+			@Value("${cache.envelope-writes:false}") boolean envelopeWrites) {
+		this.redisTemplate = binaryRedisTemplate;
+		this.codecs = codecs;
+		this.writeCodec = codecs.stream()
+				.filter( codec -> codec.name().equals( codecName ) )
+				.findFirst()
+				.orElseThrow( () -> new IllegalStateException( "Unknown cache codec: " + codecName ) );
+		this.legacyCodec = codecs.stream()
+				.filter( JsonCacheCodec.class::isInstance )
+				.map( JsonCacheCodec.class::cast )
+				.findFirst()
+				.orElseThrow( () -> new IllegalStateException( "JSON cache codec is required for legacy reads / writes" ) );
+		this.envelopeWrites = envelopeWrites;
+
+		if ( !envelopeWrites && !JsonCacheCodec.NAME.equals( writeCodec.name() ) ) {
+			throw new IllegalStateException( "cache.codec=" + codecName + " requires cache.envelope-writes=true" );
+		}
+
+		log.info( "GeohashCacheStrategy using {} codec ({} writes)", writeCodec.name(), envelopeWrites ? "envelope" : "legacy" );
 	}
 
 	@Override
 	public <T> Optional<T> get(String key, Class<T> type) {
+		return getEntry( key, type ).map( CacheEntry::value );
+	}
+
+	@Override
+	public <T> Optional<T> get(String key, TypeReference<T> type) {
+		return getEntry( key, type ).map( CacheEntry::value );
+	}
+
+	@Override
+	public <T> Optional<CacheEntry<T>> getEntry(String key, Class<T> type) {
+		return readEntry( key, TypeFactory.defaultInstance().constructType( type ) );
+	}
+
+	@Override
+	public <T> Optional<CacheEntry<T>> getEntry(String key, TypeReference<T> type) {
+		return readEntry( key, TypeFactory.defaultInstance().constructType( type ) );
+	}
+
+	/**
+	 * 만료 정보와 함께 조회
+	 * 저장된 바이트로 codec을 판별하므로 codec 전환 중에도 이전 형식 값을 읽을 수 있음
+	 */
+	private <T> Optional<CacheEntry<T>> readEntry(String key, JavaType valueType) {
 		try {
-			String cached = redisTemplate.opsForValue().get( key );
+			byte[] cached = redisTemplate.opsForValue().get( key );
 
 			if ( cached == null ) {
 				log.debug( "Cache miss: {}", key );
@@ -46,11 +123,11 @@ public class GeohashCacheStrategy implements CacheStrategy {
 			}
 
 			log.debug( "Cache hit: {}", key );
-			T value = objectMapper.readValue( cached, type );
-			return Optional.of( value );
+			CacheEntry<T> entry = codecFor( cached ).decode( cached, valueType );
+			return Optional.of( applyEarlyExpiration( entry ) );
 
 		}
-		catch (JsonProcessingException e) {
+		catch (IOException e) {
 			log.error( "Failed to deserialize cached value for key: {}", key, e );
 			evict( key );
 			return Optional.empty();
@@ -61,6 +138,67 @@ public class GeohashCacheStrategy implements CacheStrategy {
 		}
 	}
 
+	@Override
+	public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+		return valuesOf( getAllEntries( keys, type ) );
+	}
+
+	@Override
+	public <T> Map<String, T> getAll(Collection<String> keys, TypeReference<T> type) {
+		return valuesOf( getAllEntries( keys, type ) );
+	}
+
+	public <T> Map<String, CacheEntry<T>> getAllEntries(Collection<String> keys, Class<T> type) {
+		return readAllEntries( keys, TypeFactory.defaultInstance().constructType( type ) );
+	}
+
+	public <T> Map<String, CacheEntry<T>> getAllEntries(Collection<String> keys, TypeReference<T> type) {
+		return readAllEntries( keys, TypeFactory.defaultInstance().constructType( type ) );
+	}
+
+	/**
+	 * MGET 한 번으로 여러 키 조회 (키 수만큼의 왕복 대신 1회 왕복)
+	 * 역직렬화에 실패한 키는 삭제하고 결과에서 제외
+	 */
+	private <T> Map<String, CacheEntry<T>> readAllEntries(Collection<String> keys, JavaType valueType) {
+		if ( keys.isEmpty() ) {
+			return Map.of();
+		}
+
+		List<String> keyList = List.copyOf( keys );
+		Map<String, CacheEntry<T>> entries = new LinkedHashMap<>();
+
+		try {
+			List<byte[]> cached = redisTemplate.opsForValue().multiGet( keyList );
+			if ( cached == null ) {
+				return entries;
+			}
+
+			for ( int i = 0; i < keyList.size(); i++ ) {
+				byte[] bytes = cached.get( i );
+				if ( bytes == null ) {
+					continue;
+				}
+
+				String key = keyList.get( i );
+				try {
+					CacheEntry<T> entry = codecFor( bytes ).decode( bytes, valueType );
+					entries.put( key, applyEarlyExpiration( entry ) );
+				}
+				catch (IOException e) {
+					log.error( "Failed to deserialize cached value for key: {}", key, e );
+					evict( key );
+				}
+			}
+
+			log.debug( "Cache multi-get: {} hits / {} keys", entries.size(), keyList.size() );
+		}
+		catch (Exception e) {
+			log.error( "Failed to get cached values for {} keys", keyList.size(), e );
+		}
+		return entries;
+	}
+
 	@Override
 	public void put(String key, Object value) {
 		put( key, value, DEFAULT_TTL_SECONDS );
@@ -68,14 +206,29 @@ public class GeohashCacheStrategy implements CacheStrategy {
 
 	@Override
 	public void put(String key, Object value, long ttlSeconds) {
+		putEntry( key, CacheEntry.of( value, ttlSeconds, ttlSeconds ) );
+	}
+
+	/**
+	 * soft / hard 만료 시각과 계산 소요 시간을 envelope로 함께 저장 (Redis TTL은 hard 만료까지 남은 시간)
+	 * envelope 쓰기 전환 전(cache.envelope-writes=false)에는 값만 저장하여 이전 버전 인스턴스도 읽을 수 있게 함
+	 */
+	@Override
+	public void putEntry(String key, CacheEntry<?> entry) {
+		long ttlSeconds = entry.remainingHardTtlSeconds();
+		if ( ttlSeconds <= 0 ) {
+			log.debug( "Skipping already expired cache entry: {}", key );
+			return;
+		}
+
 		try {
-			String json = objectMapper.writeValueAsString( value );
-			redisTemplate.opsForValue().set( key, json, ttlSeconds, TimeUnit.SECONDS );
+			byte[] encoded = encode( entry );
+			redisTemplate.opsForValue().set( key, encoded, ttlSeconds, TimeUnit.SECONDS );
 
-			log.debug( "Cache stored: {} (TTL: {}s)", key, ttlSeconds );
+			log.debug( "Cache stored: {} ({} bytes, TTL: {}s, compute: {}ms)", key, encoded.length, ttlSeconds, entry.computeMillis() );
 
 		}
-		catch (JsonProcessingException e) {
+		catch (IOException e) {
 			log.error( "Failed to serialize value for key: {}", key, e );
 		}
 		catch (Exception e) {
@@ -83,6 +236,145 @@ public class GeohashCacheStrategy implements CacheStrategy {
 		}
 	}
 
+	/**
+	 * fencing token 비교와 저장을 Lua 스크립트 하나로 수행하여 확인 후 쓰기 사이에 lease가 넘어가도 늦은 쓰기가 덮어쓰지 않음
+	 */
+	@Override
+	public boolean putEntryIfFenced(String key, CacheEntry<?> entry, String fenceKey, long fencingToken) {
+		long ttlSeconds = entry.remainingHardTtlSeconds();
+		if ( ttlSeconds <= 0 ) {
+			log.debug( "Skipping already expired cache entry: {}", key );
+			return false;
+		}
+
+		try {
+			Long written = redisTemplate.execute(
+					FENCED_SET_SCRIPT,
+					List.of( key, fenceKey ),
+					encode( entry ),
+					String.valueOf( fencingToken ).getBytes( StandardCharsets.UTF_8 ),
+					String.valueOf( ttlSeconds ).getBytes( StandardCharsets.UTF_8 )
+			);
+
+			if ( written == null || written == 0 ) {
+				log.debug( "Fencing token {} is stale, skipping cache write: {}", fencingToken, key );
+				return false;
+			}
+
+			log.debug( "Cache stored: {} (TTL: {}s, token: {})", key, ttlSeconds, fencingToken );
+			return true;
+		}
+		catch (IOException e) {
+			log.error( "Failed to serialize value for key: {}", key, e );
+			return false;
+		}
+		catch (Exception e) {
+			log.error( "Failed to store fenced cache for key: {}", key, e );
+			return false;
+		}
+	}
+
+	@Override
+	public void putAll(Map<String, ?> values, long ttlSeconds) {
+		Map<String, CacheEntry<?>> entries = new LinkedHashMap<>();
+		values.forEach( (key, value) -> entries.put( key, CacheEntry.of( value, ttlSeconds, ttlSeconds ) ) );
+		putAllEntries( entries );
+	}
+
+	/**
+	 * 파이프라인으로 여러 엔트리를 한 번에 저장 (SET EX를 모아 1회 왕복)
+	 */
+	public void putAllEntries(Map<String, CacheEntry<?>> entries) {
+		if ( entries.isEmpty() ) {
+			return;
+		}
+
+		try {
+			@SuppressWarnings("unchecked")
+			RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+
+			List<EncodedEntry> encoded = new ArrayList<>( entries.size() );
+			for ( Map.Entry<String, CacheEntry<?>> entry : entries.entrySet() ) {
+				long ttlSeconds = entry.getValue().remainingHardTtlSeconds();
+				if ( ttlSeconds > 0 ) {
+					encoded.add( new EncodedEntry(
+							keySerializer.serialize( entry.getKey() ),
+							encode( entry.getValue() ),
+							ttlSeconds
+					) );
+				}
+			}
+
+			redisTemplate.executePipelined( (RedisCallback<Object>) connection -> {
+				for ( EncodedEntry entry : encoded ) {
+					connection.stringCommands().set(
+							entry.key(),
+							entry.value(),
+							Expiration.seconds( entry.ttlSeconds() ),
+							RedisStringCommands.SetOption.upsert()
+					);
+				}
+				return null;
+			} );
+
+			log.debug( "Cache pipelined store: {} keys", encoded.size() );
+		}
+		catch (IOException e) {
+			log.error( "Failed to serialize values for {} keys", entries.size(), e );
+		}
+		catch (Exception e) {
+			log.error( "Failed to store cache for {} keys", entries.size(), e );
+		}
+	}
+
+	/**
+	 * 확률적 조기 만료(XFetch) 적용, 비활성화 시 그대로 반환
+	 * 조기 만료로 선택된 엔트리는 stale로 반환되어 호출자가 백그라운드 갱신을 수행
+	 */
+	public <T> CacheEntry<T> applyEarlyExpiration(CacheEntry<T> entry) {
+		if ( !xfetchEnabled ) {
+			return entry;
+		}
+
+		CacheEntry<T> checked = entry.withEarlyExpiration( xfetchBeta );
+		if ( checked != entry ) {
+			log.debug( "Early expiration volunteered (compute: {}ms)", entry.computeMillis() );
+		}
+		return checked;
+	}
+
+	private <T> Map<String, T> valuesOf(Map<String, CacheEntry<T>> entries) {
+		Map<String, T> values = new LinkedHashMap<>();
+		entries.forEach( (key, entry) -> values.put( key, entry.value() ) );
+		return values;
+	}
+
+	/**
+	 * 모든 인스턴스가 envelope를 읽을 수 있게 된 뒤에만 envelope로 저장 (그 전에는 값만 JSON으로)
+	 * 읽기는 두 형식 모두 지원하므로 배포 → envelope-writes 전환 순서로 blue/green 간 삭제 반복을 막음
+	 */
+	private byte[] encode(CacheEntry<?> entry) throws IOException {
+		if ( envelopeWrites ) {
+			return writeCodec.encode( entry );
+		}
+		return legacyCodec.encodeLegacy( entry.value() );
+	}
+
+	/**
+	 * 저장된 바이트를 쓴 codec 선택 (설정된 codec 우선)
+	 */
+	private CacheCodec codecFor(byte[] bytes) throws IOException {
+		if ( writeCodec.canDecode( bytes ) ) {
+			return writeCodec;
+		}
+		for ( CacheCodec codec : codecs ) {
+			if ( codec.canDecode( bytes ) ) {
+				return codec;
+			}
+		}
+		throw new IOException( "No cache codec can decode stored value" );
+	}
+
 	@Override
 	public void evict(String key) {
 		try {
@@ -161,6 +453,27 @@ public class GeohashCacheStrategy implements CacheStrategy {
 		}
 	}
 
+	/**
+	 * 키의 남은 TTL(초) 조회, 키가 없거나 만료가 없으면 0 이하 반환
+	 */
+	public long getRemainingTtlSeconds(String key) {
+		try {
+			Long ttl = redisTemplate.getExpire( key, TimeUnit.SECONDS );
+			return ttl != null ? ttl : -1;
+		}
+		catch (Exception e) {
+			log.error( "Failed to get remaining TTL for key: {}", key, e );
+			return -1;
+		}
+	}
+
+	/**
+	 * 기본 TTL(초)
+	 */
+	public long getDefaultTtlSeconds() {
+		return DEFAULT_TTL_SECONDS;
+	}
+
 	/**
 	 * Geohash 기반 캐시 키 생성
 	 */
@@ -191,4 +504,75 @@ public class GeohashCacheStrategy implements CacheStrategy {
 
 		return String.format( "%s:geohash:%s", prefix, geohash );
 	}
+
+	/**
+	 * 반경 기반 캐시 키 생성 ({prefix}:geohash:{반경에 맞는 precision의 셀}:{반경})
+	 */
+	public String generateRadiusKey(String prefix, double latitude, double longitude, int radius) {
+		String geohash = GeoHash.withCharacterPrecision(
+				latitude,
+				longitude,
+				precisionForRadius( radius )
+		).toBase32();
+
+		return String.format( "%s:geohash:%s:%d", prefix, geohash, radius );
+	}
+
+	/**
+	 * 요청 반경보다 큰 반경 단계의 캐시 키 목록 (작은 반경부터)
+	 * 큰 반경일수록 precision이 낮아 같은 위치의 상위 셀을 가리키므로, 거리 필터링으로 작은 반경 요청에 재사용 가능
+	 */
+	public List<String> generateCoveringKeys(String prefix, double latitude, double longitude, int radius) {
+		List<String> keys = new ArrayList<>( RADIUS_TIERS.length );
+		for ( int tier : RADIUS_TIERS ) {
+			if ( tier > radius ) {
+				keys.add( generateRadiusKey( prefix, latitude, longitude, tier ) );
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * 인접 셀 fallback 조회용 키 목록 생성
+	 * 요청 위치 셀(반경에 맞는 precision)의 인접 8개 셀을 요청 위치에서 셀 중심까지 가까운 순으로 반환
+	 * 상위 셀 조회는 generateCoveringKeys의 큰 반경 단계가 대신함
+	 */
+	public List<String> generateNeighborKeys(String prefix, double latitude, double longitude, int radius) {
+		GeoHash cell = GeoHash.withCharacterPrecision( latitude, longitude, precisionForRadius( radius ) );
+
+		List<String> candidates = new ArrayList<>( 8 );
+		for ( GeoHash neighbor : cell.getAdjacent() ) {
+			candidates.add( neighbor.toBase32() );
+		}
+
+		return candidates.stream()
+				.sorted( Comparator.comparingDouble( hash -> distanceToCellCenter( hash, latitude, longitude ) ) )
+				.map( hash -> String.format( "%s:geohash:%s:%d", prefix, hash, radius ) )
+				.toList();
+	}
+
+	/**
+	 * 반경에 맞는 geohash precision 선택
+	 * precision 7 (약 153m x 153m), 6 (약 1.2km x 0.6km), 5 (약 4.9km x 4.9km)
+	 */
+	public int precisionForRadius(int radius) {
+		if ( radius <= 500 ) {
+			return 7;
+		}
+		if ( radius <= 3000 ) {
+			return DEFAULT_GEOHASH_PRECISION;
+		}
+		return 5;
+	}
+
+	/**
+	 * 요청 위치에서 geohash 셀 중심까지의 거리(미터)
+	 */
+	private double distanceToCellCenter(String geohash, double latitude, double longitude) {
+		WGS84Point center = GeoHash.fromGeohashString( geohash ).getOriginatingPoint();
+		return GeoDistance.meters( latitude, longitude, center.getLatitude(), center.getLongitude() );
+	}
+
+	private record EncodedEntry(byte[] key, byte[] value, long ttlSeconds) {
+	}
 }
@@ -0,0 +1,85 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * JSON 텍스트 codec (기존 형식 호환용)
+ * 만료 정보 없이 값만 저장된 이전 형식도 읽을 수 있도록 envelope 여부를 확인
+ */
+@Component
+public class JsonCacheCodec implements CacheCodec {
+
+	public static final String NAME = "json";
+
+	// CacheEntry envelope 필드명
+	private static final String FIELD_VALUE = "value";
+	private static final String FIELD_SOFT_EXPIRE_AT = "softExpireAtMillis";
+	private static final String FIELD_HARD_EXPIRE_AT = "hardExpireAtMillis";
+	private static final String FIELD_COMPUTE_MILLIS = "computeMillis";
+
+	private final ObjectMapper objectMapper;
+
+	public JsonCacheCodec(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	/**
+	 * 첫 번째 공백이 아닌 문자가 JSON 값의 시작 문자인지 확인
+	 */
+	@Override
+	public boolean canDecode(byte[] bytes) {
+		for ( byte b : bytes ) {
+			if ( Character.isWhitespace( b ) ) {
+				continue;
+			}
+			return b == '{' || b == '[' || b == '"' || b == '-' || ( b >= '0' && b <= '9' )
+					|| b == 't' || b == 'f' || b == 'n';
+		}
+		return false;
+	}
+
+	@Override
+	public byte[] encode(CacheEntry<?> entry) throws IOException {
+		return objectMapper.writeValueAsBytes( entry );
+	}
+
+	/**
+	 * 만료 정보 없이 값만 저장하는 이전 형식 (envelope를 읽지 못하는 인스턴스와 함께 운영하는 동안 사용)
+	 */
+	public byte[] encodeLegacy(Object value) throws IOException {
+		return objectMapper.writeValueAsBytes( value );
+	}
+
+	@Override
+	public <T> CacheEntry<T> decode(byte[] bytes, JavaType valueType) throws IOException {
+		JsonNode root = objectMapper.readTree( bytes );
+
+		if ( !isEnvelope( root ) ) {
+			return CacheEntry.withoutExpiry( objectMapper.treeToValue( root, valueType ) );
+		}
+
+		return new CacheEntry<>(
+				objectMapper.treeToValue( root.get( FIELD_VALUE ), valueType ),
+				root.get( FIELD_SOFT_EXPIRE_AT ).asLong(),
+				root.get( FIELD_HARD_EXPIRE_AT ).asLong(),
+				root.path( FIELD_COMPUTE_MILLIS ).asLong( 0 )
+		);
+	}
+
+	private boolean isEnvelope(JsonNode root) {
+		return root.isObject()
+				&& root.has( FIELD_VALUE )
+				&& root.has( FIELD_SOFT_EXPIRE_AT )
+				&& root.has( FIELD_HARD_EXPIRE_AT );
+	}
+}
@@ -0,0 +1,352 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 2단계(L1 로컬 메모리 + L2 Redis) 캐싱 전략
+ * 자주 조회되는 geohash 셀은 Redis 왕복과 역직렬화 없이 메모리에서 바로 반환하고,
+ * evict/evictByPattern/clear 발생 시 Redis pub/sub으로 다른 인스턴스(blue/green)의 L1도 무효화
+ */
+@Slf4j
+@Primary
+@Component
+@Profile("!test")
+@ConditionalOnProperty(name = "cache.near.enabled", havingValue = "true", matchIfMissing = true)
+public class NearCacheStrategy implements CacheStrategy {
+
+	static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+	private static final String TYPE_EVICT = "evict";
+	private static final String TYPE_EVICT_ALL = "evictAll";
+	private static final String TYPE_PATTERN = "pattern";
+	private static final String TYPE_CLEAR = "clear";
+	private static final String DELIMITER = "|";
+	private static final String KEY_SEPARATOR = "\n";
+
+	private final GeohashCacheStrategy remoteCache;
+	private final StringRedisTemplate redisTemplate;
+	private final Cache<String, LocalEntry> localCache;
+	private final long localTtlSeconds;
+	private final String instanceId = UUID.randomUUID().toString();
+
+	public NearCacheStrategy(
+			GeohashCacheStrategy remoteCache,
+			StringRedisTemplate redisTemplate,
+			RedisMessageListenerContainer listenerContainer,
+			@Value("${cache.near.maximum-size:10000}") long maximumSize,
+			@Value("${cache.near.ttl-seconds:60}") long localTtlSeconds) {
+		this.remoteCache = remoteCache;
+		this.redisTemplate = redisTemplate;
+		this.localTtlSeconds = localTtlSeconds;
+		this.localCache = CacheBuilder.newBuilder()
+				.maximumSize( maximumSize )
+				.expireAfterWrite( localTtlSeconds, TimeUnit.SECONDS )
+				.build();
+
+		listenerContainer.addMessageListener(
+				(message, pattern) -> onInvalidation( message ),
+				new ChannelTopic( INVALIDATION_CHANNEL )
+		);
+
+		log.info( "NearCacheStrategy activated (maximumSize: {}, L1 TTL: {}s)", maximumSize, localTtlSeconds );
+	}
+
+	@Override
+	public <T> Optional<T> get(String key, Class<T> type) {
+		return getEntry( key, type ).map( CacheEntry::value );
+	}
+
+	@Override
+	public <T> Optional<T> get(String key, TypeReference<T> type) {
+		return getEntry( key, type ).map( CacheEntry::value );
+	}
+
+	@Override
+	public <T> Optional<CacheEntry<T>> getEntry(String key, Class<T> type) {
+		return getEntry( key, type, () -> remoteCache.getEntry( key, type ) );
+	}
+
+	/**
+	 * 제네릭 타입 조회, L1 값은 raw 타입으로만 확인 (같은 키에는 같은 타입을 저장한다고 가정)
+	 */
+	@Override
+	public <T> Optional<CacheEntry<T>> getEntry(String key, TypeReference<T> type) {
+		Class<?> rawType = TypeFactory.defaultInstance().constructType( type ).getRawClass();
+		return getEntry( key, rawType, () -> remoteCache.getEntry( key, type ) );
+	}
+
+	/**
+	 * L1 조회 후 없으면 L2(Redis) 조회, L2 적중 시 hard 만료 이내로 L1 채움
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Optional<CacheEntry<T>> getEntry(
+			String key,
+			Class<?> rawType,
+			Supplier<Optional<CacheEntry<T>>> remoteLookup) {
+
+		LocalEntry local = localCache.getIfPresent( key );
+
+		if ( local != null ) {
+			if ( !local.isExpired() && rawType.isInstance( local.entry().value() ) ) {
+				log.debug( "Near cache hit: {}", key );
+				return Optional.of( remoteCache.applyEarlyExpiration( (CacheEntry<T>) local.entry() ) );
+			}
+			localCache.invalidate( key );
+		}
+
+		Optional<CacheEntry<T>> remote = remoteLookup.get();
+		remote.ifPresent( entry -> storeLocal( key, entry ) );
+		return remote;
+	}
+
+	@Override
+	public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+		return getAll( keys, type, misses -> remoteCache.getAllEntries( misses, type ) );
+	}
+
+	@Override
+	public <T> Map<String, T> getAll(Collection<String> keys, TypeReference<T> type) {
+		Class<?> rawType = TypeFactory.defaultInstance().constructType( type ).getRawClass();
+		return getAll( keys, rawType, misses -> remoteCache.getAllEntries( misses, type ) );
+	}
+
+	/**
+	 * L1에서 먼저 찾고 없는 키만 모아 L2에서 한 번에 조회, 결과는 요청 순서대로 반환
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Map<String, T> getAll(
+			Collection<String> keys,
+			Class<?> rawType,
+			Function<List<String>, Map<String, CacheEntry<T>>> remoteLookup) {
+
+		Map<String, T> localHits = new HashMap<>();
+		List<String> misses = new ArrayList<>();
+
+		for ( String key : keys ) {
+			LocalEntry local = localCache.getIfPresent( key );
+			if ( local != null && !local.isExpired() && rawType.isInstance( local.entry().value() ) ) {
+				localHits.put( key, (T) local.entry().value() );
+			}
+			else {
+				misses.add( key );
+			}
+		}
+
+		Map<String, CacheEntry<T>> remoteHits = misses.isEmpty() ? Map.of() : remoteLookup.apply( misses );
+		remoteHits.forEach( this::storeLocal );
+
+		Map<String, T> values = new LinkedHashMap<>();
+		for ( String key : keys ) {
+			if ( localHits.containsKey( key ) ) {
+				values.put( key, localHits.get( key ) );
+			}
+			else if ( remoteHits.containsKey( key ) ) {
+				values.put( key, remoteHits.get( key ).value() );
+			}
+		}
+
+		log.debug( "Near cache multi-get: {} local / {} remote / {} keys", localHits.size(), remoteHits.size(), keys.size() );
+		return values;
+	}
+
+	@Override
+	public void put(String key, Object value) {
+		put( key, value, remoteCache.getDefaultTtlSeconds() );
+	}
+
+	@Override
+	public void put(String key, Object value, long ttlSeconds) {
+		putEntry( key, CacheEntry.of( value, ttlSeconds, ttlSeconds ) );
+	}
+
+	@Override
+	public void putAll(Map<String, ?> values, long ttlSeconds) {
+		if ( values.isEmpty() ) {
+			return;
+		}
+
+		Map<String, CacheEntry<?>> entries = new LinkedHashMap<>();
+		values.forEach( (key, value) -> entries.put( key, CacheEntry.of( value, ttlSeconds, ttlSeconds ) ) );
+
+		remoteCache.putAllEntries( entries );
+		entries.forEach( this::storeLocal );
+		publish( TYPE_EVICT_ALL, String.join( KEY_SEPARATOR, entries.keySet() ) );
+	}
+
+	@Override
+	public void putEntry(String key, CacheEntry<?> entry) {
+		remoteCache.putEntry( key, entry );
+		storeLocal( key, entry );
+		publish( TYPE_EVICT, key );
+	}
+
+	@Override
+	public boolean putEntryIfFenced(String key, CacheEntry<?> entry, String fenceKey, long fencingToken) {
+		if ( !remoteCache.putEntryIfFenced( key, entry, fenceKey, fencingToken ) ) {
+			return false;
+		}
+		storeLocal( key, entry );
+		publish( TYPE_EVICT, key );
+		return true;
+	}
+
+	@Override
+	public void evict(String key) {
+		localCache.invalidate( key );
+		remoteCache.evict( key );
+		publish( TYPE_EVICT, key );
+	}
+
+	@Override
+	public void evictByPattern(String pattern) {
+		evictLocalByPattern( pattern );
+		remoteCache.evictByPattern( pattern );
+		publish( TYPE_PATTERN, pattern );
+	}
+
+	@Override
+	public void clear() {
+		localCache.invalidateAll();
+		remoteCache.clear();
+		publish( TYPE_CLEAR, "" );
+	}
+
+	@Override
+	public boolean exists(String key) {
+		LocalEntry local = localCache.getIfPresent( key );
+		if ( local != null && !local.isExpired() ) {
+			return true;
+		}
+		return remoteCache.exists( key );
+	}
+
+	/**
+	 * L1 저장 (L1 만료는 hard 만료, 즉 Redis TTL을 넘지 않음)
+	 * 만료 정보가 없는 이전 형식 값은 Redis에 남은 TTL을 조회하여 사용
+	 * 값은 참조 그대로 보관하므로 호출자는 캐시된 값을 변경하지 않아야 함
+	 */
+	private void storeLocal(String key, CacheEntry<?> entry) {
+		if ( entry.value() == null ) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		long remoteExpiresAtMillis = entry.hardExpireAtMillis() != Long.MAX_VALUE
+				? entry.hardExpireAtMillis()
+				: now + TimeUnit.SECONDS.toMillis( remoteCache.getRemainingTtlSeconds( key ) );
+
+		long expiresAtMillis = Math.min( now + TimeUnit.SECONDS.toMillis( localTtlSeconds ), remoteExpiresAtMillis );
+		if ( expiresAtMillis <= now ) {
+			return;
+		}
+
+		localCache.put( key, new LocalEntry( entry, expiresAtMillis ) );
+	}
+
+	/**
+	 * Redis glob 패턴에 맞는 L1 키 삭제
+	 */
+	private void evictLocalByPattern(String pattern) {
+		Pattern regex = globToRegex( pattern );
+		localCache.asMap().keySet().removeIf( key -> regex.matcher( key ).matches() );
+	}
+
+	/**
+	 * 다른 인스턴스에 무효화 메시지 발행
+	 */
+	private void publish(String type, String argument) {
+		try {
+			redisTemplate.convertAndSend(
+					INVALIDATION_CHANNEL,
+					String.join( DELIMITER, instanceId, type, argument )
+			);
+		}
+		catch (Exception e) {
+			log.error( "Failed to publish cache invalidation: {} {}", type, argument, e );
+		}
+	}
+
+	/**
+	 * 다른 인스턴스에서 발행한 무효화 메시지 처리 (자신이 발행한 메시지는 무시)
+	 */
+	private void onInvalidation(Message message) {
+		String[] parts = new String( message.getBody(), StandardCharsets.UTF_8 ).split( Pattern.quote( DELIMITER ), 3 );
+		if ( parts.length < 3 || instanceId.equals( parts[0] ) ) {
+			return;
+		}
+
+		String type = parts[1];
+		String argument = parts[2];
+
+		switch ( type ) {
+			case TYPE_EVICT -> localCache.invalidate( argument );
+			case TYPE_EVICT_ALL -> localCache.invalidateAll( List.of( argument.split( KEY_SEPARATOR ) ) );
+			case TYPE_PATTERN -> evictLocalByPattern( argument );
+			case TYPE_CLEAR -> localCache.invalidateAll();
+			default -> log.warn( "Unknown cache invalidation type: {}", type );
+		}
+
+		log.debug( "Near cache invalidated by peer: {} {}", type, argument );
+	}
+
+	/**
+	 * Redis glob 패턴(*, ?, [...])을 정규식으로 변환
+	 */
+	static Pattern globToRegex(String glob) {
+		StringBuilder regex = new StringBuilder( glob.length() + 8 );
+
+		for ( int i = 0; i < glob.length(); i++ ) {
+			char c = glob.charAt( i );
+			switch ( c ) {
+				case '*' -> regex.append( ".*" );
+				case '?' -> regex.append( '.' );
+				case '[', ']' -> regex.append( c );
+				case '\\' -> {
+					if ( i + 1 < glob.length() ) {
+						regex.append( Pattern.quote( String.valueOf( glob.charAt( ++i ) ) ) );
+					}
+				}
+				default -> regex.append( Pattern.quote( String.valueOf( c ) ) );
+			}
+		}
+
+		return Pattern.compile( regex.toString() );
+	}
+
+	/**
+	 * L1 캐시 엔트리 (엔트리별 만료 시각 보관)
+	 */
+	private record LocalEntry(CacheEntry<?> entry, long expiresAtMillis) {
+
+		boolean isExpired() {
+			return System.currentTimeMillis() >= expiresAtMillis;
+		}
+	}
+}
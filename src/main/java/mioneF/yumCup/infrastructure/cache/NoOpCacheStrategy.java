@@ -1,15 +1,20 @@
 package mioneF.yumCup.infrastructure.cache;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * No-Operation 캐시 전략 (테스트용)
  */
 @Slf4j
+@Primary
 @Component
 @Profile("test")
 public class NoOpCacheStrategy implements CacheStrategy {
@@ -24,6 +29,36 @@ public class NoOpCacheStrategy implements CacheStrategy {
 		return Optional.empty();
 	}
 
+	@Override
+	public <T> Optional<T> get(String key, TypeReference<T> type) {
+		log.trace( "NoOp cache get: {}", key );
+		return Optional.empty();
+	}
+
+	@Override
+	public <T> Optional<CacheEntry<T>> getEntry(String key, Class<T> type) {
+		log.trace( "NoOp cache get entry: {}", key );
+		return Optional.empty();
+	}
+
+	@Override
+	public <T> Optional<CacheEntry<T>> getEntry(String key, TypeReference<T> type) {
+		log.trace( "NoOp cache get entry: {}", key );
+		return Optional.empty();
+	}
+
+	@Override
+	public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+		log.trace( "NoOp cache get all: {} keys", keys.size() );
+		return Map.of();
+	}
+
+	@Override
+	public <T> Map<String, T> getAll(Collection<String> keys, TypeReference<T> type) {
+		log.trace( "NoOp cache get all: {} keys", keys.size() );
+		return Map.of();
+	}
+
 	@Override
 	public void put(String key, Object value) {
 		log.trace( "NoOp cache put: {}", key );
@@ -34,6 +69,22 @@ public class NoOpCacheStrategy implements CacheStrategy {
 		log.trace( "NoOp cache put with TTL: {} ({}s)", key, ttlSeconds );
 	}
 
+	@Override
+	public void putAll(Map<String, ?> values, long ttlSeconds) {
+		log.trace( "NoOp cache put all: {} keys ({}s)", values.size(), ttlSeconds );
+	}
+
+	@Override
+	public void putEntry(String key, CacheEntry<?> entry) {
+		log.trace( "NoOp cache put entry: {}", key );
+	}
+
+	@Override
+	public boolean putEntryIfFenced(String key, CacheEntry<?> entry, String fenceKey, long fencingToken) {
+		log.trace( "NoOp cache put fenced entry: {} (token: {})", key, fencingToken );
+		return true;
+	}
+
 	@Override
 	public void evict(String key) {
 		log.trace( "NoOp cache evict: {}", key );
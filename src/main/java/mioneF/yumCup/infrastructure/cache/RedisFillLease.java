@@ -0,0 +1,229 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.exception.RestaurantProcessingException;
+import mioneF.yumCup.exception.RestaurantProcessingTimeoutException;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Redis 기반 클러스터 단위 캐시 채우기 lease
+ * 여러 인스턴스(blue/green)가 같은 키를 동시에 채우지 않도록 lease 키를 PX 만료와 함께 NX로 잡고,
+ * 키별 INCR 카운터를 fencing token으로 사용하여 lease가 만료된 이전 holder의 늦은 쓰기를 막음
+ * (token 비교와 캐시 쓰기는 CacheStrategy.putEntryIfFenced에서 원자적으로 수행)
+ */
+@Slf4j
+@Component
+public class RedisFillLease {
+
+	private static final String LEASE_PREFIX = "lease:fill:";
+	private static final String FENCE_PREFIX = "lease:fence:";
+	private static final Duration FENCE_TTL = Duration.ofDays( 1 );
+
+	// lease가 없을 때만 fencing token을 증가시키고 lease 설정 (원자적), 실패 시 0 반환
+	private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('exists', KEYS[1]) == 1 then return 0 end "
+					+ "local token = redis.call('incr', KEYS[2]) "
+					+ "redis.call('pexpire', KEYS[2], ARGV[2]) "
+					+ "redis.call('set', KEYS[1], token, 'PX', ARGV[1]) "
+					+ "return token",
+			Long.class
+	);
+
+	private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+			Long.class
+	);
+
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final Duration leaseTtl;
+	private final long maxWaitMillis;
+	private final long pollIntervalMillis;
+
+	public RedisFillLease(
+			StringRedisTemplate redisTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${cache.fill-lease.enabled:true}") boolean enabled,
+			@Value("${cache.fill-lease.ttl-ms:30000}") long leaseTtlMillis,
+			@Value("${cache.fill-lease.max-wait-ms:10000}") long maxWaitMillis,
+			@Value("${cache.fill-lease.poll-interval-ms:100}") long pollIntervalMillis) {
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.leaseTtl = Duration.ofMillis( leaseTtlMillis );
+		this.maxWaitMillis = maxWaitMillis;
+		this.pollIntervalMillis = pollIntervalMillis;
+	}
+
+	/**
+	 * 클러스터에서 한 인스턴스만 캐시를 채우도록 조율
+	 * lease를 잡은 인스턴스는 filler를 실행하고, 나머지는 bounded wait 동안 캐시를 polling하여 결과를 사용.
+	 * holder가 죽어 lease가 만료되면 대기 중인 인스턴스가 이어받고, 대기 시간을 넘기면 직접 채움.
+	 * 요청 마감이 있으면 남은 시간까지만 기다리고, 기다리다 마감이 지나면 채우지 않고 시간 초과
+	 */
+	public <T> T fill(String key, Supplier<Optional<T>> cacheLookup, Function<Lease, T> filler) {
+		if ( !enabled ) {
+			return filler.apply( null );
+		}
+
+		Optional<RequestDeadline> requestDeadline = RequestDeadline.current();
+		long deadline = System.currentTimeMillis() + requestDeadline
+				.map( value -> Math.min( maxWaitMillis, value.remaining().toMillis() ) )
+				.orElse( maxWaitMillis );
+
+		while ( true ) {
+			Optional<Lease> lease = tryAcquire( key );
+
+			if ( lease.isPresent() ) {
+				record( "acquired" );
+				try {
+					return filler.apply( lease.get() );
+				}
+				finally {
+					release( lease.get() );
+				}
+			}
+
+			Optional<T> filled = awaitFill( key, cacheLookup, deadline );
+			if ( filled.isPresent() ) {
+				record( "waited" );
+				return filled.get();
+			}
+
+			if ( System.currentTimeMillis() >= deadline ) {
+				if ( requestDeadline.map( RequestDeadline::isExpired ).orElse( false ) ) {
+					record( "deadline_exceeded" );
+					throw new RestaurantProcessingTimeoutException(
+							"Request deadline reached while waiting for another instance to fill key: " + key
+					);
+				}
+				log.warn( "Fill lease wait exceeded {}ms for key: {}, filling without lease", maxWaitMillis, key );
+				record( "wait_expired" );
+				return filler.apply( null );
+			}
+
+			log.info( "Fill lease released without result for key: {}, taking over", key );
+			record( "takeover" );
+		}
+	}
+
+	/**
+	 * lease 획득 시도, 성공 시 fencing token 발급
+	 * Redis 장애 시에는 가용성을 위해 fencing 없는 lease로 진행
+	 */
+	public Optional<Lease> tryAcquire(String key) {
+		try {
+			Long token = redisTemplate.execute(
+					ACQUIRE_SCRIPT,
+					List.of( LEASE_PREFIX + key, FENCE_PREFIX + key ),
+					String.valueOf( leaseTtl.toMillis() ),
+					String.valueOf( FENCE_TTL.toMillis() )
+			);
+
+			if ( token != null && token > 0 ) {
+				log.debug( "Fill lease acquired: {} (token: {})", key, token );
+				return Optional.of( new Lease( key, token ) );
+			}
+			return Optional.empty();
+		}
+		catch (Exception e) {
+			log.error( "Failed to acquire fill lease for key: {}, proceeding without lease", key, e );
+			return Optional.of( new Lease( key, null ) );
+		}
+	}
+
+	/**
+	 * 이 lease 이후 새 lease가 발급되지 않았을 때만 캐시에 저장 (fencing)
+	 * token 확인과 쓰기를 한 번에 수행하므로 lease가 만료된 뒤 다른 인스턴스가 이어받았다면 쓰기를 건너뜀.
+	 * fencing 없는 lease(lease 미사용 / Redis 장애)는 그대로 저장
+	 */
+	public boolean putIfCurrent(Lease lease, CacheStrategy cacheStrategy, String key, CacheEntry<?> entry) {
+		if ( lease == null || lease.fencingToken() == null ) {
+			cacheStrategy.putEntry( key, entry );
+			return true;
+		}
+		return cacheStrategy.putEntryIfFenced( key, entry, FENCE_PREFIX + lease.key(), lease.fencingToken() );
+	}
+
+	/**
+	 * 자신이 잡은 lease만 해제 (compare-and-delete)
+	 */
+	public void release(Lease lease) {
+		if ( lease.fencingToken() == null ) {
+			return;
+		}
+
+		try {
+			redisTemplate.execute(
+					RELEASE_SCRIPT,
+					List.of( LEASE_PREFIX + lease.key() ),
+					String.valueOf( lease.fencingToken() )
+			);
+		}
+		catch (Exception e) {
+			log.error( "Failed to release fill lease for key: {}", lease.key(), e );
+		}
+	}
+
+	/**
+	 * 다른 인스턴스의 캐시 채우기 결과 polling
+	 * 결과가 생기면 반환, lease가 사라졌는데 결과가 없거나 deadline을 넘기면 빈 값 반환
+	 */
+	private <T> Optional<T> awaitFill(String key, Supplier<Optional<T>> cacheLookup, long deadline) {
+		while ( System.currentTimeMillis() < deadline ) {
+			sleep( Math.min( pollIntervalMillis, Math.max( 1, deadline - System.currentTimeMillis() ) ) );
+
+			Optional<T> filled = cacheLookup.get();
+			if ( filled.isPresent() ) {
+				return filled;
+			}
+
+			if ( !isLeased( key ) ) {
+				return cacheLookup.get();
+			}
+		}
+		return Optional.empty();
+	}
+
+	private boolean isLeased(String key) {
+		try {
+			return Boolean.TRUE.equals( redisTemplate.hasKey( LEASE_PREFIX + key ) );
+		}
+		catch (Exception e) {
+			log.error( "Failed to check fill lease for key: {}", key, e );
+			return false;
+		}
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep( millis );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RestaurantProcessingException( "Interrupted while waiting for cache fill lease" );
+		}
+	}
+
+	private void record(String outcome) {
+		meterRegistry.counter( "yumcup.cache.fill.lease", "outcome", outcome ).increment();
+	}
+
+	/**
+	 * 캐시 채우기 lease (fencingToken이 null이면 Redis 장애로 fencing 없이 진행 중)
+	 */
+	public record Lease(String key, Long fencingToken) {
+	}
+}
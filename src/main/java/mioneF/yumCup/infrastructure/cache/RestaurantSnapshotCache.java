@@ -0,0 +1,288 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.domain.RestaurantSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 레스토랑 스냅샷 캐시 (kakaoId별 Redis hash)
+ * 캐시 적중 시 kakaoId 목록만으로 MySQL 조회 없이 후보를 구성할 수 있도록
+ * RestaurantResponse에 필요한 필드를 hash로 보관하고, 여러 건을 파이프라인 1회 왕복으로 읽고 씀
+ * 삭제할 때마다 kakaoId별 버전을 올리고, DB에서 읽어 채울 때는 읽기 전 버전이 그대로인 경우에만 저장하여
+ * 삭제 이전에 읽은 스냅샷이 삭제 이후에 다시 저장되지 않도록 함
+ */
+@Slf4j
+@Component
+public class RestaurantSnapshotCache {
+
+	private static final String KEY_PREFIX = "restaurant:snapshot:";
+	private static final String VERSION_KEY_PREFIX = "restaurant:snapshot-version:";
+	private static final String NO_VERSION = "0";
+
+	// 버전(KEYS[2])이 ARGV[1]과 같을 때만 hash를 새로 쓰고 ARGV[2]초 뒤 만료, 이후 ARGV는 field / value 쌍
+	private static final byte[] PUT_IF_UNCHANGED_SCRIPT = (
+			"if (redis.call('get', KEYS[2]) or '" + NO_VERSION + "') ~= ARGV[1] then return 0 end "
+					+ "redis.call('del', KEYS[1]) "
+					+ "redis.call('hset', KEYS[1], unpack(ARGV, 3)) "
+					+ "redis.call('expire', KEYS[1], ARGV[2]) "
+					+ "return 1"
+	).getBytes( StandardCharsets.UTF_8 );
+
+	private static final String FIELD_ID = "id";
+	private static final String FIELD_KAKAO_ID = "kakaoId";
+	private static final String FIELD_NAME = "name";
+	private static final String FIELD_CATEGORY = "category";
+	private static final String FIELD_DISTANCE = "distance";
+	private static final String FIELD_LATITUDE = "latitude";
+	private static final String FIELD_LONGITUDE = "longitude";
+	private static final String FIELD_ADDRESS = "address";
+	private static final String FIELD_ROAD_ADDRESS = "roadAddress";
+	private static final String FIELD_PHONE = "phone";
+	private static final String FIELD_PLACE_URL = "placeUrl";
+	private static final String FIELD_PHOTO_URL = "photoUrl";
+	private static final String FIELD_RATING = "rating";
+	private static final String FIELD_RATING_COUNT = "ratingCount";
+	private static final String FIELD_PRICE_LEVEL = "priceLevel";
+	private static final String FIELD_IS_OPEN_NOW = "isOpenNow";
+
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final long ttlSeconds;
+
+	public RestaurantSnapshotCache(
+			StringRedisTemplate redisTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${cache.restaurant-snapshot.ttl-seconds:86400}") long ttlSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.ttlSeconds = ttlSeconds;
+	}
+
+	/**
+	 * kakaoId 목록의 스냅샷을 파이프라인 HGETALL로 한 번에 조회 (적중한 것만 요청 순서대로 반환)
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, RestaurantSnapshot> getAll(List<String> kakaoIds) {
+		Map<String, RestaurantSnapshot> snapshots = new LinkedHashMap<>();
+		if ( kakaoIds.isEmpty() ) {
+			return snapshots;
+		}
+
+		try {
+			List<Object> results = redisTemplate.executePipelined( (RedisCallback<Object>) connection -> {
+				for ( String kakaoId : kakaoIds ) {
+					connection.hashCommands().hGetAll( rawKey( kakaoId ) );
+				}
+				return null;
+			} );
+
+			for ( int i = 0; i < kakaoIds.size(); i++ ) {
+				Map<String, String> hash = (Map<String, String>) results.get( i );
+				if ( hash != null && !hash.isEmpty() ) {
+					snapshots.put( kakaoIds.get( i ), fromHash( hash ) );
+				}
+			}
+		}
+		catch (Exception e) {
+			log.error( "Failed to get restaurant snapshots for {} ids", kakaoIds.size(), e );
+		}
+
+		record( "hit", snapshots.size() );
+		record( "miss", kakaoIds.size() - snapshots.size() );
+		return snapshots;
+	}
+
+	/**
+	 * DB에서 스냅샷을 읽기 전에 kakaoId별 버전 조회 (MGET 1회, 삭제된 적 없으면 "0")
+	 * 조회에 실패하면 빈 Map을 반환하여 이후 putAllIfUnchanged가 아무것도 저장하지 않음
+	 */
+	public Map<String, String> versions(Collection<String> kakaoIds) {
+		Map<String, String> versions = new HashMap<>();
+		if ( kakaoIds.isEmpty() ) {
+			return versions;
+		}
+
+		List<String> ids = List.copyOf( kakaoIds );
+		try {
+			List<String> values = redisTemplate.opsForValue()
+					.multiGet( ids.stream().map( kakaoId -> VERSION_KEY_PREFIX + kakaoId ).toList() );
+			if ( values == null ) {
+				return versions;
+			}
+
+			for ( int i = 0; i < ids.size(); i++ ) {
+				String value = values.get( i );
+				versions.put( ids.get( i ), value != null ? value : NO_VERSION );
+			}
+		}
+		catch (Exception e) {
+			log.error( "Failed to get restaurant snapshot versions for {} ids", ids.size(), e );
+		}
+		return versions;
+	}
+
+	/**
+	 * 읽기 전에 조회한 버전이 그대로인 스냅샷만 파이프라인으로 한 번에 저장
+	 * 그 사이 evictAll로 버전이 올라간(변경이 커밋된) kakaoId와 버전을 모르는 kakaoId는 저장하지 않음
+	 */
+	public void putAllIfUnchanged(Collection<RestaurantSnapshot> snapshots, Map<String, String> versions) {
+		List<RestaurantSnapshot> writable = snapshots.stream()
+				.filter( snapshot -> versions.containsKey( snapshot.kakaoId() ) )
+				.toList();
+		if ( writable.isEmpty() ) {
+			return;
+		}
+
+		try {
+			List<Object> results = redisTemplate.executePipelined( (RedisCallback<Object>) connection -> {
+				for ( RestaurantSnapshot snapshot : writable ) {
+					connection.scriptingCommands().eval(
+							PUT_IF_UNCHANGED_SCRIPT,
+							ReturnType.INTEGER,
+							2,
+							scriptArgs( snapshot, versions.get( snapshot.kakaoId() ) )
+					);
+				}
+				return null;
+			} );
+
+			long stored = results.stream().filter( result -> Long.valueOf( 1 ).equals( result ) ).count();
+			if ( stored < writable.size() ) {
+				meterRegistry.counter( "yumcup.restaurant.snapshot.fill", "result", "skipped" )
+						.increment( writable.size() - stored );
+			}
+			log.debug( "Stored {} / {} restaurant snapshots", stored, writable.size() );
+		}
+		catch (Exception e) {
+			log.error( "Failed to store {} restaurant snapshots", writable.size(), e );
+		}
+	}
+
+	/**
+	 * 변경된 레스토랑의 스냅샷 삭제 (버전을 올려 삭제 이전에 읽은 스냅샷이 다시 저장되지 않도록 함)
+	 */
+	public void evictAll(Collection<String> kakaoIds) {
+		if ( kakaoIds.isEmpty() ) {
+			return;
+		}
+
+		try {
+			redisTemplate.executePipelined( (RedisCallback<Object>) connection -> {
+				for ( String kakaoId : kakaoIds ) {
+					byte[] versionKey = rawVersionKey( kakaoId );
+					connection.stringCommands().incr( versionKey );
+					connection.keyCommands().expire( versionKey, ttlSeconds );
+					connection.keyCommands().del( rawKey( kakaoId ) );
+				}
+				return null;
+			} );
+
+			log.debug( "Evicted {} restaurant snapshots", kakaoIds.size() );
+		}
+		catch (Exception e) {
+			log.error( "Failed to evict {} restaurant snapshots", kakaoIds.size(), e );
+		}
+	}
+
+	/**
+	 * null 필드는 저장하지 않음 (읽을 때 없는 필드는 null)
+	 */
+	static Map<String, String> toHash(RestaurantSnapshot snapshot) {
+		Map<String, String> hash = new HashMap<>();
+		putIfPresent( hash, FIELD_ID, snapshot.id() );
+		putIfPresent( hash, FIELD_KAKAO_ID, snapshot.kakaoId() );
+		putIfPresent( hash, FIELD_NAME, snapshot.name() );
+		putIfPresent( hash, FIELD_CATEGORY, snapshot.category() );
+		putIfPresent( hash, FIELD_DISTANCE, snapshot.distance() );
+		putIfPresent( hash, FIELD_LATITUDE, snapshot.latitude() );
+		putIfPresent( hash, FIELD_LONGITUDE, snapshot.longitude() );
+		putIfPresent( hash, FIELD_ADDRESS, snapshot.address() );
+		putIfPresent( hash, FIELD_ROAD_ADDRESS, snapshot.roadAddress() );
+		putIfPresent( hash, FIELD_PHONE, snapshot.phone() );
+		putIfPresent( hash, FIELD_PLACE_URL, snapshot.placeUrl() );
+		putIfPresent( hash, FIELD_PHOTO_URL, snapshot.photoUrl() );
+		putIfPresent( hash, FIELD_RATING, snapshot.rating() );
+		putIfPresent( hash, FIELD_RATING_COUNT, snapshot.ratingCount() );
+		putIfPresent( hash, FIELD_PRICE_LEVEL, snapshot.priceLevel() );
+		putIfPresent( hash, FIELD_IS_OPEN_NOW, snapshot.isOpenNow() );
+		return hash;
+	}
+
+	static RestaurantSnapshot fromHash(Map<String, String> hash) {
+		return new RestaurantSnapshot(
+				parse( hash, FIELD_ID, Long::valueOf ),
+				hash.get( FIELD_KAKAO_ID ),
+				hash.get( FIELD_NAME ),
+				hash.get( FIELD_CATEGORY ),
+				parse( hash, FIELD_DISTANCE, Integer::valueOf ),
+				parse( hash, FIELD_LATITUDE, Double::valueOf ),
+				parse( hash, FIELD_LONGITUDE, Double::valueOf ),
+				hash.get( FIELD_ADDRESS ),
+				hash.get( FIELD_ROAD_ADDRESS ),
+				hash.get( FIELD_PHONE ),
+				hash.get( FIELD_PLACE_URL ),
+				hash.get( FIELD_PHOTO_URL ),
+				parse( hash, FIELD_RATING, Double::valueOf ),
+				parse( hash, FIELD_RATING_COUNT, Integer::valueOf ),
+				parse( hash, FIELD_PRICE_LEVEL, Integer::valueOf ),
+				parse( hash, FIELD_IS_OPEN_NOW, Boolean::valueOf )
+		);
+	}
+
+	private static void putIfPresent(Map<String, String> hash, String field, Object value) {
+		if ( value != null ) {
+			hash.put( field, value.toString() );
+		}
+	}
+
+	private static <T> T parse(Map<String, String> hash, String field, Function<String, T> parser) {
+		String value = hash.get( field );
+		return value != null ? parser.apply( value ) : null;
+	}
+
+	private static byte[] rawKey(String kakaoId) {
+		return RedisSerializer.string().serialize( KEY_PREFIX + kakaoId );
+	}
+
+	private static byte[] rawVersionKey(String kakaoId) {
+		return RedisSerializer.string().serialize( VERSION_KEY_PREFIX + kakaoId );
+	}
+
+	/**
+	 * PUT_IF_UNCHANGED_SCRIPT의 KEYS / ARGV (스냅샷 키, 버전 키, 읽은 버전, TTL, field / value 쌍)
+	 */
+	private byte[][] scriptArgs(RestaurantSnapshot snapshot, String version) {
+		Map<String, String> hash = toHash( snapshot );
+		List<byte[]> args = new ArrayList<>( 4 + hash.size() * 2 );
+		args.add( rawKey( snapshot.kakaoId() ) );
+		args.add( rawVersionKey( snapshot.kakaoId() ) );
+		args.add( version.getBytes( StandardCharsets.UTF_8 ) );
+		args.add( Long.toString( ttlSeconds ).getBytes( StandardCharsets.UTF_8 ) );
+		hash.forEach( (field, value) -> {
+			args.add( field.getBytes( StandardCharsets.UTF_8 ) );
+			args.add( value.getBytes( StandardCharsets.UTF_8 ) );
+		} );
+		return args.toArray( new byte[0][] );
+	}
+
+	private void record(String result, int count) {
+		if ( count > 0 ) {
+			meterRegistry.counter( "yumcup.restaurant.snapshot.lookup", "result", result ).increment( count );
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.exception.RestaurantProcessingException;
+import mioneF.yumCup.exception.RestaurantProcessingTimeoutException;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 키 단위 in-process single-flight
+ * 같은 키로 동시에 들어온 캐시 미스 중 첫 요청(leader)만 로더를 실행하고,
+ * 나머지(follower)는 leader의 결과를 기다려 중복 외부 API 호출을 막음
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+	private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final AtomicInteger waiters = new AtomicInteger();
+	private final Counter coalescedCounter;
+	private final Counter timeoutCounter;
+	private final long waitTimeoutMillis;
+
+	public SingleFlight(
+			MeterRegistry meterRegistry,
+			@Value("${cache.single-flight.wait-timeout-ms:30000}") long waitTimeoutMillis) {
+		this.waitTimeoutMillis = waitTimeoutMillis;
+		this.coalescedCounter = meterRegistry.counter( "yumcup.cache.singleflight.coalesced" );
+		this.timeoutCounter = meterRegistry.counter( "yumcup.cache.singleflight.timeouts" );
+
+		Gauge.builder( "yumcup.cache.singleflight.waiters", waiters, AtomicInteger::get )
+				.description( "Followers currently waiting on an in-flight cache fill" )
+				.register( meterRegistry );
+		Gauge.builder( "yumcup.cache.singleflight.inflight", inFlight, Map::size )
+				.description( "Cache keys currently being filled" )
+				.register( meterRegistry );
+	}
+
+	/**
+	 * 키별로 로더를 한 번만 실행
+	 * leader는 호출 스레드에서 로더를 실행하고, follower는 leader 결과를 대기 (타임아웃 / 인터럽트로 취소 가능)
+	 * 결과 객체는 leader와 follower가 공유하므로 호출자는 변경 전에 복사해야 함
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String key, Supplier<T> loader) {
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent( key, flight );
+
+		if ( existing != null ) {
+			return (T) awaitLeader( key, existing );
+		}
+
+		try {
+			T result = loader.get();
+			flight.complete( result );
+			return result;
+		}
+		catch (RuntimeException | Error e) {
+			flight.completeExceptionally( e );
+			throw e;
+		}
+		finally {
+			inFlight.remove( key, flight );
+		}
+	}
+
+	/**
+	 * leader 결과 대기 (follower)
+	 * follower 측 대기는 별도 future로 분리하여 follower가 취소되어도 leader 작업에는 영향 없음
+	 * 요청 마감이 있으면 남은 시간까지만 대기
+	 */
+	private Object awaitLeader(String key, CompletableFuture<Object> leader) {
+		waiters.incrementAndGet();
+		coalescedCounter.increment();
+		log.debug( "Coalescing cache fill for key: {} (waiters: {})", key, waiters.get() );
+
+		long waitMillis = RequestDeadline.current()
+				.map( deadline -> Math.min( waitTimeoutMillis, deadline.remaining().toMillis() ) )
+				.orElse( waitTimeoutMillis );
+
+		CompletableFuture<Object> follower = leader.copy();
+		try {
+			return follower.get( waitMillis, TimeUnit.MILLISECONDS );
+		}
+		catch (TimeoutException e) {
+			follower.cancel( true );
+			timeoutCounter.increment();
+			throw new RestaurantProcessingTimeoutException(
+					String.format( "Timed out after %dms waiting for in-flight restaurant search", waitMillis )
+			);
+		}
+		catch (InterruptedException e) {
+			follower.cancel( true );
+			Thread.currentThread().interrupt();
+			throw new RestaurantProcessingException( "Interrupted while waiting for in-flight restaurant search" );
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			if ( cause instanceof Error error ) {
+				throw error;
+			}
+			throw new RestaurantProcessingException( "In-flight restaurant search failed: " + cause.getMessage() );
+		}
+		finally {
+			waiters.decrementAndGet();
+		}
+	}
+}
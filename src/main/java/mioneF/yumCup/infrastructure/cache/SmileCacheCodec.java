@@ -0,0 +1,59 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Smile(바이너리 JSON) codec
+ * 필드명 back-reference와 바이너리 숫자 인코딩으로 JSON보다 작고, 트리 변환 없이 CacheEntry로 바로 역직렬화.
+ * 쓰기는 opt-in (cache.codec=smile): 모든 인스턴스가 두 codec을 읽을 수 있는 버전으로 배포된 뒤에 전환
+ */
+@Component
+public class SmileCacheCodec implements CacheCodec {
+
+	public static final String NAME = "smile";
+
+	// Smile 헤더 ":)\n" (SmileGenerator 기본 설정으로 항상 기록)
+	private static final byte[] HEADER = { ':', ')', '\n' };
+
+	private final ObjectMapper smileMapper;
+
+	public SmileCacheCodec(ObjectMapper objectMapper) {
+		this.smileMapper = objectMapper.copyWith( new SmileFactory() )
+				.configure( DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false );
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public boolean canDecode(byte[] bytes) {
+		if ( bytes.length < HEADER.length ) {
+			return false;
+		}
+		for ( int i = 0; i < HEADER.length; i++ ) {
+			if ( bytes[i] != HEADER[i] ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public byte[] encode(CacheEntry<?> entry) throws IOException {
+		return smileMapper.writeValueAsBytes( entry );
+	}
+
+	@Override
+	public <T> CacheEntry<T> decode(byte[] bytes, JavaType valueType) throws IOException {
+		JavaType entryType = smileMapper.getTypeFactory().constructParametricType( CacheEntry.class, valueType );
+		return smileMapper.readValue( bytes, entryType );
+	}
+}
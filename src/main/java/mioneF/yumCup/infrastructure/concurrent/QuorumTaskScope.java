@@ -0,0 +1,271 @@
+package mioneF.yumCup.infrastructure.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * required 개의 작업이 성공하면 끝나는 fan-out scope (StructuredTaskScope.ShutdownOnSuccess의 N개 버전)
+ * fork한 작업은 각자 가상 스레드에서 실행되고, join이 끝나거나 scope를 닫으면 아직 실행 중인 작업을 interrupt로 취소.
+ * close는 작업 스레드가 끝날 때까지 요청 마감의 남은 시간(최소 closeGrace)만큼만 기다리고,
+ * 그때까지 interrupt에 응답하지 않은 작업은 버려두고(abandoned) 반환하므로 요청 스레드가 마감을 넘겨 묶이지 않음.
+ * Reactor block()으로 대기 중인 외부 API 호출은 interrupt되면 구독을 취소하므로 HTTP 요청도 함께 중단됨.
+ * 작업 결과는 yumcup.fanout.subtasks{scope, result}로 기록 (succeeded / failed / wasted / cancelled / abandoned)
+ */
+@Slf4j
+public class QuorumTaskScope<T> implements AutoCloseable {
+
+	public static final String SUBTASKS_METRIC = "yumcup.fanout.subtasks";
+
+	// 요청 마감이 없거나 이미 지났을 때 interrupt한 작업이 끝나기를 기다리는 시간
+	private static final Duration DEFAULT_CLOSE_GRACE = Duration.ofMillis( 100 );
+
+	private final String name;
+	private final int required;
+	private final MeterRegistry meterRegistry;
+	private final Duration closeGrace;
+	private final ThreadFactory threadFactory;
+	private final Thread owner = Thread.currentThread();
+
+	// owner 스레드만 사용 (join에서 설정, close에서 대기 한도로 사용)
+	private Optional<RequestDeadline> deadline = Optional.empty();
+
+	// 아래 상태는 this로 보호
+	private final List<Subtask<T>> subtasks = new ArrayList<>();
+	private int succeeded;
+	private int finished;
+	private boolean shutdown;
+
+	public QuorumTaskScope(String name, int required, MeterRegistry meterRegistry) {
+		this( name, required, meterRegistry, DEFAULT_CLOSE_GRACE );
+	}
+
+	public QuorumTaskScope(String name, int required, MeterRegistry meterRegistry, Duration closeGrace) {
+		this.name = Objects.requireNonNull( name );
+		this.required = required;
+		this.meterRegistry = meterRegistry;
+		this.closeGrace = Objects.requireNonNull( closeGrace );
+		this.threadFactory = Thread.ofVirtual().name( name + "-", 0 ).factory();
+	}
+
+	/**
+	 * 작업을 새 가상 스레드에서 시작, 이미 끝난 scope면 실행하지 않음
+	 */
+	public Subtask<T> fork(Callable<? extends T> task) {
+		ensureOwner();
+
+		Subtask<T> subtask = new Subtask<>();
+		Thread thread = threadFactory.newThread( () -> run( subtask, task ) );
+
+		synchronized ( this ) {
+			if ( shutdown ) {
+				subtask.state = Subtask.State.CANCELLED;
+				return subtask;
+			}
+			subtask.thread = thread;
+			subtasks.add( subtask );
+		}
+
+		thread.start();
+		return subtask;
+	}
+
+	/**
+	 * required 개가 성공하거나 모든 작업이 끝날 때까지 대기 (요청 마감이 있으면 그때까지만)
+	 * 반환하면 아직 실행 중인 작업은 취소됨
+	 */
+	public void join(Optional<RequestDeadline> deadline) throws InterruptedException {
+		ensureOwner();
+		this.deadline = deadline;
+
+		try {
+			synchronized ( this ) {
+				while ( !shutdown && succeeded < required && finished < subtasks.size() ) {
+					if ( deadline.isEmpty() ) {
+						wait();
+						continue;
+					}
+
+					long remainingMillis = deadline.get().remaining().toMillis();
+					if ( remainingMillis <= 0 ) {
+						log.warn( "[{}] Request deadline reached with {} of {} subtasks finished", name, finished, subtasks.size() );
+						break;
+					}
+					wait( remainingMillis );
+				}
+			}
+		}
+		finally {
+			shutdown();
+		}
+	}
+
+	/**
+	 * 더 이상 결과를 받지 않고 실행 중인 작업을 interrupt로 취소
+	 */
+	public void shutdown() {
+		List<Subtask<T>> running;
+		synchronized ( this ) {
+			if ( shutdown ) {
+				return;
+			}
+			shutdown = true;
+			running = subtasks.stream().filter( subtask -> subtask.state == Subtask.State.RUNNING ).toList();
+			notifyAll();
+		}
+
+		running.forEach( subtask -> subtask.thread.interrupt() );
+		if ( !running.isEmpty() ) {
+			log.debug( "[{}] Cancelled {} running subtasks", name, running.size() );
+			record( "cancelled", running.size() );
+		}
+	}
+
+	/**
+	 * 실행 중인 작업을 취소하고 작업 스레드가 끝날 때까지 대기
+	 * 요청 마감의 남은 시간(최소 closeGrace)이 지나도 끝나지 않은 스레드는 기다리지 않고 abandoned로 기록
+	 */
+	@Override
+	public void close() {
+		ensureOwner();
+		shutdown();
+
+		List<Subtask<T>> forked;
+		synchronized ( this ) {
+			forked = List.copyOf( subtasks );
+		}
+
+		Duration remaining = deadline.map( RequestDeadline::remaining ).orElse( Duration.ZERO );
+		long closeBy = System.nanoTime() + ( remaining.compareTo( closeGrace ) > 0 ? remaining : closeGrace ).toNanos();
+
+		boolean interrupted = false;
+		int abandoned = 0;
+		for ( Subtask<T> subtask : forked ) {
+			while ( true ) {
+				try {
+					if ( !subtask.thread.join( Duration.ofNanos( closeBy - System.nanoTime() ) ) ) {
+						abandoned++;
+					}
+					break;
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+
+		if ( abandoned > 0 ) {
+			log.warn( "[{}] Abandoned {} subtasks that did not stop after cancellation", name, abandoned );
+			record( "abandoned", abandoned );
+		}
+
+		if ( interrupted ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void run(Subtask<T> subtask, Callable<? extends T> task) {
+		synchronized ( this ) {
+			if ( shutdown ) {
+				// 시작하기 전에 취소됨
+				finished++;
+				subtask.state = Subtask.State.CANCELLED;
+				return;
+			}
+		}
+
+		T result = null;
+		Throwable error = null;
+		try {
+			result = task.call();
+		}
+		catch (Throwable e) {
+			error = e;
+		}
+
+		String outcome;
+		synchronized ( this ) {
+			finished++;
+			if ( shutdown ) {
+				// 취소된 작업은 shutdown에서 이미 기록, 결과는 사용하지 않음
+				subtask.state = Subtask.State.CANCELLED;
+				outcome = null;
+			}
+			else if ( error != null ) {
+				subtask.error = error;
+				subtask.state = Subtask.State.FAILED;
+				outcome = "failed";
+			}
+			else if ( succeeded >= required ) {
+				// 필요한 수가 이미 모인 뒤 끝난 호출 (결과를 버림)
+				subtask.state = Subtask.State.CANCELLED;
+				outcome = "wasted";
+			}
+			else {
+				subtask.result = result;
+				subtask.state = Subtask.State.SUCCESS;
+				succeeded++;
+				outcome = "succeeded";
+			}
+			notifyAll();
+		}
+
+		if ( outcome != null ) {
+			record( outcome, 1 );
+		}
+	}
+
+	private void ensureOwner() {
+		if ( Thread.currentThread() != owner ) {
+			throw new IllegalStateException( "QuorumTaskScope can only be used by the thread that opened it" );
+		}
+	}
+
+	private void record(String result, int count) {
+		meterRegistry.counter( SUBTASKS_METRIC, "scope", name, "result", result ).increment( count );
+	}
+
+	/**
+	 * fork한 작업 하나의 상태 / 결과 (join 이후 확인)
+	 */
+	public static final class Subtask<T> {
+
+		public enum State {
+			RUNNING, SUCCESS, FAILED, CANCELLED
+		}
+
+		private volatile State state = State.RUNNING;
+		private volatile T result;
+		private volatile Throwable error;
+		private Thread thread;
+
+		private Subtask() {
+		}
+
+		public State state() {
+			return state;
+		}
+
+		/**
+		 * 성공한 작업의 결과
+		 */
+		public T get() {
+			if ( state != State.SUCCESS ) {
+				throw new IllegalStateException( "Subtask did not complete successfully: " + state );
+			}
+			return result;
+		}
+
+		public Throwable exception() {
+			return error;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package mioneF.yumCup.infrastructure.deadline;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나의 처리 마감 시각
+ * 컨트롤러에서 만들어 blocking 구간은 현재 스레드(ThreadLocal)로, reactive 구간은 Reactor Context로 전달.
+ * 외부 API 호출은 남은 시간을 타임아웃으로 사용하고, 마감이 지나면 더 기다리지 않음
+ */
+public final class RequestDeadline {
+
+	private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+	private static final Class<RequestDeadline> CONTEXT_KEY = RequestDeadline.class;
+	private static final AtomicLong SEQUENCE = new AtomicLong();
+
+	private final long expiresAtNanos;
+	private final long sequence;
+
+	private RequestDeadline(long expiresAtNanos, long sequence) {
+		this.expiresAtNanos = expiresAtNanos;
+		this.sequence = sequence;
+	}
+
+	/**
+	 * 지금부터 budget 이후 마감
+	 */
+	public static RequestDeadline after(Duration budget) {
+		return new RequestDeadline( System.nanoTime() + budget.toNanos(), nextSequence() );
+	}
+
+	/**
+	 * 요청이 들어온 순서 (minus로 만든 마감도 같은 요청이므로 같은 값)
+	 */
+	public long sequence() {
+		return sequence;
+	}
+
+	/**
+	 * 마감 없이 들어온 작업에 부여할 다음 순서 (마감의 순서와 같은 번호 공간)
+	 */
+	public static long nextSequence() {
+		return SEQUENCE.incrementAndGet();
+	}
+
+	/**
+	 * 남은 시간 (마감이 지났으면 0)
+	 */
+	public Duration remaining() {
+		return Duration.ofNanos( Math.max( 0, expiresAtNanos - System.nanoTime() ) );
+	}
+
+	public boolean isExpired() {
+		return System.nanoTime() >= expiresAtNanos;
+	}
+
+	/**
+	 * reserve 만큼 앞당긴 마감 (뒤이은 저장 / 응답 시간 확보용)
+	 */
+	public RequestDeadline minus(Duration reserve) {
+		return new RequestDeadline( expiresAtNanos - reserve.toNanos(), sequence );
+	}
+
+	/**
+	 * 현재 스레드에 마감을 설정하고 action 실행 (끝나면 이전 값 복원)
+	 */
+	public static <T> T callWith(RequestDeadline deadline, Supplier<T> action) {
+		RequestDeadline previous = CURRENT.get();
+		CURRENT.set( deadline );
+		try {
+			return action.get();
+		}
+		finally {
+			if ( previous == null ) {
+				CURRENT.remove();
+			}
+			else {
+				CURRENT.set( previous );
+			}
+		}
+	}
+
+	/**
+	 * 현재 스레드의 마감 (컨트롤러 밖 백그라운드 작업에는 없음)
+	 */
+	public static Optional<RequestDeadline> current() {
+		return Optional.ofNullable( CURRENT.get() );
+	}
+
+	public static Optional<RequestDeadline> from(ContextView context) {
+		return context.getOrEmpty( CONTEXT_KEY );
+	}
+
+	/**
+	 * Reactor Context에 이 마감 설정
+	 */
+	public Context putInto(Context context) {
+		return context.put( CONTEXT_KEY, this );
+	}
+
+	/**
+	 * 현재 스레드의 마감을 Reactor Context로 전달 (contextWrite용, 구독하는 스레드에서 평가됨)
+	 * Context에 이미 마감이 있으면 유지
+	 */
+	public static Context propagate(Context context) {
+		RequestDeadline deadline = CURRENT.get();
+		if ( deadline == null || context.hasKey( CONTEXT_KEY ) ) {
+			return context;
+		}
+		return deadline.putInto( context );
+	}
+}
@@ -0,0 +1,143 @@
+package mioneF.yumCup.infrastructure.geo;
+
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.repository.RestaurantLocation;
+import mioneF.yumCup.repository.RestaurantRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * DB 기반 레스토랑 좌표 인덱스 (외부 API 호출 전 마지막 단계)
+ * MySQL에서는 latitude/longitude로 생성되는 POINT 컬럼과 SPATIAL INDEX(Flyway 마이그레이션 V2)로 MBRContains + ST_Distance_Sphere 검색,
+ * 그 외 DB(H2 등)에서는 latitude/longitude 범위 조회 후 애플리케이션에서 거리 계산
+ */
+@Slf4j
+@Component
+@Order(30)
+@ConditionalOnProperty(name = "restaurant-index.database.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseRestaurantIndex implements NearbyRestaurantIndex {
+
+	static final String SPATIAL_COLUMN = "location";
+	static final String SPATIAL_INDEX = "idx_restaurant_location";
+
+	private static final double METERS_PER_DEGREE = 111_000;
+
+	private static final String SPATIAL_COLUMN_EXISTS_SQL = "SELECT COUNT(*) FROM information_schema.COLUMNS "
+			+ "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'restaurant' AND COLUMN_NAME = ?";
+
+	private final RestaurantRepository restaurantRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final boolean spatialColumnEnabled;
+
+	private volatile boolean spatialAvailable;
+
+	public DatabaseRestaurantIndex(
+			RestaurantRepository restaurantRepository,
+			JdbcTemplate jdbcTemplate,
+			@Value("${restaurant-index.database.spatial-column:true}") boolean spatialColumnEnabled) {
+		this.restaurantRepository = restaurantRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.spatialColumnEnabled = spatialColumnEnabled;
+	}
+
+	@Override
+	public List<Long> findWithinRadius(double latitude, double longitude, int radius, int limit) {
+		double deltaLatitude = radius / METERS_PER_DEGREE;
+		double farthestLatitude = Math.min( Math.abs( latitude ) + deltaLatitude, 89.0 );
+		double deltaLongitude = radius / ( METERS_PER_DEGREE * Math.cos( Math.toRadians( farthestLatitude ) ) );
+
+		try {
+			if ( spatialAvailable ) {
+				return restaurantRepository.findIdsWithinRadius(
+						latitude - deltaLatitude,
+						longitude - deltaLongitude,
+						latitude + deltaLatitude,
+						longitude + deltaLongitude,
+						latitude,
+						longitude,
+						radius,
+						limit
+				);
+			}
+
+			List<RestaurantLocation> candidates = restaurantRepository.findLocationsWithin(
+					latitude - deltaLatitude,
+					latitude + deltaLatitude,
+					longitude - deltaLongitude,
+					longitude + deltaLongitude
+			);
+
+			return candidates.stream()
+					.filter( location -> distance( location, latitude, longitude ) <= radius )
+					.sorted( Comparator.comparingDouble( location -> distance( location, latitude, longitude ) ) )
+					.limit( limit )
+					.map( RestaurantLocation::id )
+					.toList();
+		}
+		catch (Exception e) {
+			log.error( "Failed to search restaurants within {}m from database", radius, e );
+			return List.of();
+		}
+	}
+
+	/**
+	 * 저장된 행 자체가 인덱스이므로 별도 작업 없음 (POINT 컬럼은 DB가 생성)
+	 */
+	@Override
+	public void index(Collection<Restaurant> restaurants) {
+	}
+
+	/**
+	 * MySQL이고 마이그레이션으로 POINT 컬럼이 만들어져 있으면 spatial 검색 사용 (스키마는 변경하지 않고 확인만)
+	 * 컬럼은 엔티티에 매핑하지 않으므로 저장 시 DB가 생성.
+	 * 확인에 실패하거나 MySQL이 아니거나 컬럼이 없으면 latitude/longitude 범위 조회로 동작
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void detectSpatialColumn() {
+		if ( !spatialColumnEnabled ) {
+			return;
+		}
+
+		try {
+			String product = jdbcTemplate.execute(
+					(ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+			);
+
+			if ( !"MySQL".equalsIgnoreCase( product ) ) {
+				log.info( "Spatial restaurant search is not supported on {}, using latitude/longitude range query", product );
+				return;
+			}
+
+			Integer existing = jdbcTemplate.queryForObject( SPATIAL_COLUMN_EXISTS_SQL, Integer.class, SPATIAL_COLUMN );
+			if ( existing == null || existing == 0 ) {
+				log.warn( "Spatial column {} is missing (migration not applied), using latitude/longitude range query", SPATIAL_COLUMN );
+				return;
+			}
+
+			log.info( "Using spatial column {} with index {} for restaurant search", SPATIAL_COLUMN, SPATIAL_INDEX );
+			spatialAvailable = true;
+		}
+		catch (Exception e) {
+			log.error( "Failed to detect spatial restaurant column, using latitude/longitude range query", e );
+		}
+	}
+
+	boolean isSpatialAvailable() {
+		return spatialAvailable;
+	}
+
+	private static double distance(RestaurantLocation location, double latitude, double longitude) {
+		return GeoDistance.meters( latitude, longitude, location.latitude(), location.longitude() );
+	}
+}
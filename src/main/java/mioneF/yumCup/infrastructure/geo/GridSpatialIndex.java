@@ -0,0 +1,243 @@
+package mioneF.yumCup.infrastructure.geo;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * 위경도 격자 기반 불변 공간 인덱스
+ * 좌표와 id를 primitive 배열(레스토랑당 32바이트)로 보관하고 격자 셀 키 순으로 정렬하여,
+ * 반경 검색 시 bounding box에 걸친 셀 행마다 이진 탐색으로 연속 구간만 확인
+ */
+final class GridSpatialIndex {
+
+	static final GridSpatialIndex EMPTY = build( new long[0], new double[0], new double[0], 0 );
+
+	// 약 1.1km (위도 방향)
+	private static final double CELL_DEGREES = 0.01;
+	private static final int LAT_CELLS = (int) Math.ceil( 180 / CELL_DEGREES ) + 1;
+	private static final int LNG_CELLS = (int) Math.ceil( 360 / CELL_DEGREES ) + 1;
+	// 위도 1도 거리(약 111.2km)보다 작게 잡아 bounding box가 항상 반경 원을 포함하도록 함
+	private static final double METERS_PER_DEGREE = 111_000;
+	private static final int INDEX_BITS = 31;
+	private static final long INDEX_MASK = ( 1L << INDEX_BITS ) - 1;
+
+	private final long[] cellKeys;
+	private final long[] ids;
+	private final double[] latitudes;
+	private final double[] longitudes;
+
+	private GridSpatialIndex(long[] cellKeys, long[] ids, double[] latitudes, double[] longitudes) {
+		this.cellKeys = cellKeys;
+		this.ids = ids;
+		this.latitudes = latitudes;
+		this.longitudes = longitudes;
+	}
+
+	/**
+	 * 앞에서부터 size개의 좌표로 인덱스 생성
+	 * (셀 키 << 31 | 원래 위치)를 primitive 정렬하여 객체 생성 없이 셀 순서로 재배치
+	 */
+	static GridSpatialIndex build(long[] ids, double[] latitudes, double[] longitudes, int size) {
+		long[] packed = new long[size];
+		for ( int i = 0; i < size; i++ ) {
+			packed[i] = ( cellKey( latitudes[i], longitudes[i] ) << INDEX_BITS ) | i;
+		}
+		Arrays.sort( packed );
+
+		long[] sortedKeys = new long[size];
+		long[] sortedIds = new long[size];
+		double[] sortedLatitudes = new double[size];
+		double[] sortedLongitudes = new double[size];
+
+		for ( int j = 0; j < size; j++ ) {
+			int i = (int) ( packed[j] & INDEX_MASK );
+			sortedKeys[j] = packed[j] >>> INDEX_BITS;
+			sortedIds[j] = ids[i];
+			sortedLatitudes[j] = latitudes[i];
+			sortedLongitudes[j] = longitudes[i];
+		}
+
+		return new GridSpatialIndex( sortedKeys, sortedIds, sortedLatitudes, sortedLongitudes );
+	}
+
+	int size() {
+		return ids.length;
+	}
+
+	/**
+	 * 배열이 차지하는 메모리(바이트)
+	 */
+	long footprintBytes() {
+		return (long) size() * ( Long.BYTES * 2 + Double.BYTES * 2 );
+	}
+
+	long idAt(int position) {
+		return ids[position];
+	}
+
+	double latitudeAt(int position) {
+		return latitudes[position];
+	}
+
+	double longitudeAt(int position) {
+		return longitudes[position];
+	}
+
+	/**
+	 * 반경 내 좌표를 hits에 추가 (excluded에 해당하는 id는 제외)
+	 */
+	void search(double latitude, double longitude, int radius, Hits hits, LongPredicate excluded) {
+		if ( ids.length == 0 ) {
+			return;
+		}
+
+		double deltaLatitude = radius / METERS_PER_DEGREE;
+		double farthestLatitude = Math.min( 90, Math.abs( latitude ) + deltaLatitude );
+		double deltaLongitude = radius / ( METERS_PER_DEGREE * Math.max( Math.cos( Math.toRadians( farthestLatitude ) ), 0.01 ) );
+
+		int minLatCell = latCell( latitude - deltaLatitude );
+		int maxLatCell = latCell( latitude + deltaLatitude );
+		int minLngCell = lngCell( longitude - deltaLongitude );
+		int maxLngCell = lngCell( longitude + deltaLongitude );
+
+		for ( int row = minLatCell; row <= maxLatCell; row++ ) {
+			int start = lowerBound( (long) row * LNG_CELLS + minLngCell );
+			int end = lowerBound( (long) row * LNG_CELLS + maxLngCell + 1 );
+
+			for ( int j = start; j < end; j++ ) {
+				// 셀 경계 밖 좌표는 거리 계산 전에 bounding box로 제외
+				if ( Math.abs( latitudes[j] - latitude ) > deltaLatitude
+						|| Math.abs( longitudes[j] - longitude ) > deltaLongitude
+						|| excluded.test( ids[j] ) ) {
+					continue;
+				}
+
+				double distance = GeoDistance.meters( latitude, longitude, latitudes[j], longitudes[j] );
+				if ( distance <= radius ) {
+					hits.add( ids[j], distance );
+				}
+			}
+		}
+	}
+
+	private int lowerBound(long key) {
+		int low = 0;
+		int high = cellKeys.length;
+		while ( low < high ) {
+			int mid = ( low + high ) >>> 1;
+			if ( cellKeys[mid] < key ) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static long cellKey(double latitude, double longitude) {
+		return (long) latCell( latitude ) * LNG_CELLS + lngCell( longitude );
+	}
+
+	private static int latCell(double latitude) {
+		return clamp( (int) Math.floor( ( latitude + 90 ) / CELL_DEGREES ), LAT_CELLS - 1 );
+	}
+
+	private static int lngCell(double longitude) {
+		return clamp( (int) Math.floor( ( longitude + 180 ) / CELL_DEGREES ), LNG_CELLS - 1 );
+	}
+
+	private static int clamp(int cell, int max) {
+		return Math.max( 0, Math.min( cell, max ) );
+	}
+
+	/**
+	 * 검색 결과 누적 (id, 거리) - 가까운 순 상위 limit개 추출
+	 */
+	static final class Hits {
+
+		private long[] ids = new long[64];
+		private double[] distances = new double[64];
+		private int size;
+
+		void add(long id, double distance) {
+			if ( size == ids.length ) {
+				ids = Arrays.copyOf( ids, size * 2 );
+				distances = Arrays.copyOf( distances, size * 2 );
+			}
+			ids[size] = id;
+			distances[size] = distance;
+			size++;
+		}
+
+		int size() {
+			return size;
+		}
+
+		/**
+		 * 가까운 순 상위 limit개 id (크기 limit의 max-heap으로 선택 후 정렬, 전체 정렬 없이 O(n log limit))
+		 */
+		long[] nearest(int limit) {
+			int k = Math.min( limit, size );
+			int[] heap = new int[k];
+			int heapSize = 0;
+
+			for ( int i = 0; i < size; i++ ) {
+				if ( heapSize < k ) {
+					heap[heapSize] = i;
+					siftUp( heap, heapSize++ );
+				}
+				else if ( k > 0 && distances[i] < distances[heap[0]] ) {
+					heap[0] = i;
+					siftDown( heap, 0, heapSize );
+				}
+			}
+
+			// heap에서 가장 먼 것부터 꺼내 뒤에서부터 채움
+			long[] nearest = new long[k];
+			for ( int position = k - 1; position >= 0; position-- ) {
+				nearest[position] = ids[heap[0]];
+				heap[0] = heap[--heapSize];
+				siftDown( heap, 0, heapSize );
+			}
+			return nearest;
+		}
+
+		private void siftUp(int[] heap, int index) {
+			while ( index > 0 ) {
+				int parent = ( index - 1 ) >>> 1;
+				if ( distances[heap[parent]] >= distances[heap[index]] ) {
+					return;
+				}
+				swap( heap, parent, index );
+				index = parent;
+			}
+		}
+
+		private void siftDown(int[] heap, int index, int heapSize) {
+			while ( true ) {
+				int largest = index;
+				int left = index * 2 + 1;
+				int right = left + 1;
+
+				if ( left < heapSize && distances[heap[left]] > distances[heap[largest]] ) {
+					largest = left;
+				}
+				if ( right < heapSize && distances[heap[right]] > distances[heap[largest]] ) {
+					largest = right;
+				}
+				if ( largest == index ) {
+					return;
+				}
+				swap( heap, index, largest );
+				index = largest;
+			}
+		}
+
+		private static void swap(int[] heap, int a, int b) {
+			int temp = heap[a];
+			heap[a] = heap[b];
+			heap[b] = temp;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+package mioneF.yumCup.infrastructure.geo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.repository.RestaurantLocation;
+import mioneF.yumCup.repository.RestaurantRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 레스토랑 좌표 인덱스
+ * 시작 시 전체 레스토랑 좌표를 GridSpatialIndex로 적재하여 Redis/MySQL 없이 반경 검색에 답함.
+ * saveOrUpdate로 추가된 좌표는 pending에 모아 두었다가 일정 개수가 쌓이면 인덱스를 다시 생성 (copy-on-write)
+ */
+@Slf4j
+@Component
+@Order(10)
+@ConditionalOnProperty(name = "restaurant-index.memory.enabled", havingValue = "true", matchIfMissing = true)
+public class InMemoryRestaurantIndex implements NearbyRestaurantIndex {
+
+	private final RestaurantRepository restaurantRepository;
+	private final int loadPageSize;
+	private final int rebuildThreshold;
+
+	// 인덱스 생성 이후 추가/갱신된 좌표 (id → {위도, 경도}), 검색 시 grid보다 우선
+	private final Map<Long, double[]> pending = new ConcurrentHashMap<>();
+	private final Object rebuildLock = new Object();
+	private volatile GridSpatialIndex grid = GridSpatialIndex.EMPTY;
+
+	public InMemoryRestaurantIndex(
+			RestaurantRepository restaurantRepository,
+			MeterRegistry meterRegistry,
+			@Value("${restaurant-index.memory.load-page-size:10000}") int loadPageSize,
+			@Value("${restaurant-index.memory.rebuild-threshold:1000}") int rebuildThreshold) {
+		this.restaurantRepository = restaurantRepository;
+		this.loadPageSize = loadPageSize;
+		this.rebuildThreshold = rebuildThreshold;
+
+		Gauge.builder( "yumcup.restaurant.index.memory.size", this, InMemoryRestaurantIndex::size )
+				.description( "Restaurants held by the in-process spatial index" )
+				.register( meterRegistry );
+	}
+
+	@Override
+	public List<Long> findWithinRadius(double latitude, double longitude, int radius, int limit) {
+		GridSpatialIndex.Hits hits = new GridSpatialIndex.Hits();
+
+		if ( pending.isEmpty() ) {
+			grid.search( latitude, longitude, radius, hits, id -> false );
+		}
+		else {
+			grid.search( latitude, longitude, radius, hits, pending::containsKey );
+			pending.forEach( (id, location) -> {
+				double distance = GeoDistance.meters( latitude, longitude, location[0], location[1] );
+				if ( distance <= radius ) {
+					hits.add( id, distance );
+				}
+			} );
+		}
+
+		return Arrays.stream( hits.nearest( limit ) ).boxed().toList();
+	}
+
+	@Override
+	public void index(Collection<Restaurant> restaurants) {
+		for ( Restaurant restaurant : restaurants ) {
+			if ( restaurant.getId() != null && restaurant.getLatitude() != null && restaurant.getLongitude() != null ) {
+				pending.put( restaurant.getId(), new double[] { restaurant.getLatitude(), restaurant.getLongitude() } );
+			}
+		}
+
+		if ( pending.size() >= rebuildThreshold ) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * 시작 시 전체 레스토랑 좌표 적재 (id 기준 keyset 페이지, 엔티티 대신 좌표 projection만 조회)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		long startedAt = System.currentTimeMillis();
+
+		long[] ids = new long[loadPageSize];
+		double[] latitudes = new double[loadPageSize];
+		double[] longitudes = new double[loadPageSize];
+		int size = 0;
+		long lastId = 0;
+
+		try {
+			while ( true ) {
+				List<RestaurantLocation> page = restaurantRepository.findLocationsAfter(
+						lastId,
+						PageRequest.of( 0, loadPageSize )
+				);
+				if ( page.isEmpty() ) {
+					break;
+				}
+
+				if ( size + page.size() > ids.length ) {
+					int capacity = Math.max( ids.length * 2, size + page.size() );
+					ids = Arrays.copyOf( ids, capacity );
+					latitudes = Arrays.copyOf( latitudes, capacity );
+					longitudes = Arrays.copyOf( longitudes, capacity );
+				}
+
+				for ( RestaurantLocation location : page ) {
+					ids[size] = location.id();
+					latitudes[size] = location.latitude();
+					longitudes[size] = location.longitude();
+					size++;
+				}
+				lastId = page.get( page.size() - 1 ).id();
+			}
+		}
+		catch (Exception e) {
+			log.error( "Failed to load in-memory restaurant index after {} restaurants", size, e );
+		}
+
+		synchronized ( rebuildLock ) {
+			grid = GridSpatialIndex.build( ids, latitudes, longitudes, size );
+		}
+
+		log.info(
+				"In-memory restaurant index loaded: {} restaurants, {} KB, {}ms",
+				size, grid.footprintBytes() / 1024, System.currentTimeMillis() - startedAt
+		);
+	}
+
+	int size() {
+		return grid.size() + pending.size();
+	}
+
+	/**
+	 * 테스트/벤치마크용 직접 적재
+	 */
+	void loadAll(long[] ids, double[] latitudes, double[] longitudes, int size) {
+		synchronized ( rebuildLock ) {
+			grid = GridSpatialIndex.build( ids, latitudes, longitudes, size );
+		}
+	}
+
+	long footprintBytes() {
+		return grid.footprintBytes();
+	}
+
+	/**
+	 * 기존 grid와 pending을 합쳐 새 grid 생성
+	 * 새 grid를 먼저 공개한 뒤 pending에서 제거하므로 검색 시 좌표가 사라지는 구간이 없음
+	 * 복사 이후 같은 id로 다시 들어온 좌표는 값이 달라 제거되지 않고 다음 rebuild에 반영됨
+	 */
+	private void rebuild() {
+		synchronized ( rebuildLock ) {
+			if ( pending.size() < rebuildThreshold ) {
+				return;
+			}
+
+			Map<Long, double[]> merged = new HashMap<>( pending );
+			GridSpatialIndex current = grid;
+
+			int capacity = current.size() + merged.size();
+			long[] ids = new long[capacity];
+			double[] latitudes = new double[capacity];
+			double[] longitudes = new double[capacity];
+			int size = 0;
+
+			for ( int i = 0; i < current.size(); i++ ) {
+				long id = current.idAt( i );
+				if ( !merged.containsKey( id ) ) {
+					ids[size] = id;
+					latitudes[size] = current.latitudeAt( i );
+					longitudes[size] = current.longitudeAt( i );
+					size++;
+				}
+			}
+
+			for ( Map.Entry<Long, double[]> entry : merged.entrySet() ) {
+				ids[size] = entry.getKey();
+				latitudes[size] = entry.getValue()[0];
+				longitudes[size] = entry.getValue()[1];
+				size++;
+			}
+
+			grid = GridSpatialIndex.build( ids, latitudes, longitudes, size );
+			merged.forEach( (id, location) -> pending.remove( id, location ) );
+
+			log.debug( "In-memory restaurant index rebuilt with {} restaurants", size );
+		}
+	}
+}
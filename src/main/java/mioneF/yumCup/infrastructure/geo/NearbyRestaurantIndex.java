@@ -0,0 +1,23 @@
+package mioneF.yumCup.infrastructure.geo;
+
+import mioneF.yumCup.domain.entity.Restaurant;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 저장된 레스토랑 좌표 기반 반경 검색 인덱스
+ * 외부 API 호출 전에 이미 알고 있는 레스토랑으로 주변 검색에 답하기 위해 사용
+ */
+public interface NearbyRestaurantIndex {
+
+	/**
+	 * 반경 내 레스토랑 id 목록 (가까운 순, 최대 limit개)
+	 */
+	List<Long> findWithinRadius(double latitude, double longitude, int radius, int limit);
+
+	/**
+	 * 레스토랑 좌표 추가 또는 갱신 (id와 좌표가 없는 레스토랑은 무시)
+	 */
+	void index(Collection<Restaurant> restaurants);
+}
@@ -0,0 +1,142 @@
+package mioneF.yumCup.infrastructure.geo;
+
+import lombok.extern.slf4j.Slf4j;
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.repository.RestaurantRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis GEO 기반 레스토랑 좌표 인덱스
+ * 저장된 모든 레스토랑을 하나의 GEO 키(member = 레스토랑 id)로 관리하고 GEOSEARCH 한 번으로 반경 검색
+ */
+@Slf4j
+@Component
+@Order(20)
+@ConditionalOnProperty(name = "restaurant-index.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisGeoRestaurantIndex implements NearbyRestaurantIndex {
+
+	static final String GEO_KEY = "restaurants:geo";
+
+	private static final int BACKFILL_PAGE_SIZE = 1000;
+
+	private final StringRedisTemplate redisTemplate;
+	private final RestaurantRepository restaurantRepository;
+	private final boolean backfillOnStartup;
+
+	public RedisGeoRestaurantIndex(
+			StringRedisTemplate redisTemplate,
+			RestaurantRepository restaurantRepository,
+			@Value("${restaurant-index.redis.backfill-on-startup:true}") boolean backfillOnStartup) {
+		this.redisTemplate = redisTemplate;
+		this.restaurantRepository = restaurantRepository;
+		this.backfillOnStartup = backfillOnStartup;
+	}
+
+	@Override
+	public List<Long> findWithinRadius(double latitude, double longitude, int radius, int limit) {
+		try {
+			GeoResults<RedisGeoCommands.GeoLocation<String>> results = redisTemplate.opsForGeo().search(
+					GEO_KEY,
+					GeoReference.fromCoordinate( longitude, latitude ),
+					new Distance( radius, Metrics.METERS ),
+					RedisGeoCommands.GeoSearchCommandArgs.newGeoSearchArgs().sortAscending().limit( limit )
+			);
+
+			if ( results == null ) {
+				return List.of();
+			}
+
+			return results.getContent().stream()
+					.map( result -> Long.valueOf( result.getContent().getName() ) )
+					.toList();
+		}
+		catch (Exception e) {
+			log.error( "Failed to search restaurant geo index", e );
+			return List.of();
+		}
+	}
+
+	@Override
+	public void index(Collection<Restaurant> restaurants) {
+		Map<String, Point> locations = new HashMap<>( restaurants.size() * 2 );
+		for ( Restaurant restaurant : restaurants ) {
+			if ( restaurant.getId() != null && restaurant.getLatitude() != null && restaurant.getLongitude() != null ) {
+				locations.put(
+						String.valueOf( restaurant.getId() ),
+						new Point( restaurant.getLongitude(), restaurant.getLatitude() )
+				);
+			}
+		}
+
+		if ( locations.isEmpty() ) {
+			return;
+		}
+
+		try {
+			redisTemplate.opsForGeo().add( GEO_KEY, locations );
+			log.debug( "Indexed {} restaurant locations", locations.size() );
+		}
+		catch (Exception e) {
+			log.error( "Failed to index {} restaurant locations", locations.size(), e );
+		}
+	}
+
+	/**
+	 * GEO 키가 비어 있으면 기존 레스토랑 전체를 페이지 단위로 인덱싱
+	 * 기능 도입 이전에 저장된 레스토랑이나 Redis 초기화 이후를 위한 보정
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if ( !backfillOnStartup ) {
+			return;
+		}
+
+		try {
+			Long indexed = redisTemplate.opsForZSet().zCard( GEO_KEY );
+			if ( indexed != null && indexed > 0 ) {
+				log.info( "Restaurant geo index already populated ({} restaurants)", indexed );
+				return;
+			}
+
+			int total = 0;
+			Page<Restaurant> page = restaurantRepository.findAll(
+					PageRequest.of( 0, BACKFILL_PAGE_SIZE, Sort.by( "id" ) )
+			);
+
+			while ( page.hasContent() ) {
+				index( page.getContent() );
+				total += page.getNumberOfElements();
+
+				if ( !page.hasNext() ) {
+					break;
+				}
+				page = restaurantRepository.findAll( page.nextPageable() );
+			}
+
+			log.info( "Restaurant geo index backfilled with {} restaurants", total );
+		}
+		catch (Exception e) {
+			log.error( "Failed to backfill restaurant geo index", e );
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package mioneF.yumCup.repository;
+
+/**
+ * 좌표 인덱스 적재용 레스토랑 위치 (엔티티 전체를 읽지 않기 위한 projection)
+ */
+public record RestaurantLocation(
+		Long id,
+		Double latitude,
+		Double longitude
+) {
+}
@@ -3,6 +3,7 @@ package mioneF.yumCup.repository;
 import java.util.List;
 
 import mioneF.yumCup.domain.entity.Restaurant;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,4 +15,50 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
 	@Query("SELECT r FROM Restaurant r WHERE r.kakaoId IN :kakaoIds")
 	List<Restaurant> findByKakaoIdIn(@Param("kakaoIds") List<String> kakaoIds);
 
+	/**
+	 * Google 보강 없이 저장된 레스토랑 (id 순, idx_restaurant_needs_enrichment 사용)
+	 */
+	@Query("SELECT r FROM Restaurant r WHERE r.needsEnrichment = true ORDER BY r.id")
+	List<Restaurant> findNeedingEnrichment(Pageable pageable);
+
+	/**
+	 * id 기준 keyset 페이지로 좌표가 있는 레스토랑 위치 조회
+	 */
+	@Query("SELECT new mioneF.yumCup.repository.RestaurantLocation(r.id, r.latitude, r.longitude) FROM Restaurant r "
+			+ "WHERE r.id > :afterId AND r.latitude IS NOT NULL AND r.longitude IS NOT NULL ORDER BY r.id")
+	List<RestaurantLocation> findLocationsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	/**
+	 * 반경 내 레스토랑 id (MySQL 전용, location POINT 컬럼의 SPATIAL INDEX 사용, 가까운 순)
+	 * MBRContains로 인덱스에서 bounding box 후보를 좁힌 뒤 ST_Distance_Sphere로 반경 확인
+	 * 좌표가 없는 행은 location이 (0, 0)으로 생성되므로 제외
+	 */
+	@Query(value = "SELECT r.id FROM restaurant r "
+			+ "WHERE MBRContains(ST_MakeEnvelope(POINT(:minLongitude, :minLatitude), POINT(:maxLongitude, :maxLatitude)), r.location) "
+			+ "AND r.latitude IS NOT NULL AND r.longitude IS NOT NULL "
+			+ "AND ST_Distance_Sphere(r.location, POINT(:longitude, :latitude)) <= :radius "
+			+ "ORDER BY ST_Distance_Sphere(r.location, POINT(:longitude, :latitude)) "
+			+ "LIMIT :limit", nativeQuery = true)
+	List<Long> findIdsWithinRadius(
+			@Param("minLatitude") double minLatitude,
+			@Param("minLongitude") double minLongitude,
+			@Param("maxLatitude") double maxLatitude,
+			@Param("maxLongitude") double maxLongitude,
+			@Param("latitude") double latitude,
+			@Param("longitude") double longitude,
+			@Param("radius") int radius,
+			@Param("limit") int limit);
+
+	/**
+	 * 위경도 범위 내 레스토랑 위치 (SPATIAL INDEX가 없는 DB용, idx_restaurant_lat_lng 사용)
+	 */
+	@Query("SELECT new mioneF.yumCup.repository.RestaurantLocation(r.id, r.latitude, r.longitude) FROM Restaurant r "
+			+ "WHERE r.latitude BETWEEN :minLatitude AND :maxLatitude "
+			+ "AND r.longitude BETWEEN :minLongitude AND :maxLongitude")
+	List<RestaurantLocation> findLocationsWithin(
+			@Param("minLatitude") double minLatitude,
+			@Param("maxLatitude") double maxLatitude,
+			@Param("minLongitude") double minLongitude,
+			@Param("maxLongitude") double maxLongitude);
+
 }
@@ -0,0 +1,62 @@
+-- 엔티티 기준 초기 스키마 (Hibernate ddl-auto로 만들던 테이블, 이미 있으면 유지)
+
+CREATE TABLE IF NOT EXISTS restaurant_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO restaurant_seq (next_val)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM restaurant_seq);
+
+CREATE TABLE IF NOT EXISTS restaurant (
+    id               BIGINT       NOT NULL,
+    name             VARCHAR(255),
+    category         VARCHAR(255),
+    distance         INTEGER,
+    win_count        INTEGER,
+    play_count       INTEGER,
+    kakao_id         VARCHAR(255),
+    latitude         DOUBLE,
+    longitude        DOUBLE,
+    address          VARCHAR(255),
+    road_address     VARCHAR(255),
+    phone            VARCHAR(255),
+    place_url        VARCHAR(255),
+    rating           DOUBLE,
+    rating_count     INTEGER,
+    price_level      INTEGER,
+    photo_url        TEXT,
+    is_open_now      BIT,
+    needs_enrichment BIT,
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY idx_kakao_id (kakao_id),
+    KEY idx_restaurant_lat_lng (latitude, longitude),
+    KEY idx_restaurant_needs_enrichment (needs_enrichment)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS game (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    status       ENUM ('PROGRESS', 'COMPLETED'),
+    total_rounds INTEGER,
+    winner_id    BIGINT,
+    started_at   DATETIME(6),
+    ended_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_game_winner FOREIGN KEY (winner_id) REFERENCES restaurant (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS matches (
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    game_id        BIGINT,
+    restaurant1_id BIGINT,
+    restaurant2_id BIGINT,
+    winner_id      BIGINT,
+    round          INTEGER,
+    match_order    INTEGER,
+    created_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_matches_game FOREIGN KEY (game_id) REFERENCES game (id),
+    CONSTRAINT fk_matches_restaurant1 FOREIGN KEY (restaurant1_id) REFERENCES restaurant (id),
+    CONSTRAINT fk_matches_restaurant2 FOREIGN KEY (restaurant2_id) REFERENCES restaurant (id),
+    CONSTRAINT fk_matches_winner FOREIGN KEY (winner_id) REFERENCES restaurant (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,23 @@
+-- DatabaseRestaurantIndex의 반경 검색용 POINT 컬럼과 SPATIAL INDEX
+-- (애플리케이션 시작 시 ALTER하지 않고 Flyway가 한 번만 적용, blue/green 동시 시작은 Flyway lock으로 순서대로 처리)
+-- MySQL의 SPATIAL INDEX 컬럼은 NOT NULL이어야 하므로 좌표가 없는 행은 (0, 0)으로 생성하고,
+-- 검색 쿼리에서 latitude / longitude가 NULL인 행을 제외함.
+-- 이전 버전이 시작 시 같은 컬럼을 이미 추가한 DB에서는 건너뜀
+
+SET @location_exists = (
+    SELECT COUNT(*) FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'restaurant' AND COLUMN_NAME = 'location'
+);
+
+SET @add_location = IF(
+    @location_exists = 0,
+    'ALTER TABLE restaurant '
+        'ADD COLUMN location POINT SRID 0 '
+        'GENERATED ALWAYS AS (POINT(IFNULL(longitude, 0), IFNULL(latitude, 0))) STORED NOT NULL, '
+        'ADD SPATIAL INDEX idx_restaurant_location (location)',
+    'DO 0'
+);
+
+PREPARE add_location FROM @add_location;
+EXECUTE add_location;
+DEALLOCATE PREPARE add_location;
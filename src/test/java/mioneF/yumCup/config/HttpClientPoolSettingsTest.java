@@ -0,0 +1,46 @@
+package mioneF.yumCup.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HttpClientPoolSettings 단위 테스트
+ */
+@DisplayName("HttpClientPoolSettings 단위 테스트")
+class HttpClientPoolSettingsTest {
+
+	@Test
+	@DisplayName("connectionsToWarm() - HTTP/1.1은 설정한 수만큼, 풀 크기를 넘지 않음")
+	void connectionsToWarm_CappedAtPoolSize() {
+		// Given
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty( "test.pool.max-connections", "4" )
+				.withProperty( "test.pool.warmup-connections", "8" );
+
+		// When
+		HttpClientPoolSettings settings = HttpClientPoolSettings.from( environment, "test.pool" );
+
+		// Then
+		assertThat( settings.connectionsToWarm() ).isEqualTo( 4 );
+	}
+
+	@Test
+	@DisplayName("connectionsToWarm() - HTTP/2는 요청을 커넥션 하나에 multiplexing하므로 1개")
+	void connectionsToWarm_SingleConnectionForHttp2() {
+		// Given
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty( "test.pool.max-connections", "48" )
+				.withProperty( "test.pool.warmup-connections", "8" )
+				.withProperty( "test.pool.http2", "true" );
+
+		// When
+		HttpClientPoolSettings settings = HttpClientPoolSettings.from( environment, "test.pool" );
+
+		// Then
+		assertThat( settings.connectionsToWarm() ).isEqualTo( 1 );
+	}
+}
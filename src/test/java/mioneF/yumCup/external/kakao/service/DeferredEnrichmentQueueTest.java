@@ -0,0 +1,161 @@
+package mioneF.yumCup.external.kakao.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.exception.CircuitBreakerOpenException;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DeferredEnrichmentQueue 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeferredEnrichmentQueue 단위 테스트")
+class DeferredEnrichmentQueueTest {
+
+	@Mock
+	private RestaurantEnrichmentService enrichmentService;
+
+	@Mock
+	private RestaurantPersistenceService persistenceService;
+
+	@Mock
+	private GooglePlaceService googlePlaceService;
+
+	private DeferredEnrichmentQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new DeferredEnrichmentQueue(
+				enrichmentService,
+				persistenceService,
+				googlePlaceService,
+				new SimpleMeterRegistry(),
+				3,
+				10,
+				30000,
+				10000
+		);
+	}
+
+	@Test
+	@DisplayName("enqueue() - Google 정보가 있는 레스토랑은 제외, 최대 크기를 넘으면 오래된 것부터 버림")
+	void enqueue_SkipsEnrichedAndBoundsSize() {
+		// When
+		queue.enqueue( List.of(
+				restaurant( "1", null ),
+				restaurant( "2", 4.5 ),
+				restaurant( "3", null ),
+				restaurant( "4", null ),
+				restaurant( "5", null )
+		) );
+
+		// Then
+		assertThat( queue.size() ).isEqualTo( 3 );
+	}
+
+	@Test
+	@DisplayName("drain() - Google 호출 불가: 대기열 유지")
+	void drain_SkipsWhileUnavailable() {
+		// Given
+		queue.enqueue( List.of( restaurant( "1", null ) ) );
+		when( googlePlaceService.isAvailable() ).thenReturn( false );
+
+		// When
+		queue.drain();
+
+		// Then
+		assertThat( queue.size() ).isEqualTo( 1 );
+		verifyNoInteractions( enrichmentService, persistenceService );
+	}
+
+	@Test
+	@DisplayName("drain() - 보강 결과 저장, 호출 실패 이후 항목은 대기열에 되돌림")
+	void drain_AppliesEnrichmentAndRequeuesOnFailure() {
+		// Given
+		Restaurant first = restaurant( "1", null );
+		Restaurant second = restaurant( "2", null );
+		Restaurant enriched = restaurant( "1", 4.5 );
+		queue.enqueue( List.of( first, second ) );
+
+		when( googlePlaceService.isAvailable() ).thenReturn( true );
+		when( enrichmentService.findGoogleInfo( first ) ).thenReturn( Optional.of( enriched ) );
+		when( enrichmentService.findGoogleInfo( second ) ).thenThrow( new CircuitBreakerOpenException( "open" ) );
+		when( persistenceService.applyEnrichment( anyList() ) ).thenReturn( 1 );
+
+		// When
+		queue.drain();
+
+		// Then
+		verify( persistenceService ).applyEnrichment( List.of( enriched ) );
+		assertThat( queue.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("drain() - 대기열이 비어 있으면 DB에 보강 필요로 표시된 레스토랑을 보강, 찾지 못한 레스토랑은 표시 해제")
+	void drain_LoadsFlaggedRestaurantsWhenQueueEmpty() {
+		// Given
+		Restaurant found = restaurant( "1", null );
+		Restaurant missing = restaurant( "2", null );
+		Restaurant enriched = restaurant( "1", 4.5 );
+
+		when( googlePlaceService.isAvailable() ).thenReturn( true );
+		when( persistenceService.findNeedingEnrichment( 10 ) ).thenReturn( List.of( found, missing ) );
+		when( enrichmentService.findGoogleInfo( found ) ).thenReturn( Optional.of( enriched ) );
+		when( enrichmentService.findGoogleInfo( missing ) ).thenReturn( Optional.empty() );
+
+		// When
+		queue.drain();
+
+		// Then
+		verify( persistenceService ).applyEnrichment( List.of( enriched ) );
+		verify( persistenceService ).markEnriched( List.of( "2" ) );
+	}
+
+	@Test
+	@DisplayName("drain() - 한 번의 보강은 같은 마감(요청)으로 호출하고, 끝나면 마감을 지움")
+	void drain_SharesOneDeadlinePerRun() {
+		// Given
+		List<Optional<RequestDeadline>> deadlines = new ArrayList<>();
+		queue.enqueue( List.of( restaurant( "1", null ), restaurant( "2", null ) ) );
+
+		when( googlePlaceService.isAvailable() ).thenReturn( true );
+		when( enrichmentService.findGoogleInfo( any() ) ).thenAnswer( invocation -> {
+			deadlines.add( RequestDeadline.current() );
+			return Optional.empty();
+		} );
+
+		// When
+		queue.drain();
+
+		// Then
+		assertThat( deadlines ).hasSize( 2 ).allMatch( Optional::isPresent );
+		assertThat( deadlines.get( 0 ).get() ).isSameAs( deadlines.get( 1 ).get() );
+		assertThat( RequestDeadline.current() ).isEmpty();
+	}
+
+	private Restaurant restaurant(String kakaoId, Double rating) {
+		return Restaurant.builder()
+				.kakaoId( kakaoId )
+				.name( "restaurant-" + kakaoId )
+				.latitude( 37.5 )
+				.longitude( 127.0 )
+				.rating( rating )
+				.build();
+	}
+}
@@ -0,0 +1,116 @@
+package mioneF.yumCup.external.kakao.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.infrastructure.cache.CacheEntry;
+import mioneF.yumCup.infrastructure.cache.CacheStrategy;
+import mioneF.yumCup.infrastructure.cache.GeohashCacheStrategy;
+import mioneF.yumCup.infrastructure.cache.RedisFillLease;
+import mioneF.yumCup.infrastructure.cache.RestaurantSnapshotCache;
+import mioneF.yumCup.infrastructure.cache.SingleFlight;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * KakaoMapRestaurantService 백그라운드 갱신 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KakaoMapRestaurantService 백그라운드 갱신 단위 테스트")
+class KakaoMapRestaurantServiceTest {
+
+	private static final long REFRESH_BUDGET_MILLIS = 2000;
+
+	@Mock
+	private KakaoRestaurantFetcher restaurantFetcher;
+
+	@Mock
+	private RestaurantPersistenceService persistenceService;
+
+	@Mock
+	private GooglePlaceService googlePlaceService;
+
+	@Mock
+	private DeferredEnrichmentQueue deferredEnrichmentQueue;
+
+	@Mock
+	private GeohashCacheStrategy geohashCacheStrategy;
+
+	@Mock
+	private CacheStrategy cacheStrategy;
+
+	@Mock
+	private SingleFlight singleFlight;
+
+	@Mock
+	private RedisFillLease fillLease;
+
+	@Mock
+	private RestaurantSnapshotCache snapshotCache;
+
+	private KakaoMapRestaurantService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new KakaoMapRestaurantService(
+				restaurantFetcher,
+				persistenceService,
+				googlePlaceService,
+				deferredEnrichmentQueue,
+				geohashCacheStrategy,
+				cacheStrategy,
+				singleFlight,
+				fillLease,
+				snapshotCache,
+				List.of(),
+				new SimpleMeterRegistry()
+		);
+		ReflectionTestUtils.setField( service, "refreshBudgetMillis", REFRESH_BUDGET_MILLIS );
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.shutdown();
+	}
+
+	@Test
+	@DisplayName("refreshInBackground() - 갱신 한 번을 refresh-budget 마감이 있는 요청 하나로 실행")
+	void refreshInBackground_RunsUnderRefreshBudget() throws Exception {
+		// Given
+		when( fillLease.tryAcquire( "key" ) ).thenReturn( Optional.of( new RedisFillLease.Lease( "key", 1L ) ) );
+
+		CompletableFuture<Optional<RequestDeadline>> fetchDeadline = new CompletableFuture<>();
+		when( restaurantFetcher.fetch( anyDouble(), anyDouble(), anyInt(), anyBoolean() ) ).thenAnswer( invocation -> {
+			fetchDeadline.complete( RequestDeadline.current() );
+			return List.of();
+		} );
+
+		// When
+		service.refreshInBackground( "key", CacheEntry.of( List.of( "12345" ), 0, 60 ), 37.5665, 126.9780, 1000 );
+
+		// Then: 외부 API 조회는 백그라운드 스레드에서 refresh-budget 이내의 마감과 함께 실행
+		Optional<RequestDeadline> deadline = fetchDeadline.get( 1, TimeUnit.SECONDS );
+		assertThat( deadline ).isPresent();
+		assertThat( deadline.get().isExpired() ).isFalse();
+		assertThat( deadline.get().remaining() ).isLessThanOrEqualTo( Duration.ofMillis( REFRESH_BUDGET_MILLIS ) );
+		verify( fillLease, timeout( 1000 ) ).release( any( RedisFillLease.Lease.class ) );
+	}
+}
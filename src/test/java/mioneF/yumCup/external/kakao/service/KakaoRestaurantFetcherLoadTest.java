@@ -0,0 +1,195 @@
+package mioneF.yumCup.external.kakao.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.infrastructure.api.GooglePlacesApiClient;
+import mioneF.yumCup.infrastructure.api.KakaoLocalApiClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * blocking / reactive 외부 API 수집 모드 부하 비교
+ * MockWebServer가 Kakao / Google 응답을 지연 후 반환하고, 동시 검색 수를 고정하여 처리량과 지연, 플랫폼 스레드 수를 비교.
+ * -Dbenchmark=true 로 실행할 때만 동작
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("KakaoRestaurantFetcher 모드별 부하 비교")
+class KakaoRestaurantFetcherLoadTest {
+
+	private static final Logger log = LoggerFactory.getLogger( KakaoRestaurantFetcherLoadTest.class );
+
+	private static final int SEARCHES = 400;
+	private static final int CONCURRENT_SEARCHES = 100;
+	private static final long RESPONSE_DELAY_MS = 50;
+
+	private MockWebServer mockWebServer;
+	private KakaoLocalApiClient kakaoApiClient;
+	private RestaurantEnrichmentService enrichmentService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		mockWebServer = new MockWebServer();
+		mockWebServer.setDispatcher( new DelayedDispatcher() );
+		mockWebServer.start();
+
+		WebClient webClient = WebClient.builder()
+				.baseUrl( mockWebServer.url( "/" ).toString() )
+				.build();
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		kakaoApiClient = new KakaoLocalApiClient( webClient, objectMapper );
+		GooglePlacesApiClient googleApiClient = new GooglePlacesApiClient( webClient, objectMapper, "test-key" );
+		enrichmentService = new RestaurantEnrichmentService( new GooglePlaceService( googleApiClient ) );
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	@DisplayName("동시 검색 100개 - blocking vs reactive")
+	void compareModes() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		KakaoRestaurantFetcher blocking = new KakaoRestaurantFetcher( kakaoApiClient, enrichmentService, false, 2, 16, meterRegistry );
+		KakaoRestaurantFetcher reactive = new KakaoRestaurantFetcher( kakaoApiClient, enrichmentService, true, 2, 16, meterRegistry );
+
+		// 워밍업 (커넥션 풀 / JIT)
+		run( "warmup-blocking", blocking );
+		run( "warmup-reactive", reactive );
+
+		Result blockingResult = run( "blocking", blocking );
+		Result reactiveResult = run( "reactive", reactive );
+
+		assertThat( blockingResult.failures() ).isZero();
+		assertThat( reactiveResult.failures() ).isZero();
+	}
+
+	private Result run(String mode, KakaoRestaurantFetcher fetcher) throws Exception {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		threads.resetPeakThreadCount();
+
+		Semaphore permits = new Semaphore( CONCURRENT_SEARCHES );
+		List<CompletableFuture<Long>> latencies = new ArrayList<>( SEARCHES );
+		long startedAt = System.nanoTime();
+
+		// 요청 스레드 역할 (서블릿 요청당 스레드 하나)
+		try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for ( int i = 0; i < SEARCHES; i++ ) {
+				permits.acquire();
+				latencies.add( CompletableFuture.supplyAsync( () -> {
+					try {
+						long searchStartedAt = System.nanoTime();
+						List<Restaurant> restaurants = fetcher.fetch( 37.5665, 126.9780, 1000 );
+						assertThat( restaurants ).hasSize( KakaoRestaurantFetcher.REQUIRED_RESTAURANTS );
+						return ( System.nanoTime() - searchStartedAt ) / 1_000_000;
+					}
+					finally {
+						permits.release();
+					}
+				}, callers ) );
+			}
+			CompletableFuture.allOf( latencies.toArray( CompletableFuture[]::new ) )
+					.exceptionally( e -> null )
+					.get( 5, TimeUnit.MINUTES );
+		}
+
+		long elapsedMillis = ( System.nanoTime() - startedAt ) / 1_000_000;
+		List<Long> sorted = latencies.stream()
+				.filter( future -> !future.isCompletedExceptionally() )
+				.map( CompletableFuture::join )
+				.sorted()
+				.collect( Collectors.toList() );
+		long failures = SEARCHES - sorted.size();
+
+		if ( !mode.startsWith( "warmup" ) ) {
+			log.info( String.format(
+					"[%s] %d searches in %dms (%.1f/s), p50: %dms, p99: %dms, failures: %d, peak platform threads: %d",
+					mode,
+					SEARCHES,
+					elapsedMillis,
+					SEARCHES * 1000.0 / Math.max( 1, elapsedMillis ),
+					sorted.isEmpty() ? -1 : sorted.get( sorted.size() / 2 ),
+					sorted.isEmpty() ? -1 : sorted.get( sorted.size() * 99 / 100 ),
+					failures,
+					threads.getPeakThreadCount()
+			) );
+		}
+		return new Result( elapsedMillis, failures );
+	}
+
+	private record Result(long elapsedMillis, long failures) {
+	}
+
+	/**
+	 * Kakao 카테고리 검색(페이지당 15개)과 Google Find Place 응답을 고정 지연 후 반환
+	 */
+	private static class DelayedDispatcher extends Dispatcher {
+
+		@Override
+		public MockResponse dispatch(RecordedRequest request) {
+			String path = request.getPath() != null ? request.getPath() : "";
+			String body = path.startsWith( "/v2/local" ) ? kakaoPage( path ) : GOOGLE_RESPONSE;
+
+			return new MockResponse()
+					.setHeader( "Content-Type", "application/json" )
+					.setBody( body )
+					.setBodyDelay( RESPONSE_DELAY_MS, TimeUnit.MILLISECONDS );
+		}
+
+		private static String kakaoPage(String path) {
+			String page = path.replaceAll( ".*[?&]page=(\\d+).*", "$1" );
+			String documents = IntStream.range( 0, 15 )
+					.mapToObj( i -> String.format(
+							"{\"id\":\"%s-%d\",\"place_name\":\"Restaurant %s-%d\",\"category_name\":\"음식점 > 한식\","
+									+ "\"x\":\"126.978\",\"y\":\"37.5665\",\"distance\":\"100\"}",
+							page, i, page, i
+					) )
+					.collect( Collectors.joining( "," ) );
+			return "{\"meta\":{\"is_end\":false},\"documents\":[" + documents + "]}";
+		}
+
+		private static final String GOOGLE_RESPONSE = """
+				{
+				    "candidates": [
+				        {
+				            "rating": 4.5,
+				            "user_ratings_total": 100,
+				            "price_level": 2,
+				            "opening_hours": { "open_now": true }
+				        }
+				    ],
+				    "status": "OK"
+				}
+				""";
+	}
+}
@@ -0,0 +1,180 @@
+package mioneF.yumCup.external.kakao.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.exception.InsufficientRestaurantsException;
+import mioneF.yumCup.infrastructure.api.GooglePlacesApiClient;
+import mioneF.yumCup.infrastructure.api.KakaoLocalApiClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * KakaoRestaurantFetcher reactive pipeline 테스트
+ */
+@DisplayName("KakaoRestaurantFetcher pipeline 테스트")
+class KakaoRestaurantFetcherTest {
+
+	private MockWebServer mockWebServer;
+	private PagedDispatcher dispatcher;
+	private KakaoRestaurantFetcher fetcher;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		dispatcher = new PagedDispatcher();
+		mockWebServer = new MockWebServer();
+		mockWebServer.setDispatcher( dispatcher );
+		mockWebServer.start();
+
+		WebClient webClient = WebClient.builder()
+				.baseUrl( mockWebServer.url( "/" ).toString() )
+				.build();
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		KakaoLocalApiClient kakaoApiClient = new KakaoLocalApiClient( webClient, objectMapper );
+		GooglePlacesApiClient googleApiClient = new GooglePlacesApiClient( webClient, objectMapper, "test-key" );
+		RestaurantEnrichmentService enrichmentService = new RestaurantEnrichmentService( new GooglePlaceService( googleApiClient ) );
+
+		fetcher = new KakaoRestaurantFetcher( kakaoApiClient, enrichmentService, true, 2, 16, new SimpleMeterRegistry() );
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	@DisplayName("페이지 간 중복 id는 제거하고, 모자라면 다음 페이지 조회")
+	void dedupesAcrossPagesAndFetchesNextPage() {
+		// Given: 2페이지가 1페이지와 같은 문서
+		dispatcher.page( 1, page( "a", 15, false, 45 ) );
+		dispatcher.page( 2, page( "a", 15, false, 45 ) );
+		dispatcher.page( 3, page( "c", 15, false, 45 ) );
+
+		// When
+		List<Restaurant> restaurants = fetcher.fetch( 37.5665, 126.9780, 1000 );
+
+		// Then
+		assertThat( restaurants ).hasSize( KakaoRestaurantFetcher.REQUIRED_RESTAURANTS );
+		assertThat( restaurants ).extracting( Restaurant::getKakaoId ).doesNotHaveDuplicates();
+		assertThat( restaurants ).extracting( Restaurant::getKakaoId ).contains( "a-0", "a-14", "c-0" );
+		assertThat( dispatcher.requestedPages() ).containsOnlyKeys( 1, 2, 3 );
+	}
+
+	@Test
+	@DisplayName("마지막 페이지(is_end)를 받으면 더 조회하지 않음")
+	void stopsAtLastPage() {
+		// Given
+		dispatcher.page( 1, page( "a", 10, true, 10 ) );
+		dispatcher.page( 2, page( "b", 0, true, 10 ) );
+
+		// When & Then
+		assertThatThrownBy( () -> fetcher.fetch( 37.5665, 126.9780, 1000 ) )
+				.isInstanceOf( InsufficientRestaurantsException.class )
+				.hasMessageContaining( "found only 10" );
+
+		assertThat( dispatcher.requestedPages() ).doesNotContainKey( 3 );
+	}
+
+	@Test
+	@DisplayName("Google 보강은 먼저 도착한 페이지의 문서부터 시작 (느린 페이지를 기다리지 않음)")
+	void enrichmentStartsBeforeSlowPageArrives() {
+		// Given: 2페이지만 1초 지연
+		dispatcher.page( 1, page( "a", 15, false, 30 ) );
+		dispatcher.page( 2, page( "b", 15, false, 30 ) );
+		dispatcher.delay( 2, 1000 );
+
+		// When
+		long startedAt = System.nanoTime();
+		List<Restaurant> restaurants = fetcher.fetch( 37.5665, 126.9780, 1000 );
+
+		// Then
+		assertThat( restaurants ).hasSize( KakaoRestaurantFetcher.REQUIRED_RESTAURANTS );
+		assertThat( TimeUnit.NANOSECONDS.toMillis( dispatcher.firstGoogleRequestAt() - startedAt ) ).isLessThan( 800 );
+	}
+
+	private static String page(String prefix, int count, boolean isEnd, int pageableCount) {
+		String documents = IntStream.range( 0, count )
+				.mapToObj( i -> String.format(
+						"{\"id\":\"%s-%d\",\"place_name\":\"Restaurant %s-%d\",\"category_name\":\"음식점 > 한식\","
+								+ "\"x\":\"126.978\",\"y\":\"37.5665\",\"distance\":\"100\"}",
+						prefix, i, prefix, i
+				) )
+				.collect( Collectors.joining( "," ) );
+		return String.format(
+				"{\"meta\":{\"is_end\":%s,\"pageable_count\":%d},\"documents\":[%s]}",
+				isEnd,
+				pageableCount,
+				documents
+		);
+	}
+
+	/**
+	 * Kakao 페이지별 응답 / 지연을 지정하고 요청된 페이지와 첫 Google 요청 시각을 기록
+	 */
+	private static class PagedDispatcher extends Dispatcher {
+
+		private final Map<Integer, String> pages = new ConcurrentHashMap<>();
+		private final Map<Integer, Long> delays = new ConcurrentHashMap<>();
+		private final Map<Integer, Integer> requestedPages = new ConcurrentHashMap<>();
+		private final AtomicLong firstGoogleRequestAt = new AtomicLong();
+
+		void page(int page, String body) {
+			pages.put( page, body );
+		}
+
+		void delay(int page, long millis) {
+			delays.put( page, millis );
+		}
+
+		Map<Integer, Integer> requestedPages() {
+			return requestedPages;
+		}
+
+		long firstGoogleRequestAt() {
+			return firstGoogleRequestAt.get();
+		}
+
+		@Override
+		public MockResponse dispatch(RecordedRequest request) {
+			String path = request.getPath() != null ? request.getPath() : "";
+
+			if ( !path.startsWith( "/v2/local" ) ) {
+				firstGoogleRequestAt.compareAndSet( 0, System.nanoTime() );
+				return json( "{\"candidates\":[{\"rating\":4.5,\"user_ratings_total\":100}],\"status\":\"OK\"}" );
+			}
+
+			int page = Integer.parseInt( path.replaceAll( ".*[?&]page=(\\d+).*", "$1" ) );
+			requestedPages.merge( page, 1, Integer::sum );
+
+			return json( pages.getOrDefault( page, page( "none", 0, true, 0 ) ) )
+					.setBodyDelay( delays.getOrDefault( page, 0L ), TimeUnit.MILLISECONDS );
+		}
+
+		private static MockResponse json(String body) {
+			return new MockResponse()
+					.setHeader( "Content-Type", "application/json" )
+					.setBody( body );
+		}
+	}
+}
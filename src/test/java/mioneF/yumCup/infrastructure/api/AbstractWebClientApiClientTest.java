@@ -1,7 +1,14 @@
 package mioneF.yumCup.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import mioneF.yumCup.exception.ExternalApiException;
+import mioneF.yumCup.infrastructure.api.resilience.AdaptiveRateLimiter;
+import mioneF.yumCup.infrastructure.api.resilience.ApiClientPolicy;
+import mioneF.yumCup.infrastructure.api.resilience.Bulkhead;
+import mioneF.yumCup.infrastructure.api.resilience.CircuitBreaker;
+import mioneF.yumCup.infrastructure.api.resilience.DistributedRateLimiter;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 
@@ -10,14 +17,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 /**
  * AbstractWebClientApiClient 공통 로직 테스트
@@ -36,6 +51,10 @@ class AbstractWebClientApiClientTest {
 			super( webClient, objectMapper );
 		}
 
+		public TestApiClient(WebClient webClient, ObjectMapper objectMapper, ApiClientPolicy policy) {
+			super( webClient, objectMapper, policy );
+		}
+
 		@Override
 		protected String getApiName() {
 			return "Test API";
@@ -129,8 +148,8 @@ class AbstractWebClientApiClientTest {
 		assertThat( response.message() ).isEqualTo( "success" );
 		assertThat( mockWebServer.getRequestCount() ).isEqualTo( 2 );
 
-		// 재시도 지연 확인 (최소 1초)
-		assertThat( duration ).isGreaterThanOrEqualTo( 1000 );
+		// 재시도 지연 확인 (최소 base delay 200ms)
+		assertThat( duration ).isGreaterThanOrEqualTo( 200 );
 	}
 
 	@Test
@@ -152,8 +171,8 @@ class AbstractWebClientApiClientTest {
 		assertThat( response.message() ).isEqualTo( "success" );
 		assertThat( mockWebServer.getRequestCount() ).isEqualTo( 3 );
 
-		// 재시도 지연 확인 (1초 + 2초 = 최소 3초)
-		assertThat( duration ).isGreaterThanOrEqualTo( 3000 );
+		// 재시도 지연 확인 (200ms 이상씩 두 번 = 최소 400ms)
+		assertThat( duration ).isGreaterThanOrEqualTo( 400 );
 	}
 
 	@Test
@@ -173,7 +192,7 @@ class AbstractWebClientApiClientTest {
 	}
 
 	@Test
-	@DisplayName("에러 처리 - 4xx 에러: ExternalApiException으로 변환")
+	@DisplayName("에러 처리 - 4xx 에러: 재시도 없이 ExternalApiException으로 변환")
 	void errorHandling_4xxError() {
 		// Given
 		mockWebServer.enqueue( new MockResponse()
@@ -185,6 +204,44 @@ class AbstractWebClientApiClientTest {
 				.isInstanceOf( ExternalApiException.class )
 				.hasMessageContaining( "Test API" )
 				.hasMessageContaining( "API call failed" );
+
+		assertThat( mockWebServer.getRequestCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("에러 처리 - 응답 파싱 실패: 재시도하지 않음")
+	void errorHandling_InvalidJsonNotRetried() {
+		// Given
+		mockWebServer.enqueue( new MockResponse()
+									   .setBody( "not json" )
+									   .setResponseCode( 200 ) );
+
+		// When & Then
+		assertThatThrownBy( () -> testApiClient.get( "/test", TestResponse.class ) )
+				.isInstanceOf( ExternalApiException.class );
+
+		assertThat( mockWebServer.getRequestCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("재시도 - 429 응답: Retry-After 만큼 기다린 뒤 재시도")
+	void retry_HonoursRetryAfter() {
+		// Given
+		mockWebServer.enqueue( new MockResponse()
+									   .setResponseCode( 429 )
+									   .setHeader( "Retry-After", "1" ) );
+		mockWebServer.enqueue( new MockResponse()
+									   .setBody( "{\"message\":\"success\",\"code\":200}" )
+									   .setResponseCode( 200 ) );
+
+		// When
+		long startTime = System.currentTimeMillis();
+		TestResponse response = testApiClient.get( "/test", TestResponse.class );
+		long duration = System.currentTimeMillis() - startTime;
+
+		// Then
+		assertThat( response.message() ).isEqualTo( "success" );
+		assertThat( duration ).isGreaterThanOrEqualTo( 1000 );
 	}
 
 	@Test
@@ -216,6 +273,233 @@ class AbstractWebClientApiClientTest {
 				.isInstanceOf( ExternalApiException.class );
 	}
 
+	@Test
+	@DisplayName("요청 마감 - 응답 지연: 10초 타임아웃 대신 남은 시간에 실패")
+	void deadline_SlowResponseCutAtDeadline() {
+		// Given
+		mockWebServer.enqueue( new MockResponse()
+									   .setBody( "{\"message\":\"slow\",\"code\":200}" )
+									   .setBodyDelay( 5, TimeUnit.SECONDS ) );
+		RequestDeadline deadline = RequestDeadline.after( Duration.ofMillis( 300 ) );
+
+		// When & Then
+		long startTime = System.currentTimeMillis();
+		assertThatThrownBy( () -> RequestDeadline.callWith(
+				deadline,
+				() -> testApiClient.get( "/test", TestResponse.class )
+		) )
+				.isInstanceOf( ExternalApiException.class )
+				.hasMessageContaining( "exceeded the request deadline" );
+
+		assertThat( System.currentTimeMillis() - startTime ).isLessThan( 2000 );
+		assertThat( mockWebServer.getRequestCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("요청 마감 - 이미 지난 마감: 요청하지 않고 실패")
+	void deadline_ExpiredSkipsCall() {
+		// Given
+		RequestDeadline deadline = RequestDeadline.after( Duration.ZERO );
+
+		// When & Then
+		assertThatThrownBy( () -> testApiClient.getAsync( "/test", TestResponse.class )
+				.contextWrite( deadline::putInto )
+				.block() )
+				.isInstanceOf( ExternalApiException.class )
+				.hasMessageContaining( "exceeded the request deadline" );
+
+		assertThat( mockWebServer.getRequestCount() ).isZero();
+	}
+
+	@Test
+	@DisplayName("요청 마감 - 재시도 대기가 남은 시간을 넘으면 재시도하지 않음")
+	void deadline_NoRetryPastDeadline() {
+		// Given: Retry-After 1초, 남은 시간 500ms
+		mockWebServer.enqueue( new MockResponse()
+									   .setResponseCode( 429 )
+									   .setHeader( "Retry-After", "1" ) );
+		RequestDeadline deadline = RequestDeadline.after( Duration.ofMillis( 500 ) );
+
+		// When & Then
+		assertThatThrownBy( () -> RequestDeadline.callWith(
+				deadline,
+				() -> testApiClient.get( "/test", TestResponse.class )
+		) )
+				.isInstanceOf( ExternalApiException.class )
+				.hasMessageContaining( "retry budget exhausted" );
+
+		assertThat( mockWebServer.getRequestCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("bulkhead 대기 - 슬롯을 기다린 시간은 circuit breaker에 느린 호출로 기록되지 않음")
+	void bulkheadWait_NotCountedAsSlowCall() {
+		// Given: 슬롯 1개, HTTP 응답 100ms, 느린 호출 기준 300ms
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		CircuitBreaker breaker = CircuitBreaker.builder()
+				.name( "test" )
+				.windowSize( 10 )
+				.minimumCalls( 4 )
+				.failureRateThreshold( 0.5 )
+				.slowCallRateThreshold( 0.5 )
+				.slowCallThreshold( Duration.ofMillis( 300 ) )
+				.openDuration( Duration.ofSeconds( 30 ) )
+				.halfOpenCalls( 1 )
+				.meterRegistry( meterRegistry )
+				.build();
+		Bulkhead bulkhead = Bulkhead.builder()
+				.name( "test" )
+				.maxConcurrent( 1 )
+				.maxPerRequest( 1 )
+				.maxQueueSize( 16 )
+				.maxWait( Duration.ofSeconds( 5 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+		TestApiClient client = new TestApiClient(
+				WebClient.builder().baseUrl( mockWebServer.url( "/" ).toString() ).build(),
+				new ObjectMapper(),
+				ApiClientPolicy.builder().circuitBreaker( breaker ).bulkhead( bulkhead ).build()
+		);
+
+		for ( int i = 0; i < 6; i++ ) {
+			mockWebServer.enqueue( new MockResponse()
+										   .setBody( "{\"message\":\"ok\",\"code\":200}" )
+										   .setBodyDelay( 100, TimeUnit.MILLISECONDS ) );
+		}
+
+		// When: 6개를 동시에 요청 (뒤쪽 호출은 슬롯을 300ms 이상 기다림)
+		List<TestResponse> responses = Flux.range( 0, 6 )
+				.flatMap( i -> client.getAsync( "/test", TestResponse.class ) )
+				.collectList()
+				.block( Duration.ofSeconds( 10 ) );
+
+		// Then
+		assertThat( responses ).hasSize( 6 );
+		assertThat( breaker.state() ).isEqualTo( CircuitBreaker.State.CLOSED );
+		assertThat( meterRegistry.timer( "yumcup.external.api.bulkhead.wait", "api", "test" ).max( TimeUnit.MILLISECONDS ) )
+				.isGreaterThan( 300 );
+	}
+
+	@Test
+	@DisplayName("rate limiter - 로컬 limiter에서 거절된 요청은 클러스터 토큰을 쓰지 않음")
+	void rateLimiter_LocalRejectionSpendsNoClusterToken() {
+		// Given: 동시 요청 1개, 대기열 1개 (세 번째 요청은 로컬에서 바로 거절)
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		StringRedisTemplate redisTemplate = mock( StringRedisTemplate.class );
+		when( redisTemplate.execute( any( RedisScript.class ), anyList(), any(), any(), any() ) )
+				.thenReturn( List.of( 1L, 0L ) );
+		TestApiClient client = limitedClient( meterRegistry, redisTemplate, 1, 1, Duration.ofSeconds( 2 ) );
+
+		for ( int i = 0; i < 2; i++ ) {
+			mockWebServer.enqueue( new MockResponse()
+										   .setBody( "{\"message\":\"ok\",\"code\":200}" )
+										   .setBodyDelay( 100, TimeUnit.MILLISECONDS ) );
+		}
+
+		// When
+		List<TestResponse> responses = Flux.range( 0, 3 )
+				.flatMap( i -> client.getAsync( "/test", TestResponse.class ).onErrorResume( e -> Mono.empty() ) )
+				.collectList()
+				.block( Duration.ofSeconds( 5 ) );
+
+		// Then
+		assertThat( responses ).hasSize( 2 );
+		verify( redisTemplate, times( 2 ) ).execute( any( RedisScript.class ), anyList(), any(), any(), any() );
+	}
+
+	@Test
+	@DisplayName("rate limiter - 클러스터 토큰 대기 시간은 로컬 limiter의 지연 시간에 포함되지 않음")
+	void rateLimiter_ClusterWaitExcludedFromLatency() {
+		// Given: 클러스터 토큰 400ms 대기, 느린 응답 기준 300ms
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		StringRedisTemplate redisTemplate = mock( StringRedisTemplate.class );
+		when( redisTemplate.execute( any( RedisScript.class ), anyList(), any(), any(), any() ) )
+				.thenReturn( List.of( 0L, 400L ) )
+				.thenReturn( List.of( 1L, 0L ) );
+		TestApiClient client = limitedClient( meterRegistry, redisTemplate, 2, 4, Duration.ofMillis( 300 ) );
+
+		mockWebServer.enqueue( new MockResponse().setBody( "{\"message\":\"ok\",\"code\":200}" ) );
+
+		// When
+		TestResponse response = client.getAsync( "/test", TestResponse.class ).block( Duration.ofSeconds( 5 ) );
+
+		// Then
+		assertThat( response ).isNotNull();
+		assertThat( client.policy.rateLimiter().currentLimit() ).isEqualTo( 2.0 );
+	}
+
+	private TestApiClient limitedClient(
+			SimpleMeterRegistry meterRegistry,
+			StringRedisTemplate redisTemplate,
+			int initialLimit,
+			int maxQueueSize,
+			Duration latencyThreshold) {
+		AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.builder()
+				.name( "test" )
+				.permitsPerSecond( 100 )
+				.burst( 10 )
+				.initialLimit( initialLimit )
+				.minLimit( 1 )
+				.maxLimit( 32 )
+				.latencyThreshold( latencyThreshold )
+				.maxQueueSize( maxQueueSize )
+				.maxQueueTime( Duration.ofSeconds( 3 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+		DistributedRateLimiter clusterRateLimiter = DistributedRateLimiter.builder()
+				.name( "test" )
+				.redisTemplate( redisTemplate )
+				.permitsPerSecond( 100 )
+				.burst( 10 )
+				.batchSize( 1 )
+				.batchTtl( Duration.ofSeconds( 10 ) )
+				.fallbackPermitsPerSecond( 100 )
+				.maxWait( Duration.ofSeconds( 1 ) )
+				.redisRetryInterval( Duration.ofSeconds( 10 ) )
+				.commandTimeout( Duration.ofSeconds( 1 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+
+		return new TestApiClient(
+				WebClient.builder().baseUrl( mockWebServer.url( "/" ).toString() ).build(),
+				new ObjectMapper(),
+				ApiClientPolicy.builder().rateLimiter( rateLimiter ).clusterRateLimiter( clusterRateLimiter ).build()
+		);
+	}
+
+	@Test
+	@DisplayName("getAsync() - 구독 전에는 요청하지 않고, 구독 시 응답 파싱")
+	void getAsync_LazySubscription() throws Exception {
+		// Given
+		mockWebServer.enqueue( new MockResponse()
+									   .setBody( "{\"message\":\"async\",\"code\":200}" )
+									   .setResponseCode( 200 ) );
+
+		// When
+		Mono<TestResponse> response = testApiClient.getAsync( "/test", Map.of( "key", "value" ), TestResponse.class );
+
+		// Then
+		assertThat( mockWebServer.getRequestCount() ).isZero();
+		assertThat( response.block().message() ).isEqualTo( "async" );
+		assertThat( mockWebServer.takeRequest().getPath() ).isEqualTo( "/test?key=value" );
+	}
+
+	@Test
+	@DisplayName("getAsync() - 재시도: blocking 경로와 같은 횟수 / 예외")
+	void getAsync_RetriesThenFails() {
+		// Given
+		mockWebServer.enqueue( new MockResponse().setResponseCode( 500 ) );
+		mockWebServer.enqueue( new MockResponse().setResponseCode( 500 ) );
+		mockWebServer.enqueue( new MockResponse().setResponseCode( 500 ) );
+
+		// When & Then
+		assertThatThrownBy( () -> testApiClient.getAsync( "/test", TestResponse.class ).block() )
+				.isInstanceOf( ExternalApiException.class )
+				.hasMessageContaining( "failed after 3 attempts" );
+
+		assertThat( mockWebServer.getRequestCount() ).isEqualTo( 3 );
+	}
+
 	@Test
 	@DisplayName("post() - 정상 케이스: 요청 바디와 함께 POST 요청")
 	void post_Success() throws Exception {
@@ -270,7 +554,7 @@ class AbstractWebClientApiClientTest {
 	}
 
 	@Test
-	@DisplayName("Exponential Backoff - 지수 백오프 확인")
+	@DisplayName("Exponential Backoff - decorrelated jitter 백오프 확인")
 	void exponentialBackoff_Verification() throws Exception {
 		// Given
 		mockWebServer.enqueue( new MockResponse().setResponseCode( 500 ) );
@@ -285,9 +569,9 @@ class AbstractWebClientApiClientTest {
 		long duration = System.currentTimeMillis() - startTime;
 
 		// Then
-		// 1차 실패 → 1초 대기 → 2차 실패 → 2초 대기 → 3차 성공
-		// 총 대기 시간: 최소 3초 (1초 + 2초)
-		assertThat( duration ).isGreaterThanOrEqualTo( 3000 );
+		// 1차 실패 → 200~600ms 대기 → 2차 실패 → 200ms~(이전 대기 x 3) 대기 → 3차 성공
+		// 총 대기 시간: 최소 400ms, 재시도 예산 3초 이내
+		assertThat( duration ).isGreaterThanOrEqualTo( 400 );
 		assertThat( duration ).isLessThan( 5000 );
 	}
 }
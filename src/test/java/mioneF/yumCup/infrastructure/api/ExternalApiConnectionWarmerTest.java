@@ -0,0 +1,58 @@
+package mioneF.yumCup.infrastructure.api;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ExternalApiConnectionWarmer 단위 테스트
+ */
+@DisplayName("ExternalApiConnectionWarmer 단위 테스트")
+class ExternalApiConnectionWarmerTest {
+
+	private MockWebServer mockWebServer;
+	private WebClient webClient;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		mockWebServer = new MockWebServer();
+		mockWebServer.start();
+
+		webClient = WebClient.builder()
+				.baseUrl( mockWebServer.url( "/" ).toString() )
+				.build();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		mockWebServer.shutdown();
+	}
+
+	@Test
+	@DisplayName("warmUp() - 설정한 수만큼 HEAD 요청, 오류 응답은 무시")
+	void warmUp_SendsHeadRequests() throws Exception {
+		// Given
+		mockWebServer.enqueue( new MockResponse().setResponseCode( 404 ) );
+		mockWebServer.enqueue( new MockResponse().setResponseCode( 404 ) );
+		mockWebServer.enqueue( new MockResponse().setResponseCode( 200 ) );
+		ExternalApiConnectionWarmer warmer = new ExternalApiConnectionWarmer( webClient, webClient, 3, 0 );
+
+		// When
+		warmer.warmUp( "Test API", webClient, 3 ).block( Duration.ofSeconds( 5 ) );
+
+		// Then
+		assertThat( mockWebServer.getRequestCount() ).isEqualTo( 3 );
+		assertThat( mockWebServer.takeRequest().getMethod() ).isEqualTo( "HEAD" );
+	}
+}
@@ -0,0 +1,95 @@
+package mioneF.yumCup.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mioneF.yumCup.external.kakao.dto.KakaoSearchResponse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 응답 디코딩 호출당 할당량 비교 (String 경유 vs DataBuffer 직접 파싱)
+ * -Dbenchmark=true 로 실행할 때만 동작
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("응답 디코딩 할당량 벤치마크")
+class ResponseDecodingBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger( ResponseDecodingBenchmarkTest.class );
+
+	private static final int WARMUP = 20_000;
+	private static final int ITERATIONS = 50_000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final KakaoLocalApiClient apiClient = new KakaoLocalApiClient( WebClient.create(), objectMapper );
+
+	@Test
+	@DisplayName("Kakao 카테고리 검색 응답 1페이지 - 호출당 할당 바이트")
+	void allocationPerCall() throws Exception {
+		byte[] payload = kakaoPage().getBytes( StandardCharsets.UTF_8 );
+
+		long viaString = measure( () -> objectMapper.readValue(
+				new String( payload, StandardCharsets.UTF_8 ),
+				KakaoSearchResponse.class
+		) );
+		long viaBuffer = measure( () -> apiClient.readResponse(
+				DefaultDataBufferFactory.sharedInstance.wrap( payload ),
+				KakaoSearchResponse.class
+		) );
+
+		log.info( String.format(
+				"[%d bytes payload] String: %d B/call, DataBuffer: %d B/call (%.0f%%)",
+				payload.length,
+				viaString,
+				viaBuffer,
+				viaBuffer * 100.0 / viaString
+		) );
+
+		assertThat( viaBuffer ).isLessThan( viaString );
+	}
+
+	private long measure(Decode decode) throws Exception {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		for ( int i = 0; i < WARMUP; i++ ) {
+			decode.run();
+		}
+
+		long before = threads.getCurrentThreadAllocatedBytes();
+		for ( int i = 0; i < ITERATIONS; i++ ) {
+			decode.run();
+		}
+		return ( threads.getCurrentThreadAllocatedBytes() - before ) / ITERATIONS;
+	}
+
+	private static String kakaoPage() {
+		String documents = IntStream.range( 0, 15 )
+				.mapToObj( i -> String.format(
+						"{\"id\":\"%d\",\"place_name\":\"테스트 식당 %d\",\"category_name\":\"음식점 > 한식 > 국밥\","
+								+ "\"category_group_code\":\"FD6\",\"category_group_name\":\"음식점\",\"phone\":\"02-1234-5678\","
+								+ "\"address_name\":\"서울 중구 태평로1가 31\",\"road_address_name\":\"서울 중구 세종대로 110\","
+								+ "\"x\":\"126.978%d\",\"y\":\"37.566%d\",\"place_url\":\"http://place.map.kakao.com/%d\",\"distance\":\"%d\"}",
+						1000 + i, i, i, i, 1000 + i, 100 + i
+				) )
+				.collect( Collectors.joining( "," ) );
+		return "{\"meta\":{\"total_count\":45,\"pageable_count\":45,\"is_end\":false},\"documents\":[" + documents + "]}";
+	}
+
+	@FunctionalInterface
+	private interface Decode {
+		Object run() throws Exception;
+	}
+}
@@ -0,0 +1,152 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.exception.ExternalApiException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AdaptiveRateLimiter 단위 테스트
+ */
+@DisplayName("AdaptiveRateLimiter 단위 테스트")
+class AdaptiveRateLimiterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("acquire() - 동시 요청 한도를 넘으면 반환될 때까지 대기")
+	void acquire_WaitsForConcurrencySlot() throws Exception {
+		// Given
+		AdaptiveRateLimiter limiter = limiter( 1000, 100, 2, 256 );
+		AdaptiveRateLimiter.Permit first = limiter.acquire().block();
+		limiter.acquire().block();
+
+		// When
+		CompletableFuture<AdaptiveRateLimiter.Permit> third = limiter.acquire().toFuture();
+
+		// Then
+		Thread.sleep( 50 );
+		assertThat( third ).isNotDone();
+		assertThat( limiter.queued() ).isEqualTo( 1 );
+
+		first.release( null );
+		assertThat( third.get( 1, TimeUnit.SECONDS ) ).isNotNull();
+		assertThat( limiter.inFlight() ).isEqualTo( 2 );
+	}
+
+	@Test
+	@DisplayName("release() - 429 응답: 동시 요청 한도 절반으로 감소")
+	void release_ThrottledHalvesLimit() {
+		// Given
+		AdaptiveRateLimiter limiter = limiter( 1000, 100, 8, 256 );
+		AdaptiveRateLimiter.Permit permit = limiter.acquire().block();
+
+		// When
+		permit.release( WebClientResponseException.create(
+				429,
+				"Too Many Requests",
+				HttpHeaders.EMPTY,
+				new byte[0],
+				StandardCharsets.UTF_8
+		) );
+
+		// Then
+		assertThat( limiter.currentLimit() ).isEqualTo( 4.0 );
+		assertThat( meterRegistry.counter( "yumcup.external.api.limiter.throttled", "api", "test" ).count() )
+				.isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("release() - 한도까지 사용 중 정상 응답: 한도 증가")
+	void release_SuccessAtLimitIncreasesLimit() {
+		// Given
+		AdaptiveRateLimiter limiter = limiter( 1000, 100, 2, 256 );
+		AdaptiveRateLimiter.Permit first = limiter.acquire().block();
+		AdaptiveRateLimiter.Permit second = limiter.acquire().block();
+
+		// When
+		first.release( null );
+		second.release( null );
+
+		// Then
+		assertThat( limiter.currentLimit() ).isGreaterThan( 2.0 );
+		assertThat( limiter.inFlight() ).isZero();
+	}
+
+	@Test
+	@DisplayName("acquire() - 대기열이 가득 차면 즉시 거절")
+	void acquire_RejectsWhenQueueFull() {
+		// Given
+		AdaptiveRateLimiter limiter = limiter( 1000, 100, 1, 1 );
+		limiter.acquire().block();
+		limiter.acquire().subscribe();
+
+		// When & Then
+		assertThatThrownBy( () -> limiter.acquire().block() )
+				.isInstanceOf( ExternalApiException.class )
+				.hasMessageContaining( "queue is full" );
+	}
+
+	@Test
+	@DisplayName("acquire() - 토큰 소진: 다음 토큰까지 대기하고 대기 시간 기록")
+	void acquire_WaitsForToken() {
+		// Given: 초당 10개, burst 1
+		AdaptiveRateLimiter limiter = limiter( 10, 1, 16, 256 );
+		limiter.acquire().block().release( null );
+
+		// When
+		long startedAt = System.nanoTime();
+		limiter.acquire().block( Duration.ofSeconds( 1 ) );
+		long waitedMillis = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startedAt );
+
+		// Then
+		assertThat( waitedMillis ).isGreaterThanOrEqualTo( 80 );
+		assertThat( meterRegistry.timer( "yumcup.external.api.limiter.queue", "api", "test" ).count() ).isEqualTo( 2 );
+	}
+
+	@Test
+	@DisplayName("acquire() - 취소된 대기자는 허용을 받지 않음")
+	void acquire_CancelledWaiterSkipped() throws Exception {
+		// Given
+		AdaptiveRateLimiter limiter = limiter( 1000, 100, 1, 256 );
+		AdaptiveRateLimiter.Permit first = limiter.acquire().block();
+		CompletableFuture<AdaptiveRateLimiter.Permit> cancelled = limiter.acquire().toFuture();
+		CompletableFuture<AdaptiveRateLimiter.Permit> next = limiter.acquire().toFuture();
+
+		// When
+		cancelled.cancel( true );
+		first.release( null );
+
+		// Then
+		assertThat( next.get( 1, TimeUnit.SECONDS ) ).isNotNull();
+		assertThat( limiter.inFlight() ).isEqualTo( 1 );
+		assertThatThrownBy( cancelled::get ).isNotInstanceOf( ExecutionException.class );
+	}
+
+	private AdaptiveRateLimiter limiter(double permitsPerSecond, int burst, int initialLimit, int maxQueueSize) {
+		return AdaptiveRateLimiter.builder()
+				.name( "test" )
+				.permitsPerSecond( permitsPerSecond )
+				.burst( burst )
+				.initialLimit( initialLimit )
+				.minLimit( 1 )
+				.maxLimit( 32 )
+				.latencyThreshold( Duration.ofSeconds( 2 ) )
+				.maxQueueSize( maxQueueSize )
+				.maxQueueTime( Duration.ofSeconds( 3 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+}
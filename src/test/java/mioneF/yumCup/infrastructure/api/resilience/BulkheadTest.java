@@ -0,0 +1,175 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.exception.BulkheadFullException;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Bulkhead 단위 테스트
+ */
+@DisplayName("Bulkhead 단위 테스트")
+class BulkheadTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("acquire() - 전체 한도를 넘으면 슬롯이 반환될 때까지 대기")
+	void acquire_WaitsForFreeSlot() throws Exception {
+		// Given
+		Bulkhead bulkhead = bulkhead( 2, 2, 16 );
+		Bulkhead.Slot first = bulkhead.acquire().block();
+		bulkhead.acquire().block();
+
+		// When
+		CompletableFuture<Bulkhead.Slot> third = bulkhead.acquire().toFuture();
+
+		// Then
+		Thread.sleep( 50 );
+		assertThat( third ).isNotDone();
+		assertThat( bulkhead.queued() ).isEqualTo( 1 );
+
+		first.release();
+		assertThat( third.get( 1, TimeUnit.SECONDS ) ).isNotNull();
+		assertThat( bulkhead.inFlight() ).isEqualTo( 2 );
+		assertThat( meterRegistry.timer( "yumcup.external.api.bulkhead.wait", "api", "test" ).count() ).isEqualTo( 3 );
+	}
+
+	@Test
+	@DisplayName("acquire() - 빈 슬롯은 먼저 들어온 요청의 대기자에게 먼저 배정")
+	void acquire_ServesEarlierRequestFirst() throws Exception {
+		// Given: 요청 A가 슬롯 1개를 사용 중, A와 B가 번갈아 대기
+		Bulkhead bulkhead = bulkhead( 1, 4, 16 );
+		RequestDeadline requestA = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+		RequestDeadline requestB = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+
+		Bulkhead.Slot running = acquire( bulkhead, requestA ).block();
+		CompletableFuture<Bulkhead.Slot> b1 = acquire( bulkhead, requestB ).toFuture();
+		CompletableFuture<Bulkhead.Slot> a1 = acquire( bulkhead, requestA ).toFuture();
+		CompletableFuture<Bulkhead.Slot> b2 = acquire( bulkhead, requestB ).toFuture();
+
+		// When
+		running.release();
+
+		// Then: 나중에 대기했어도 먼저 들어온 요청 A가 먼저
+		assertThat( a1.get( 1, TimeUnit.SECONDS ) ).isNotNull();
+		assertThat( b1 ).isNotDone();
+
+		a1.get().release();
+		assertThat( b1.get( 1, TimeUnit.SECONDS ) ).isNotNull();
+		assertThat( b2 ).isNotDone();
+	}
+
+	@Test
+	@DisplayName("acquire() - 호출 사이에 대기 / 사용 중인 슬롯이 없던 요청도 다시 들어오면 원래 순서 유지")
+	void acquire_KeepsRequestOrderAfterIdle() throws Exception {
+		// Given: 요청 A의 첫 호출이 끝나 대기자도 in-flight 호출도 없는 상태에서, 나중에 들어온 B가 먼저 대기
+		Bulkhead bulkhead = bulkhead( 1, 4, 16 );
+		RequestDeadline requestA = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+		RequestDeadline requestB = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+		RequestDeadline requestC = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+
+		acquire( bulkhead, requestA ).block().release();
+		Bulkhead.Slot running = acquire( bulkhead, requestC ).block();
+		CompletableFuture<Bulkhead.Slot> b1 = acquire( bulkhead, requestB ).toFuture();
+		CompletableFuture<Bulkhead.Slot> retryA = acquire( bulkhead, requestA ).toFuture();
+
+		// When
+		running.release();
+
+		// Then: A의 재시도가 B보다 먼저
+		assertThat( retryA.get( 1, TimeUnit.SECONDS ) ).isNotNull();
+		assertThat( b1 ).isNotDone();
+
+		retryA.get().release();
+		assertThat( b1.get( 1, TimeUnit.SECONDS ) ).isNotNull();
+	}
+
+	@Test
+	@DisplayName("acquire() - 요청별 한도에 닿으면 전체 슬롯이 남아도 다른 요청에 배정")
+	void acquire_CapsSlotsPerRequest() throws Exception {
+		// Given
+		Bulkhead bulkhead = bulkhead( 4, 2, 16 );
+		RequestDeadline requestA = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+		RequestDeadline requestB = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+
+		acquire( bulkhead, requestA ).block();
+		acquire( bulkhead, requestA ).block();
+
+		// When
+		CompletableFuture<Bulkhead.Slot> a3 = acquire( bulkhead, requestA ).toFuture();
+		CompletableFuture<Bulkhead.Slot> b1 = acquire( bulkhead, requestB ).toFuture();
+
+		// Then
+		assertThat( b1.get( 1, TimeUnit.SECONDS ) ).isNotNull();
+		Thread.sleep( 50 );
+		assertThat( a3 ).isNotDone();
+		assertThat( bulkhead.inFlight() ).isEqualTo( 3 );
+	}
+
+	@Test
+	@DisplayName("acquire() - 대기열이 가득 차면 즉시 BulkheadFullException")
+	void acquire_ShedsWhenQueueFull() {
+		// Given
+		Bulkhead bulkhead = bulkhead( 1, 1, 1 );
+		bulkhead.acquire().block();
+		bulkhead.acquire().subscribe();
+
+		// When & Then
+		assertThatThrownBy( () -> bulkhead.acquire().block() )
+				.isInstanceOf( BulkheadFullException.class )
+				.hasMessageContaining( "queue is full" );
+		assertThat( rejected( "queue_full" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("acquire() - 최대 대기 시간을 넘기면 BulkheadFullException, 대기열에서 제거")
+	void acquire_RejectsAfterMaxWait() {
+		// Given
+		Bulkhead bulkhead = Bulkhead.builder()
+				.name( "test" )
+				.maxConcurrent( 1 )
+				.maxPerRequest( 1 )
+				.maxQueueSize( 16 )
+				.maxWait( Duration.ofMillis( 100 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+		bulkhead.acquire().block();
+
+		// When & Then
+		assertThatThrownBy( () -> bulkhead.acquire().block() )
+				.isInstanceOf( BulkheadFullException.class )
+				.hasMessageContaining( "wait exceeded 100ms" );
+		assertThat( bulkhead.queued() ).isZero();
+		assertThat( rejected( "wait_timeout" ) ).isEqualTo( 1 );
+	}
+
+	private static Mono<Bulkhead.Slot> acquire(Bulkhead bulkhead, RequestDeadline request) {
+		return bulkhead.acquire().contextWrite( request::putInto );
+	}
+
+	private double rejected(String reason) {
+		return meterRegistry.counter( "yumcup.external.api.bulkhead.rejected", "api", "test", "reason", reason ).count();
+	}
+
+	private Bulkhead bulkhead(int maxConcurrent, int maxPerRequest, int maxQueueSize) {
+		return Bulkhead.builder()
+				.name( "test" )
+				.maxConcurrent( maxConcurrent )
+				.maxPerRequest( maxPerRequest )
+				.maxQueueSize( maxQueueSize )
+				.maxWait( Duration.ofSeconds( 3 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+}
@@ -0,0 +1,204 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.exception.CircuitBreakerOpenException;
+import mioneF.yumCup.exception.ExternalApiException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CircuitBreaker 단위 테스트
+ */
+@DisplayName("CircuitBreaker 단위 테스트")
+class CircuitBreakerTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("protect() - 실패율이 임계치를 넘으면 열리고 호출하지 않음")
+	void protect_OpensOnFailureRate() {
+		// Given
+		CircuitBreaker breaker = breaker( Duration.ofSeconds( 30 ), Duration.ofSeconds( 10 ) );
+		AtomicInteger calls = new AtomicInteger();
+		Mono<String> failing = Mono.defer( () -> {
+			calls.incrementAndGet();
+			return Mono.error( serverError() );
+		} );
+
+		// When
+		for ( int i = 0; i < 4; i++ ) {
+			assertThatThrownBy( () -> breaker.protect( failing ).block() ).isInstanceOf( WebClientResponseException.class );
+		}
+
+		// Then
+		assertThat( breaker.state() ).isEqualTo( CircuitBreaker.State.OPEN );
+		assertThatThrownBy( () -> breaker.protect( failing ).block() ).isInstanceOf( CircuitBreakerOpenException.class );
+		assertThat( calls.get() ).isEqualTo( 4 );
+		assertThat( transitions( "CLOSED", "OPEN" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("protect() - 느린 응답 비율이 임계치를 넘으면 열림")
+	void protect_OpensOnSlowCalls() {
+		// Given
+		CircuitBreaker breaker = breaker( Duration.ofSeconds( 30 ), Duration.ofMillis( 20 ) );
+		Mono<String> slow = Mono.delay( Duration.ofMillis( 40 ) ).thenReturn( "ok" );
+
+		// When
+		for ( int i = 0; i < 4; i++ ) {
+			breaker.protect( slow ).block();
+		}
+
+		// Then
+		assertThat( breaker.isOpen() ).isTrue();
+	}
+
+	@Test
+	@DisplayName("protect() - 4xx 응답은 실패로 세지 않음")
+	void protect_IgnoresClientErrors() {
+		// Given
+		CircuitBreaker breaker = breaker( Duration.ofSeconds( 30 ), Duration.ofSeconds( 10 ) );
+		Mono<String> notFound = Mono.error( WebClientResponseException.create(
+				404,
+				"Not Found",
+				HttpHeaders.EMPTY,
+				new byte[0],
+				StandardCharsets.UTF_8
+		) );
+
+		// When
+		for ( int i = 0; i < 8; i++ ) {
+			assertThatThrownBy( () -> breaker.protect( notFound ).block() ).isInstanceOf( WebClientResponseException.class );
+		}
+
+		// Then
+		assertThat( breaker.state() ).isEqualTo( CircuitBreaker.State.CLOSED );
+	}
+
+	@Test
+	@DisplayName("protect() - 로컬 limiter 대기 초과(TimeoutException을 감싼 예외)는 실패로 세지 않음")
+	void protect_IgnoresLocalQueueTimeouts() {
+		// Given
+		CircuitBreaker breaker = breaker( Duration.ofSeconds( 30 ), Duration.ofSeconds( 10 ) );
+		Mono<String> queueTimeout = Mono.error( new ExternalApiException(
+				"test rate limiter wait exceeded 3000ms",
+				new TimeoutException()
+		) );
+
+		// When
+		for ( int i = 0; i < 8; i++ ) {
+			assertThatThrownBy( () -> breaker.protect( queueTimeout ).block() ).isInstanceOf( ExternalApiException.class );
+		}
+
+		// Then
+		assertThat( breaker.state() ).isEqualTo( CircuitBreaker.State.CLOSED );
+	}
+
+	@Test
+	@DisplayName("rejectIfOpen() - 열려 있으면 call을 구독하지 않고 실패, 닫혀 있으면 그대로 진행")
+	void rejectIfOpen_SkipsCallWhileOpen() {
+		// Given
+		CircuitBreaker breaker = breaker( Duration.ofSeconds( 30 ), Duration.ofSeconds( 10 ) );
+		AtomicInteger calls = new AtomicInteger();
+		Mono<String> call = Mono.fromCallable( () -> {
+			calls.incrementAndGet();
+			return "ok";
+		} );
+		assertThat( breaker.rejectIfOpen( call ).block() ).isEqualTo( "ok" );
+
+		// When
+		for ( int i = 0; i < 4; i++ ) {
+			assertThatThrownBy( () -> breaker.protect( Mono.error( serverError() ) ).block() );
+		}
+
+		// Then
+		assertThatThrownBy( () -> breaker.rejectIfOpen( call ).block() ).isInstanceOf( CircuitBreakerOpenException.class );
+		assertThat( calls.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("protect() - open 시간 이후 시험 호출이 모두 성공하면 닫힘")
+	void protect_ClosesAfterSuccessfulTrials() throws Exception {
+		// Given
+		CircuitBreaker breaker = breaker( Duration.ofMillis( 50 ), Duration.ofSeconds( 10 ) );
+		for ( int i = 0; i < 4; i++ ) {
+			assertThatThrownBy( () -> breaker.protect( Mono.error( serverError() ) ).block() );
+		}
+		assertThat( breaker.isOpen() ).isTrue();
+
+		// When
+		Thread.sleep( 80 );
+		assertThat( breaker.state() ).isEqualTo( CircuitBreaker.State.HALF_OPEN );
+		breaker.protect( Mono.just( "ok" ) ).block();
+		breaker.protect( Mono.just( "ok" ) ).block();
+
+		// Then
+		assertThat( breaker.state() ).isEqualTo( CircuitBreaker.State.CLOSED );
+		assertThat( transitions( "OPEN", "HALF_OPEN" ) ).isEqualTo( 1 );
+		assertThat( transitions( "HALF_OPEN", "CLOSED" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("protect() - 시험 호출이 실패하면 다시 열림")
+	void protect_ReopensOnFailedTrial() throws Exception {
+		// Given
+		CircuitBreaker breaker = breaker( Duration.ofMillis( 50 ), Duration.ofSeconds( 10 ) );
+		for ( int i = 0; i < 4; i++ ) {
+			assertThatThrownBy( () -> breaker.protect( Mono.error( serverError() ) ).block() );
+		}
+		Thread.sleep( 80 );
+
+		// When
+		assertThatThrownBy( () -> breaker.protect( Mono.error( serverError() ) ).block() )
+				.isInstanceOf( WebClientResponseException.class );
+
+		// Then
+		assertThat( breaker.isOpen() ).isTrue();
+		assertThat( transitions( "HALF_OPEN", "OPEN" ) ).isEqualTo( 1 );
+	}
+
+	private CircuitBreaker breaker(Duration openDuration, Duration slowCallThreshold) {
+		return CircuitBreaker.builder()
+				.name( "test" )
+				.windowSize( 10 )
+				.minimumCalls( 4 )
+				.failureRateThreshold( 0.5 )
+				.slowCallRateThreshold( 0.5 )
+				.slowCallThreshold( slowCallThreshold )
+				.openDuration( openDuration )
+				.halfOpenCalls( 2 )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	private WebClientResponseException serverError() {
+		return WebClientResponseException.create(
+				503,
+				"Service Unavailable",
+				HttpHeaders.EMPTY,
+				new byte[0],
+				StandardCharsets.UTF_8
+		);
+	}
+
+	private double transitions(String from, String to) {
+		return meterRegistry.counter(
+				"yumcup.external.api.circuit.transitions",
+				"api", "test",
+				"from", from,
+				"to", to
+		).count();
+	}
+}
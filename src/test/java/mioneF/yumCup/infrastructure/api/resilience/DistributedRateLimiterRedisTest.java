@@ -0,0 +1,134 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.exception.RateLimiterRejectedException;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DistributedRateLimiter 토큰 버킷 Lua 스크립트 통합 테스트 (실제 Redis에서 실행, Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("DistributedRateLimiter Redis 통합 테스트")
+class DistributedRateLimiterRedisTest {
+
+	private static final double PERMITS_PER_SECOND = 5;
+	private static final int BURST = 3;
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>( DockerImageName.parse( "redis:7-alpine" ) )
+			.withExposedPorts( 6379 );
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@BeforeAll
+	static void setUpRedis() {
+		connectionFactory = new LettuceConnectionFactory( REDIS.getHost(), REDIS.getMappedPort( 6379 ) );
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate( connectionFactory );
+	}
+
+	@AfterAll
+	static void tearDownRedis() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.execute( (RedisCallback<Object>) connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		} );
+	}
+
+	@Test
+	@DisplayName("acquire() - burst만큼 바로 허용하고, 버킷이 비면 다음 토큰까지의 대기가 maxWait을 넘어 거절")
+	void acquire_AllowsBurstThenRejects() {
+		// Given
+		DistributedRateLimiter limiter = limiter( Duration.ofMillis( 10 ) );
+
+		// When
+		for ( int i = 0; i < BURST; i++ ) {
+			limiter.acquire().block( Duration.ofSeconds( 1 ) );
+		}
+
+		// Then
+		assertThatThrownBy( () -> limiter.acquire().block( Duration.ofSeconds( 1 ) ) )
+				.isInstanceOf( RateLimiterRejectedException.class );
+		assertThat( count( "granted" ) ).isEqualTo( BURST );
+		assertThat( count( "exhausted" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("acquire() - 버킷이 비면 경과 시간만큼 채워진 토큰으로 허용 (Redis가 안내한 대기 시간 후 재시도)")
+	void acquire_RefillsOverTime() {
+		// Given
+		DistributedRateLimiter limiter = limiter( Duration.ofSeconds( 1 ) );
+		for ( int i = 0; i < BURST; i++ ) {
+			limiter.acquire().block( Duration.ofSeconds( 1 ) );
+		}
+
+		// When
+		long start = System.nanoTime();
+		limiter.acquire().block( Duration.ofSeconds( 2 ) );
+
+		// Then: 초당 5개이므로 다음 토큰까지 약 200ms
+		assertThat( Duration.ofNanos( System.nanoTime() - start ) ).isBetween( Duration.ofMillis( 150 ), Duration.ofMillis( 800 ) );
+		assertThat( count( "granted" ) ).isEqualTo( BURST + 1 );
+	}
+
+	@Test
+	@DisplayName("acquire() - 버킷 키는 가득 찰 때까지의 시간 + 1초 뒤 만료 (쓰지 않는 API의 키가 남지 않음)")
+	void acquire_SetsBucketTtl() {
+		// Given
+		DistributedRateLimiter limiter = limiter( Duration.ofMillis( 10 ) );
+
+		// When
+		limiter.acquire().block( Duration.ofSeconds( 1 ) );
+
+		// Then: ceil(3 * 1000 / 5) + 1000 = 1600ms
+		Long ttlMillis = redisTemplate.getExpire( "ratelimit:test", TimeUnit.MILLISECONDS );
+		assertThat( ttlMillis ).isBetween( 1000L, 1600L );
+	}
+
+	private DistributedRateLimiter limiter(Duration maxWait) {
+		return DistributedRateLimiter.builder()
+				.name( "test" )
+				.redisTemplate( redisTemplate )
+				.permitsPerSecond( PERMITS_PER_SECOND )
+				.burst( BURST )
+				.batchSize( 1 )
+				.batchTtl( Duration.ofSeconds( 10 ) )
+				.fallbackPermitsPerSecond( PERMITS_PER_SECOND )
+				.maxWait( maxWait )
+				.redisRetryInterval( Duration.ofSeconds( 10 ) )
+				.commandTimeout( Duration.ofSeconds( 1 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	private double count(String result) {
+		return meterRegistry.counter( "yumcup.external.api.limiter.cluster", "api", "test", "result", result ).count();
+	}
+}
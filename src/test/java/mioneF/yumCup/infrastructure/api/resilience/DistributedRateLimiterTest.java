@@ -0,0 +1,129 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DistributedRateLimiter 단위 테스트
+ */
+@DisplayName("DistributedRateLimiter 단위 테스트")
+class DistributedRateLimiterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private StringRedisTemplate redisTemplate;
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = mock( StringRedisTemplate.class );
+	}
+
+	@Test
+	@DisplayName("acquire() - 한 번 받은 배치는 Redis 호출 없이 로컬에서 사용")
+	void acquire_ServesBatchLocally() {
+		// Given
+		when( redisTemplate.execute( any( RedisScript.class ), anyList(), any(), any(), any() ) )
+				.thenReturn( List.of( 5L, 0L ) );
+		DistributedRateLimiter limiter = limiter( 5 );
+
+		// When
+		for ( int i = 0; i < 5; i++ ) {
+			limiter.acquire().block( Duration.ofSeconds( 1 ) );
+		}
+
+		// Then
+		verify( redisTemplate, times( 1 ) ).execute( any( RedisScript.class ), anyList(), any(), any(), any() );
+		assertThat( count( "granted" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("acquire() - 클러스터 토큰 소진: 안내받은 시간만큼 기다린 뒤 재시도")
+	void acquire_WaitsWhenExhausted() {
+		// Given
+		when( redisTemplate.execute( any( RedisScript.class ), anyList(), any(), any(), any() ) )
+				.thenReturn( List.of( 0L, 50L ) )
+				.thenReturn( List.of( 1L, 0L ) );
+		DistributedRateLimiter limiter = limiter( 1 );
+
+		// When
+		long start = System.nanoTime();
+		limiter.acquire().block( Duration.ofSeconds( 1 ) );
+
+		// Then
+		assertThat( Duration.ofNanos( System.nanoTime() - start ) ).isGreaterThanOrEqualTo( Duration.ofMillis( 50 ) );
+		assertThat( count( "exhausted" ) ).isEqualTo( 1 );
+		assertThat( count( "granted" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("acquire() - Redis 장애: 로컬 fallback으로 진행하고 재시도 간격 동안 Redis 호출 안 함")
+	void acquire_FallsBackWhenRedisUnavailable() {
+		// Given
+		when( redisTemplate.execute( any( RedisScript.class ), anyList(), any(), any(), any() ) )
+				.thenThrow( new RedisConnectionFailureException( "connection refused" ) );
+		DistributedRateLimiter limiter = limiter( 5 );
+
+		// When
+		limiter.acquire().block( Duration.ofSeconds( 1 ) );
+		limiter.acquire().block( Duration.ofSeconds( 1 ) );
+
+		// Then
+		verify( redisTemplate, times( 1 ) ).execute( any( RedisScript.class ), anyList(), any(), any(), any() );
+		assertThat( count( "fallback" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("acquire() - Redis 응답 지연: commandTimeout 후 로컬 fallback으로 진행하고 재시도 간격 동안 Redis 호출 안 함")
+	void acquire_FallsBackWhenRedisSlow() {
+		// Given
+		when( redisTemplate.execute( any( RedisScript.class ), anyList(), any(), any(), any() ) )
+				.thenAnswer( invocation -> {
+					Thread.sleep( 1000 );
+					return List.of( 5L, 0L );
+				} );
+		DistributedRateLimiter limiter = limiter( 5 );
+
+		// When
+		long start = System.nanoTime();
+		limiter.acquire().block( Duration.ofSeconds( 2 ) );
+		limiter.acquire().block( Duration.ofSeconds( 2 ) );
+
+		// Then
+		assertThat( Duration.ofNanos( System.nanoTime() - start ) ).isLessThan( Duration.ofMillis( 800 ) );
+		verify( redisTemplate, times( 1 ) ).execute( any( RedisScript.class ), anyList(), any(), any(), any() );
+		assertThat( count( "timeout" ) ).isEqualTo( 1 );
+	}
+
+	private DistributedRateLimiter limiter(int batchSize) {
+		return DistributedRateLimiter.builder()
+				.name( "test" )
+				.redisTemplate( redisTemplate )
+				.permitsPerSecond( 100 )
+				.burst( 10 )
+				.batchSize( batchSize )
+				.batchTtl( Duration.ofSeconds( 10 ) )
+				.fallbackPermitsPerSecond( 100 )
+				.maxWait( Duration.ofSeconds( 1 ) )
+				.redisRetryInterval( Duration.ofSeconds( 10 ) )
+				.commandTimeout( Duration.ofMillis( 100 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	private double count(String result) {
+		return meterRegistry.counter( "yumcup.external.api.limiter.cluster", "api", "test", "result", result ).count();
+	}
+}
@@ -0,0 +1,178 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RequestHedger 단위 테스트
+ */
+@DisplayName("RequestHedger 단위 테스트")
+class RequestHedgerTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("hedge() - 응답 시간 샘플이 모이기 전에는 hedge 하지 않음")
+	void hedge_NoHedgeWhileWarmingUp() {
+		// Given
+		RequestHedger hedger = hedger( 1.0, 10, 10 );
+		AtomicInteger attempts = new AtomicInteger();
+
+		// When
+		String result = hedger.hedge( () -> Mono.delay( Duration.ofMillis( 100 ) )
+				.doOnSubscribe( subscription -> attempts.incrementAndGet() )
+				.thenReturn( "primary" ) ).block();
+
+		// Then
+		assertThat( result ).isEqualTo( "primary" );
+		assertThat( attempts.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("hedge() - 지연 시간 내 응답이 없으면 한 번 더 보내고 먼저 온 응답 사용, 늦은 요청은 취소")
+	void hedge_SendsBackupAndCancelsLoser() {
+		// Given
+		RequestHedger hedger = hedger( 1.0, 10, 10 );
+		warmUp( hedger, 10 );
+
+		AtomicInteger attempts = new AtomicInteger();
+		AtomicBoolean primaryCancelled = new AtomicBoolean();
+
+		// When
+		String result = hedger.hedge( () -> {
+			if ( attempts.incrementAndGet() == 1 ) {
+				return Mono.delay( Duration.ofSeconds( 5 ) )
+						.thenReturn( "primary" )
+						.doOnCancel( () -> primaryCancelled.set( true ) );
+			}
+			return Mono.just( "backup" );
+		} ).block( Duration.ofSeconds( 2 ) );
+
+		// Then
+		assertThat( result ).isEqualTo( "backup" );
+		assertThat( attempts.get() ).isEqualTo( 2 );
+		assertThat( primaryCancelled ).isTrue();
+		assertThat( meterRegistry.counter( "yumcup.external.api.hedge.won", "api", "test" ).count() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("hedge() - hedge 요청이 먼저 실패해도 원래 요청을 취소하지 않고 그 응답을 사용")
+	void hedge_IgnoresFastFailingBackup() {
+		// Given
+		RequestHedger hedger = hedger( 1.0, 10, 10 );
+		warmUp( hedger, 10 );
+
+		AtomicInteger attempts = new AtomicInteger();
+		AtomicBoolean primaryCancelled = new AtomicBoolean();
+
+		// When
+		String result = hedger.hedge( () -> {
+			if ( attempts.incrementAndGet() == 1 ) {
+				return Mono.delay( Duration.ofMillis( 200 ) )
+						.thenReturn( "primary" )
+						.doOnCancel( () -> primaryCancelled.set( true ) );
+			}
+			return Mono.error( new IllegalStateException( "connection refused" ) );
+		} ).block( Duration.ofSeconds( 2 ) );
+
+		// Then
+		assertThat( result ).isEqualTo( "primary" );
+		assertThat( attempts.get() ).isEqualTo( 2 );
+		assertThat( primaryCancelled ).isFalse();
+		assertThat( meterRegistry.counter( "yumcup.external.api.hedge.won", "api", "test" ).count() ).isZero();
+	}
+
+	@Test
+	@DisplayName("hedge() - 원래 요청의 에러는 그대로 전달")
+	void hedge_PropagatesPrimaryError() {
+		// Given
+		RequestHedger hedger = hedger( 1.0, 10, 10 );
+		warmUp( hedger, 10 );
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		// When & Then
+		assertThatThrownBy( () -> hedger.hedge( () -> {
+			if ( attempts.incrementAndGet() == 1 ) {
+				return Mono.delay( Duration.ofMillis( 100 ) )
+						.then( Mono.<String>error( new IllegalStateException( "primary failed" ) ) );
+			}
+			return Mono.<String>error( new IllegalArgumentException( "backup failed" ) );
+		} ).block( Duration.ofSeconds( 2 ) ) )
+				.isInstanceOf( IllegalStateException.class )
+				.hasMessage( "primary failed" );
+	}
+
+	@Test
+	@DisplayName("hedge() - hedge 요청은 backupAttempt로 보내고, 허용을 받지 못하면 hedge만 포기")
+	void hedge_BackupAttemptRejectedFallsBackToPrimary() {
+		// Given
+		RequestHedger hedger = hedger( 1.0, 10, 10 );
+		warmUp( hedger, 10 );
+
+		AtomicInteger backupAttempts = new AtomicInteger();
+
+		// When
+		String result = hedger.hedge(
+				() -> Mono.delay( Duration.ofMillis( 100 ) ).thenReturn( "primary" ),
+				() -> {
+					backupAttempts.incrementAndGet();
+					return Mono.error( new IllegalStateException( "cluster token unavailable" ) );
+				}
+		).block( Duration.ofSeconds( 2 ) );
+
+		// Then
+		assertThat( result ).isEqualTo( "primary" );
+		assertThat( backupAttempts.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("hedge() - 예산을 넘으면 hedge 하지 않음")
+	void hedge_RespectsBudget() {
+		// Given
+		RequestHedger hedger = hedger( 0.1, 2, 10 );
+		warmUp( hedger, 100 );
+		AtomicInteger attempts = new AtomicInteger();
+
+		// When
+		for ( int i = 0; i < 10; i++ ) {
+			hedger.hedge( () -> {
+				attempts.incrementAndGet();
+				return Mono.delay( Duration.ofMillis( 40 ) ).thenReturn( "value" );
+			} ).block();
+		}
+
+		// Then
+		assertThat( meterRegistry.counter( "yumcup.external.api.hedge.sent", "api", "test" ).count() ).isEqualTo( 2 );
+		assertThat( attempts.get() ).isEqualTo( 12 );
+	}
+
+	private RequestHedger hedger(double budgetRatio, int maxBudget, int minSamples) {
+		return RequestHedger.builder()
+				.name( "test" )
+				.percentile( 0.9 )
+				.minDelay( Duration.ofMillis( 10 ) )
+				.budgetRatio( budgetRatio )
+				.maxBudget( maxBudget )
+				.sampleSize( 100 )
+				.minSamples( minSamples )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	private void warmUp(RequestHedger hedger, int requests) {
+		for ( int i = 0; i < requests; i++ ) {
+			hedger.hedge( () -> Mono.just( "warm-up" ) ).block();
+		}
+	}
+}
@@ -0,0 +1,167 @@
+package mioneF.yumCup.infrastructure.api.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.exception.BulkheadFullException;
+import mioneF.yumCup.exception.CircuitBreakerOpenException;
+import mioneF.yumCup.exception.ExternalApiException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RetryPolicy 단위 테스트
+ */
+@DisplayName("RetryPolicy 단위 테스트")
+class RetryPolicyTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("isRetryable() - 5xx / 429 / 타임아웃만 재시도")
+	void isRetryable_TransientFailuresOnly() {
+		RetryPolicy retryPolicy = retryPolicy();
+
+		assertThat( retryPolicy.isRetryable( response( 503, HttpHeaders.EMPTY ) ) ).isTrue();
+		assertThat( retryPolicy.isRetryable( response( 429, HttpHeaders.EMPTY ) ) ).isTrue();
+		assertThat( retryPolicy.isRetryable( new ExternalApiException( "timeout", new TimeoutException() ) ) ).isTrue();
+
+		assertThat( retryPolicy.isRetryable( response( 404, HttpHeaders.EMPTY ) ) ).isFalse();
+		assertThat( retryPolicy.isRetryable( new ExternalApiException( "parse", new IOException() ) ) ).isFalse();
+		assertThat( retryPolicy.isRetryable( new CircuitBreakerOpenException( "open" ) ) ).isFalse();
+	}
+
+	@Test
+	@DisplayName("isRetryable() - 로컬 거절(rate limiter 대기 초과 / bulkhead)은 재시도하지 않음")
+	void isRetryable_LocalRejectionsNotRetried() {
+		// Given: 허용 1개를 잡아 둔 rate limiter에서 대기 시간 초과
+		RetryPolicy retryPolicy = retryPolicy();
+		AdaptiveRateLimiter limiter = AdaptiveRateLimiter.builder()
+				.name( "test" )
+				.permitsPerSecond( 1000 )
+				.burst( 100 )
+				.initialLimit( 1 )
+				.minLimit( 1 )
+				.maxLimit( 1 )
+				.latencyThreshold( Duration.ofSeconds( 2 ) )
+				.maxQueueSize( 16 )
+				.maxQueueTime( Duration.ofMillis( 50 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+		limiter.acquire().block();
+
+		// When
+		Throwable queueTimeout = catchThrowable( () -> limiter.acquire().block() );
+
+		// Then
+		assertThat( queueTimeout ).hasMessageContaining( "wait exceeded" );
+		assertThat( retryPolicy.isRetryable( queueTimeout ) ).isFalse();
+		assertThat( retryPolicy.isRetryable( new BulkheadFullException( "full" ) ) ).isFalse();
+	}
+
+	@Test
+	@DisplayName("retryAfterMillis() - Retry-After 초 단위 헤더 해석")
+	void retryAfterMillis_Seconds() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set( HttpHeaders.RETRY_AFTER, "2" );
+
+		assertThat( RetryPolicy.retryAfterMillis( new ExternalApiException( "throttled", response( 429, headers ) ) ) )
+				.isEqualTo( 2000 );
+		assertThat( RetryPolicy.retryAfterMillis( response( 503, HttpHeaders.EMPTY ) ) ).isZero();
+	}
+
+	@Test
+	@DisplayName("toRetry() - 시도 횟수 소진: 재시도 횟수 기록 후 예외")
+	void toRetry_ExhaustsAttempts() {
+		// Given
+		AtomicInteger attempts = new AtomicInteger();
+		Mono<String> failing = Mono.defer( () -> {
+			attempts.incrementAndGet();
+			return Mono.error( response( 503, HttpHeaders.EMPTY ) );
+		} );
+
+		// When & Then
+		assertThatThrownBy( () -> failing.retryWhen( retryPolicy().toRetry() ).block() )
+				.isInstanceOf( ExternalApiException.class )
+				.hasMessageContaining( "failed after 3 attempts" );
+
+		assertThat( attempts.get() ).isEqualTo( 3 );
+		assertThat( count( "retry" ) ).isEqualTo( 2 );
+		assertThat( count( "exhausted" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("toRetry() - 재시도 불가 실패: 원래 예외 그대로, 재시도 없음")
+	void toRetry_NotRetryable() {
+		// Given
+		AtomicInteger attempts = new AtomicInteger();
+		Mono<String> failing = Mono.defer( () -> {
+			attempts.incrementAndGet();
+			return Mono.error( response( 400, HttpHeaders.EMPTY ) );
+		} );
+
+		// When & Then
+		assertThatThrownBy( () -> failing.retryWhen( retryPolicy().toRetry() ).block() )
+				.isInstanceOf( WebClientResponseException.class );
+
+		assertThat( attempts.get() ).isEqualTo( 1 );
+		assertThat( count( "not_retryable" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("toRetry() - 대기 시간이 재시도 예산을 넘으면 포기")
+	void toRetry_StopsWhenBudgetExhausted() {
+		// Given
+		HttpHeaders headers = new HttpHeaders();
+		headers.set( HttpHeaders.RETRY_AFTER, "5" );
+		AtomicInteger attempts = new AtomicInteger();
+		Mono<String> throttled = Mono.defer( () -> {
+			attempts.incrementAndGet();
+			return Mono.error( response( 429, headers ) );
+		} );
+
+		// When & Then
+		assertThatThrownBy( () -> throttled.retryWhen( retryPolicy().toRetry() ).block() )
+				.isInstanceOf( ExternalApiException.class )
+				.hasMessageContaining( "retry budget exhausted" );
+
+		assertThat( attempts.get() ).isEqualTo( 1 );
+		assertThat( count( "budget_exhausted" ) ).isEqualTo( 1 );
+	}
+
+	private RetryPolicy retryPolicy() {
+		return RetryPolicy.builder()
+				.name( "test" )
+				.maxAttempts( 3 )
+				.baseDelay( Duration.ofMillis( 10 ) )
+				.maxDelay( Duration.ofMillis( 50 ) )
+				.maxTotalDelay( Duration.ofSeconds( 3 ) )
+				.meterRegistry( meterRegistry )
+				.build();
+	}
+
+	private WebClientResponseException response(int status, HttpHeaders headers) {
+		return WebClientResponseException.create(
+				status,
+				"status " + status,
+				headers,
+				new byte[0],
+				StandardCharsets.UTF_8
+		);
+	}
+
+	private double count(String result) {
+		return meterRegistry.counter( "yumcup.external.api.retry", "api", "test", "result", result ).count();
+	}
+}
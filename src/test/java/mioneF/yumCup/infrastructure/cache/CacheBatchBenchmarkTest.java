@@ -0,0 +1,113 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 단건 GET/SET 반복과 MGET/파이프라인 SET의 왕복 비용 비교
+ * 로컬 Redis가 필요하므로 -Dbenchmark=true 로 실행할 때만 동작
+ * (예: ./gradlew test --tests '*CacheBatchBenchmarkTest' -Dbenchmark=true -Dbenchmark.redis.host=localhost)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("CacheStrategy 배치 조회/저장 벤치마크")
+class CacheBatchBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger( CacheBatchBenchmarkTest.class );
+
+	private static final TypeReference<List<String>> KAKAO_IDS_TYPE = new TypeReference<>() {
+	};
+	private static final int WARMUP_ROUNDS = 50;
+	private static final int MEASURE_ROUNDS = 200;
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static GeohashCacheStrategy cacheStrategy;
+
+	@BeforeAll
+	static void setUp() {
+		connectionFactory = new LettuceConnectionFactory(
+				System.getProperty( "benchmark.redis.host", "localhost" ),
+				Integer.getInteger( "benchmark.redis.port", 6379 )
+		);
+		connectionFactory.afterPropertiesSet();
+
+		RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory( connectionFactory );
+		redisTemplate.setKeySerializer( RedisSerializer.string() );
+		redisTemplate.setValueSerializer( RedisSerializer.byteArray() );
+		redisTemplate.afterPropertiesSet();
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		cacheStrategy = new GeohashCacheStrategy(
+				redisTemplate,
+				List.of( new SmileCacheCodec( objectMapper ), new JsonCacheCodec( objectMapper ) ),
+				SmileCacheCodec.NAME,
+				true
+		);
+	}
+
+	@AfterAll
+	static void tearDown() {
+		cacheStrategy.evictByPattern( "benchmark:*" );
+		connectionFactory.destroy();
+	}
+
+	@ParameterizedTest(name = "{0} keys")
+	@ValueSource(ints = { 16, 64 })
+	@DisplayName("getAll / putAll - 키 수만큼의 왕복 대신 1회 왕복")
+	void batchVersusSingleKey(int keyCount) {
+		Map<String, List<String>> values = new LinkedHashMap<>();
+		IntStream.range( 0, keyCount ).forEach( i -> values.put( "benchmark:key:" + i, List.of( "id-" + i ) ) );
+		List<String> keys = List.copyOf( values.keySet() );
+
+		long singlePutNanos = measure( () -> values.forEach( (key, value) -> cacheStrategy.put( key, value, 60 ) ) );
+		long batchPutNanos = measure( () -> cacheStrategy.putAll( values, 60 ) );
+		long singleGetNanos = measure( () -> keys.forEach( key -> cacheStrategy.get( key, KAKAO_IDS_TYPE ) ) );
+		long batchGetNanos = measure( () -> cacheStrategy.getAll( keys, KAKAO_IDS_TYPE ) );
+
+		log.info( String.format(
+				"[%d keys] put: %.1fus -> putAll: %.1fus (x%.1f) | get: %.1fus -> getAll: %.1fus (x%.1f)",
+				keyCount,
+				singlePutNanos / 1000.0, batchPutNanos / 1000.0, (double) singlePutNanos / batchPutNanos,
+				singleGetNanos / 1000.0, batchGetNanos / 1000.0, (double) singleGetNanos / batchGetNanos
+		) );
+
+		assertThat( cacheStrategy.getAll( keys, KAKAO_IDS_TYPE ) ).containsExactlyEntriesOf( values );
+		assertThat( batchGetNanos ).isLessThan( singleGetNanos );
+	}
+
+	/**
+	 * 라운드당 평균 소요 시간(ns)
+	 */
+	private static long measure(Runnable round) {
+		for ( int i = 0; i < WARMUP_ROUNDS; i++ ) {
+			round.run();
+		}
+
+		long start = System.nanoTime();
+		for ( int i = 0; i < MEASURE_ROUNDS; i++ ) {
+			round.run();
+		}
+		return ( System.nanoTime() - start ) / MEASURE_ROUNDS;
+	}
+}
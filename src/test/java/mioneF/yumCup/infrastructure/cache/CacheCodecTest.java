@@ -0,0 +1,72 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CacheCodec 단위 테스트
+ */
+@DisplayName("CacheCodec 단위 테스트")
+class CacheCodecTest {
+
+	private static final JavaType KAKAO_IDS_TYPE = new ObjectMapper().getTypeFactory()
+			.constructCollectionType( List.class, String.class );
+
+	private final JsonCacheCodec jsonCodec = new JsonCacheCodec( new ObjectMapper() );
+	private final SmileCacheCodec smileCodec = new SmileCacheCodec( new ObjectMapper() );
+
+	@Test
+	@DisplayName("Smile - 엔트리 왕복 변환 후 만료 정보와 값 유지, JSON보다 작음")
+	void smile_RoundTrip() throws Exception {
+		// Given
+		CacheEntry<List<String>> entry = CacheEntry.of( List.of( "12345678", "23456789", "34567890" ), 3600, 4200, 850 );
+
+		// When
+		byte[] encoded = smileCodec.encode( entry );
+		CacheEntry<List<String>> decoded = smileCodec.decode( encoded, KAKAO_IDS_TYPE );
+
+		// Then
+		assertThat( decoded ).isEqualTo( entry );
+		assertThat( smileCodec.canDecode( encoded ) ).isTrue();
+		assertThat( jsonCodec.canDecode( encoded ) ).isFalse();
+		assertThat( encoded.length ).isLessThan( jsonCodec.encode( entry ).length );
+	}
+
+	@Test
+	@DisplayName("JSON - envelope 왕복 변환, Smile codec은 판별하지 않음")
+	void json_RoundTrip() throws Exception {
+		// Given
+		CacheEntry<List<String>> entry = CacheEntry.of( List.of( "1", "2" ), 60, 120, 10 );
+
+		// When
+		byte[] encoded = jsonCodec.encode( entry );
+
+		// Then
+		assertThat( jsonCodec.<List<String>>decode( encoded, KAKAO_IDS_TYPE ) ).isEqualTo( entry );
+		assertThat( smileCodec.canDecode( encoded ) ).isFalse();
+	}
+
+	@Test
+	@DisplayName("JSON - 만료 정보 없이 저장된 이전 형식 값 읽기")
+	void json_DecodesLegacyValue() throws Exception {
+		// Given
+		byte[] legacy = "[\"1\",\"2\"]".getBytes( StandardCharsets.UTF_8 );
+
+		// When
+		CacheEntry<List<String>> decoded = jsonCodec.decode( legacy, KAKAO_IDS_TYPE );
+
+		// Then
+		assertThat( jsonCodec.canDecode( legacy ) ).isTrue();
+		assertThat( decoded.value() ).containsExactly( "1", "2" );
+		assertThat( decoded.isStale() ).isFalse();
+		assertThat( decoded.computeMillis() ).isZero();
+	}
+}
@@ -0,0 +1,177 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * GeohashCacheStrategy 키 생성 / 형식 호환 단위 테스트
+ */
+@DisplayName("GeohashCacheStrategy 단위 테스트")
+class GeohashCacheStrategyTest {
+
+	private static final String PREFIX = "restaurants:kakaoIds";
+	private static final double LATITUDE = 37.5665;
+	private static final double LONGITUDE = 126.9780;
+
+	private GeohashCacheStrategy cacheStrategy;
+
+	@BeforeEach
+	void setUp() {
+		cacheStrategy = new GeohashCacheStrategy(
+				mock( RedisTemplate.class ),
+				List.of( new JsonCacheCodec( new ObjectMapper() ) ),
+				JsonCacheCodec.NAME,
+				false
+		);
+	}
+
+	@Test
+	@DisplayName("precisionForRadius() - 반경이 클수록 낮은 precision")
+	void precisionForRadius_ByRadius() {
+		assertThat( cacheStrategy.precisionForRadius( 300 ) ).isEqualTo( 7 );
+		assertThat( cacheStrategy.precisionForRadius( 1000 ) ).isEqualTo( 6 );
+		assertThat( cacheStrategy.precisionForRadius( 20000 ) ).isEqualTo( 5 );
+	}
+
+	@Test
+	@DisplayName("generateRadiusKey() - 1000m 키는 기존 precision 6 키와 동일")
+	void generateRadiusKey_CompatibleWithPrecisionSix() {
+		String legacyKey = cacheStrategy.generateGeohashKey( PREFIX, LATITUDE, LONGITUDE, "1000" );
+
+		assertThat( cacheStrategy.generateRadiusKey( PREFIX, LATITUDE, LONGITUDE, 1000 ) ).isEqualTo( legacyKey );
+	}
+
+	@Test
+	@DisplayName("generateCoveringKeys() - 큰 반경 단계만 작은 순으로, 상위 셀을 가리킴")
+	void generateCoveringKeys_LargerTiersOnly() {
+		List<String> keys = cacheStrategy.generateCoveringKeys( PREFIX, LATITUDE, LONGITUDE, 1000 );
+		String cell = cellOf( cacheStrategy.generateRadiusKey( PREFIX, LATITUDE, LONGITUDE, 1000 ) );
+
+		assertThat( keys ).hasSize( 5 );
+		assertThat( keys.get( 0 ) ).endsWith( ":2000" );
+		assertThat( keys.get( keys.size() - 1 ) ).endsWith( ":20000" );
+		assertThat( keys ).allSatisfy( key -> assertThat( cell ).startsWith( cellOf( key ) ) );
+	}
+
+	@Test
+	@DisplayName("generateNeighborKeys() - 인접 8개 셀, 요청 셀 제외")
+	void generateNeighborKeys_EightAdjacentCells() {
+		String ownKey = cacheStrategy.generateRadiusKey( PREFIX, LATITUDE, LONGITUDE, 1000 );
+
+		List<String> keys = cacheStrategy.generateNeighborKeys( PREFIX, LATITUDE, LONGITUDE, 1000 );
+
+		assertThat( keys ).hasSize( 8 ).doesNotHaveDuplicates().doesNotContain( ownKey );
+		assertThat( keys ).allSatisfy( key -> assertThat( cellOf( key ) ).hasSize( 6 ) );
+	}
+
+	@Test
+	@DisplayName("getEntry() - JSON으로 쓰는 인스턴스도 Smile로 저장된 값을 읽음 (codec 전환 중 삭제하지 않음)")
+	@SuppressWarnings("unchecked")
+	void getEntry_ReadsSmileWhileWritingJson() throws Exception {
+		// Given
+		ObjectMapper objectMapper = new ObjectMapper();
+		RedisTemplate<String, byte[]> redisTemplate = mock( RedisTemplate.class );
+		ValueOperations<String, byte[]> valueOperations = mock( ValueOperations.class );
+		when( redisTemplate.opsForValue() ).thenReturn( valueOperations );
+
+		CacheEntry<List<String>> stored = CacheEntry.of( List.of( "1", "2" ), 60, 120 );
+		when( valueOperations.get( "key" ) ).thenReturn( new SmileCacheCodec( objectMapper ).encode( stored ) );
+
+		GeohashCacheStrategy jsonStrategy = new GeohashCacheStrategy(
+				redisTemplate,
+				List.of( new JsonCacheCodec( objectMapper ), new SmileCacheCodec( objectMapper ) ),
+				JsonCacheCodec.NAME,
+				true
+		);
+
+		// When
+		List<String> value = jsonStrategy.get( "key", List.class ).orElseThrow();
+
+		// Then
+		assertThat( value ).containsExactly( "1", "2" );
+		verify( redisTemplate, never() ).delete( anyString() );
+	}
+
+	@Test
+	@DisplayName("getEntry() - envelope 이전 형식(값만 저장된 JSON 리스트)도 읽음")
+	@SuppressWarnings("unchecked")
+	void getEntry_ReadsLegacyBareList() {
+		// Given
+		RedisTemplate<String, byte[]> redisTemplate = mock( RedisTemplate.class );
+		ValueOperations<String, byte[]> valueOperations = mock( ValueOperations.class );
+		when( redisTemplate.opsForValue() ).thenReturn( valueOperations );
+		when( valueOperations.get( "key" ) ).thenReturn( "[\"1\",\"2\"]".getBytes( StandardCharsets.UTF_8 ) );
+
+		GeohashCacheStrategy strategy = new GeohashCacheStrategy(
+				redisTemplate,
+				List.of( new JsonCacheCodec( new ObjectMapper() ) ),
+				JsonCacheCodec.NAME,
+				false
+		);
+
+		// When
+		List<String> value = strategy.get( "key", List.class ).orElseThrow();
+
+		// Then
+		assertThat( value ).containsExactly( "1", "2" );
+		verify( redisTemplate, never() ).delete( anyString() );
+	}
+
+	@Test
+	@DisplayName("putEntry() - envelope 쓰기 전환 전에는 이전 버전도 읽을 수 있도록 값만 저장")
+	@SuppressWarnings("unchecked")
+	void putEntry_WritesLegacyFormatUntilEnvelopeWritesEnabled() {
+		// Given
+		RedisTemplate<String, byte[]> redisTemplate = mock( RedisTemplate.class );
+		ValueOperations<String, byte[]> valueOperations = mock( ValueOperations.class );
+		when( redisTemplate.opsForValue() ).thenReturn( valueOperations );
+
+		GeohashCacheStrategy strategy = new GeohashCacheStrategy(
+				redisTemplate,
+				List.of( new JsonCacheCodec( new ObjectMapper() ) ),
+				JsonCacheCodec.NAME,
+				false
+		);
+
+		// When
+		strategy.putEntry( "key", CacheEntry.of( List.of( "1", "2" ), 60, 120 ) );
+
+		// Then
+		verify( valueOperations ).set(
+				eq( "key" ),
+				eq( "[\"1\",\"2\"]".getBytes( StandardCharsets.UTF_8 ) ),
+				anyLong(),
+				eq( TimeUnit.SECONDS )
+		);
+	}
+
+	@Test
+	@DisplayName("생성자 - envelope 쓰기 전환 전에는 JSON 외 codec으로 쓰지 않음")
+	void constructor_RejectsSmileWithoutEnvelopeWrites() {
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		assertThatThrownBy( () -> new GeohashCacheStrategy(
+				mock( RedisTemplate.class ),
+				List.of( new JsonCacheCodec( objectMapper ), new SmileCacheCodec( objectMapper ) ),
+				SmileCacheCodec.NAME,
+				false
+		) ).isInstanceOf( IllegalStateException.class );
+	}
+
+	private String cellOf(String key) {
+		return key.split( ":" )[3];
+	}
+}
@@ -0,0 +1,139 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * NearCacheStrategy 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCacheStrategy 단위 테스트")
+class NearCacheStrategyTest {
+
+	@Mock
+	private GeohashCacheStrategy remoteCache;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	private NearCacheStrategy nearCache;
+
+	@BeforeEach
+	void setUp() {
+		nearCache = new NearCacheStrategy( remoteCache, redisTemplate, listenerContainer, 100, 60 );
+		lenient().when( remoteCache.applyEarlyExpiration( any() ) ).thenAnswer( invocation -> invocation.getArgument( 0 ) );
+	}
+
+	@Test
+	@DisplayName("get() - L2 적중 후 재조회: L1에서 반환하여 Redis 재조회 없음")
+	void get_SecondLookupServedFromLocal() {
+		// Given
+		List<String> kakaoIds = List.of( "1", "2" );
+		CacheEntry<List> cached = CacheEntry.withoutExpiry( kakaoIds );
+		when( remoteCache.getEntry( "key", List.class ) ).thenReturn( Optional.of( cached ) );
+		when( remoteCache.getRemainingTtlSeconds( "key" ) ).thenReturn( 3600L );
+
+		// When
+		nearCache.get( "key", List.class );
+		Optional<List> second = nearCache.get( "key", List.class );
+
+		// Then
+		assertThat( second ).contains( kakaoIds );
+		verify( remoteCache, times( 1 ) ).getEntry( "key", List.class );
+	}
+
+	@Test
+	@DisplayName("get() - Redis에 TTL이 남지 않은 값: L1에 저장하지 않음")
+	void get_DoesNotOutliveRemoteTtl() {
+		// Given
+		CacheEntry<List> cached = CacheEntry.withoutExpiry( List.of( "1" ) );
+		when( remoteCache.getEntry( "key", List.class ) ).thenReturn( Optional.of( cached ) );
+		when( remoteCache.getRemainingTtlSeconds( "key" ) ).thenReturn( -2L );
+
+		// When
+		nearCache.get( "key", List.class );
+		nearCache.get( "key", List.class );
+
+		// Then
+		verify( remoteCache, times( 2 ) ).getEntry( "key", List.class );
+	}
+
+	@Test
+	@DisplayName("evictByPattern() - 패턴에 맞는 L1 키만 삭제하고 다른 인스턴스에 발행")
+	void evictByPattern_RemovesMatchingLocalKeys() {
+		// Given
+		nearCache.put( "restaurants:kakaoIds:geohash:wydm9q:1000", List.of( "1" ), 3600 );
+		nearCache.put( "games:1", List.of( "2" ), 3600 );
+
+		// When
+		nearCache.evictByPattern( "restaurants:*" );
+
+		// Then
+		when( remoteCache.getEntry( anyString(), eq( List.class ) ) ).thenReturn( Optional.empty() );
+		assertThat( nearCache.get( "restaurants:kakaoIds:geohash:wydm9q:1000", List.class ) ).isEmpty();
+		assertThat( nearCache.get( "games:1", List.class ) ).isPresent();
+		verify( redisTemplate ).convertAndSend(
+				eq( NearCacheStrategy.INVALIDATION_CHANNEL ),
+				contains( "|pattern|restaurants:*" )
+		);
+	}
+
+	@Test
+	@DisplayName("getAll() - L1에 없는 키만 L2에서 한 번에 조회, 요청 순서 유지")
+	void getAll_FetchesOnlyLocalMissesFromRemote() {
+		// Given
+		nearCache.put( "a", List.of( "1" ), 3600 );
+		CacheEntry<List> remoteEntry = CacheEntry.of( List.of( "2" ), 3600, 3600 );
+		when( remoteCache.getAllEntries( List.of( "b", "c" ), List.class ) ).thenReturn( Map.of( "b", remoteEntry ) );
+
+		// When
+		Map<String, List> values = nearCache.getAll( List.of( "b", "a", "c" ), List.class );
+
+		// Then
+		assertThat( values.keySet() ).containsExactly( "b", "a" );
+		assertThat( values.get( "b" ) ).containsExactly( "2" );
+		verify( remoteCache, times( 1 ) ).getAllEntries( List.of( "b", "c" ), List.class );
+	}
+
+	@Test
+	@DisplayName("getEntry() - soft 만료가 지난 엔트리: L1에서 stale 상태 그대로 반환")
+	void getEntry_ReturnsStaleEntryFromLocal() {
+		// Given
+		nearCache.putEntry( "key", CacheEntry.of( List.of( "1" ), 0, 3600 ) );
+
+		// When
+		Optional<CacheEntry<List>> entry = nearCache.getEntry( "key", List.class );
+
+		// Then
+		assertThat( entry ).isPresent();
+		assertThat( entry.get().isStale() ).isTrue();
+		assertThat( entry.get().isExpired() ).isFalse();
+		verify( remoteCache, never() ).getEntry( anyString(), any() );
+	}
+
+	@Test
+	@DisplayName("globToRegex() - Redis glob 패턴 변환")
+	void globToRegex_Conversion() {
+		assertThat( NearCacheStrategy.globToRegex( "a:*:b?" ).matcher( "a:xyz:bc" ).matches() ).isTrue();
+		assertThat( NearCacheStrategy.globToRegex( "a.b*" ).matcher( "axb" ).matches() ).isFalse();
+	}
+}
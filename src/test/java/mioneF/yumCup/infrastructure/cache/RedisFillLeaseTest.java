@@ -0,0 +1,133 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RedisFillLease 통합 테스트 (Lua 스크립트를 실제 Redis에서 실행, Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisFillLease 통합 테스트")
+class RedisFillLeaseTest {
+
+	private static final TypeReference<List<String>> KAKAO_IDS_TYPE = new TypeReference<>() {
+	};
+	private static final long LEASE_TTL_MILLIS = 200;
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>( DockerImageName.parse( "redis:7-alpine" ) )
+			.withExposedPorts( 6379 );
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate stringRedisTemplate;
+	private static GeohashCacheStrategy cacheStrategy;
+
+	private RedisFillLease fillLease;
+
+	@BeforeAll
+	static void setUpRedis() {
+		connectionFactory = new LettuceConnectionFactory( REDIS.getHost(), REDIS.getMappedPort( 6379 ) );
+		connectionFactory.afterPropertiesSet();
+
+		stringRedisTemplate = new StringRedisTemplate( connectionFactory );
+
+		RedisTemplate<String, byte[]> binaryRedisTemplate = new RedisTemplate<>();
+		binaryRedisTemplate.setConnectionFactory( connectionFactory );
+		binaryRedisTemplate.setKeySerializer( RedisSerializer.string() );
+		binaryRedisTemplate.setValueSerializer( RedisSerializer.byteArray() );
+		binaryRedisTemplate.afterPropertiesSet();
+
+		cacheStrategy = new GeohashCacheStrategy(
+				binaryRedisTemplate,
+				List.of( new JsonCacheCodec( new ObjectMapper() ) ),
+				JsonCacheCodec.NAME,
+				true
+		);
+	}
+
+	@AfterAll
+	static void tearDownRedis() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		stringRedisTemplate.execute( (RedisCallback<Object>) connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		} );
+		fillLease = new RedisFillLease( stringRedisTemplate, new SimpleMeterRegistry(), true, LEASE_TTL_MILLIS, 1000, 20 );
+	}
+
+	@Test
+	@DisplayName("tryAcquire() - lease가 있으면 다른 인스턴스는 획득하지 못하고, 해제 후에는 더 큰 token으로 획득")
+	void tryAcquire_ExclusiveUntilReleased() {
+		// Given
+		RedisFillLease.Lease first = fillLease.tryAcquire( "key" ).orElseThrow();
+
+		// When
+		Optional<RedisFillLease.Lease> whileHeld = fillLease.tryAcquire( "key" );
+		fillLease.release( first );
+		RedisFillLease.Lease second = fillLease.tryAcquire( "key" ).orElseThrow();
+
+		// Then
+		assertThat( whileHeld ).isEmpty();
+		assertThat( second.fencingToken() ).isGreaterThan( first.fencingToken() );
+	}
+
+	@Test
+	@DisplayName("tryAcquire() - holder가 해제하지 않아도 lease가 만료되면 다른 인스턴스가 이어받음")
+	void tryAcquire_TakesOverAfterExpiry() throws InterruptedException {
+		// Given
+		RedisFillLease.Lease expired = fillLease.tryAcquire( "key" ).orElseThrow();
+
+		// When
+		Thread.sleep( LEASE_TTL_MILLIS * 2 );
+		Optional<RedisFillLease.Lease> takeover = fillLease.tryAcquire( "key" );
+
+		// Then
+		assertThat( takeover ).isPresent();
+		assertThat( takeover.get().fencingToken() ).isGreaterThan( expired.fencingToken() );
+	}
+
+	@Test
+	@DisplayName("putIfCurrent() - lease가 넘어간 뒤 이전 holder의 늦은 쓰기는 거절하고 현재 holder의 쓰기만 저장")
+	void putIfCurrent_RejectsStaleToken() throws InterruptedException {
+		// Given
+		RedisFillLease.Lease stale = fillLease.tryAcquire( "key" ).orElseThrow();
+		Thread.sleep( LEASE_TTL_MILLIS * 2 );
+		RedisFillLease.Lease current = fillLease.tryAcquire( "key" ).orElseThrow();
+
+		// When
+		boolean currentWritten = fillLease.putIfCurrent( current, cacheStrategy, "cache", CacheEntry.of( List.of( "new" ), 60, 120 ) );
+		boolean staleWritten = fillLease.putIfCurrent( stale, cacheStrategy, "cache", CacheEntry.of( List.of( "old" ), 60, 120 ) );
+
+		// Then
+		assertThat( currentWritten ).isTrue();
+		assertThat( staleWritten ).isFalse();
+		assertThat( cacheStrategy.get( "cache", KAKAO_IDS_TYPE ) ).contains( List.of( "new" ) );
+	}
+}
@@ -0,0 +1,118 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.domain.RestaurantSnapshot;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RestaurantSnapshotCache 버전 확인 저장 통합 테스트 (실제 Redis에서 실행, Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RestaurantSnapshotCache Redis 통합 테스트")
+class RestaurantSnapshotCacheRedisTest {
+
+	@Container
+	private static final GenericContainer<?> REDIS = new GenericContainer<>( DockerImageName.parse( "redis:7-alpine" ) )
+			.withExposedPorts( 6379 );
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private RestaurantSnapshotCache snapshotCache;
+
+	@BeforeAll
+	static void setUpRedis() {
+		connectionFactory = new LettuceConnectionFactory( REDIS.getHost(), REDIS.getMappedPort( 6379 ) );
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate( connectionFactory );
+	}
+
+	@AfterAll
+	static void tearDownRedis() {
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate.execute( (RedisCallback<Object>) connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		} );
+		snapshotCache = new RestaurantSnapshotCache( redisTemplate, meterRegistry, 60 );
+	}
+
+	@Test
+	@DisplayName("putAllIfUnchanged() - 읽은 버전이 그대로면 저장하고 TTL 설정")
+	void putAllIfUnchanged_StoresWhenVersionUnchanged() {
+		// Given
+		RestaurantSnapshot snapshot = snapshot( "12345", "테스트 식당" );
+		Map<String, String> versions = snapshotCache.versions( List.of( "12345" ) );
+
+		// When
+		snapshotCache.putAllIfUnchanged( List.of( snapshot ), versions );
+
+		// Then
+		assertThat( snapshotCache.getAll( List.of( "12345" ) ) ).containsEntry( "12345", snapshot );
+		assertThat( redisTemplate.getExpire( "restaurant:snapshot:12345" ) ).isBetween( 1L, 60L );
+	}
+
+	@Test
+	@DisplayName("putAllIfUnchanged() - 버전을 읽은 뒤 evictAll로 삭제된 kakaoId는 이전에 읽은 스냅샷으로 채우지 않음")
+	void putAllIfUnchanged_SkipsSnapshotEvictedAfterRead() {
+		// Given: DB에서 이전 값을 읽는 도중 보강이 커밋되어 스냅샷 삭제
+		Map<String, String> versions = snapshotCache.versions( List.of( "12345", "67890" ) );
+		snapshotCache.evictAll( List.of( "12345" ) );
+
+		// When
+		snapshotCache.putAllIfUnchanged(
+				List.of( snapshot( "12345", "이전 식당" ), snapshot( "67890", "다른 식당" ) ),
+				versions
+		);
+
+		// Then
+		assertThat( snapshotCache.getAll( List.of( "12345", "67890" ) ) ).containsOnlyKeys( "67890" );
+		assertThat( meterRegistry.counter( "yumcup.restaurant.snapshot.fill", "result", "skipped" ).count() )
+				.isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("putAllIfUnchanged() - 삭제 이후에 읽은 버전으로는 다시 저장 가능")
+	void putAllIfUnchanged_StoresWithVersionReadAfterEviction() {
+		// Given
+		snapshotCache.evictAll( List.of( "12345" ) );
+		Map<String, String> versions = snapshotCache.versions( List.of( "12345" ) );
+
+		// When
+		snapshotCache.putAllIfUnchanged( List.of( snapshot( "12345", "새 식당" ) ), versions );
+
+		// Then
+		assertThat( snapshotCache.getAll( List.of( "12345" ) ).get( "12345" ).name() ).isEqualTo( "새 식당" );
+	}
+
+	private RestaurantSnapshot snapshot(String kakaoId, String name) {
+		return new RestaurantSnapshot(
+				1L, kakaoId, name, "한식", 350, 37.5665, 126.9780,
+				null, null, null, null, null, 4.5, 120, null, null
+		);
+	}
+}
@@ -0,0 +1,51 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import mioneF.yumCup.domain.RestaurantSnapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RestaurantSnapshotCache hash 변환 단위 테스트
+ */
+@DisplayName("RestaurantSnapshotCache hash 변환 단위 테스트")
+class RestaurantSnapshotCacheTest {
+
+	@Test
+	@DisplayName("toHash() / fromHash() - 왕복 변환 시 모든 필드 유지")
+	void hash_RoundTrip() {
+		// Given
+		RestaurantSnapshot snapshot = new RestaurantSnapshot(
+				1L, "12345", "테스트 식당", "한식", 350, 37.5665, 126.9780,
+				"서울 중구", "서울 중구 세종대로", "02-123-4567", "http://place.map.kakao.com/12345",
+				"https://photo.example.com/1", 4.5, 120, 2, true
+		);
+
+		// When
+		RestaurantSnapshot restored = RestaurantSnapshotCache.fromHash( RestaurantSnapshotCache.toHash( snapshot ) );
+
+		// Then
+		assertThat( restored ).isEqualTo( snapshot );
+	}
+
+	@Test
+	@DisplayName("toHash() - null 필드는 저장하지 않고 읽을 때 null")
+	void hash_SkipsNullFields() {
+		// Given
+		RestaurantSnapshot snapshot = new RestaurantSnapshot(
+				1L, "12345", "테스트 식당", "한식", 350, 37.5665, 126.9780,
+				null, null, null, null, null, null, null, null, null
+		);
+
+		// When
+		Map<String, String> hash = RestaurantSnapshotCache.toHash( snapshot );
+
+		// Then
+		assertThat( hash ).doesNotContainKeys( "phone", "rating", "isOpenNow" );
+		assertThat( RestaurantSnapshotCache.fromHash( hash ) ).isEqualTo( snapshot );
+	}
+}
@@ -0,0 +1,90 @@
+package mioneF.yumCup.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.exception.RestaurantProcessingTimeoutException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SingleFlight 단위 테스트
+ */
+@DisplayName("SingleFlight 단위 테스트")
+class SingleFlightTest {
+
+	@Test
+	@DisplayName("execute() - 동시 요청: 로더는 한 번만 실행되고 결과 공유")
+	void execute_CoalescesConcurrentCalls() throws Exception {
+		// Given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		SingleFlight singleFlight = new SingleFlight( meterRegistry, 5000 );
+		AtomicInteger loaderCalls = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch( 1 );
+
+		// When
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<CompletableFuture<String>> results = IntStream.range( 0, 8 )
+					.mapToObj( i -> CompletableFuture.supplyAsync(
+							() -> singleFlight.execute( "key", () -> {
+								loaderCalls.incrementAndGet();
+								await( release );
+								return "value";
+							} ),
+							executor
+					) )
+					.toList();
+
+			Thread.sleep( 200 );
+			release.countDown();
+
+			// Then
+			assertThat( results ).allSatisfy( result -> assertThat( result.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "value" ) );
+		}
+
+		assertThat( loaderCalls.get() ).isEqualTo( 1 );
+		assertThat( meterRegistry.counter( "yumcup.cache.singleflight.coalesced" ).count() ).isEqualTo( 7 );
+	}
+
+	@Test
+	@DisplayName("execute() - leader 지연: follower는 타임아웃 예외")
+	void execute_FollowerTimesOut() throws Exception {
+		// Given
+		SingleFlight singleFlight = new SingleFlight( new SimpleMeterRegistry(), 100 );
+		CountDownLatch release = new CountDownLatch( 1 );
+
+		CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+				() -> singleFlight.execute( "key", () -> {
+					await( release );
+					return "value";
+				} )
+		);
+		Thread.sleep( 50 );
+
+		// When & Then
+		assertThatThrownBy( () -> singleFlight.execute( "key", () -> "other" ) )
+				.isInstanceOf( RestaurantProcessingTimeoutException.class );
+
+		release.countDown();
+		assertThat( leader.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "value" );
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await( 5, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
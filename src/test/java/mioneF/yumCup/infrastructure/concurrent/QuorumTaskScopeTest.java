@@ -0,0 +1,187 @@
+package mioneF.yumCup.infrastructure.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.infrastructure.concurrent.QuorumTaskScope.Subtask;
+import mioneF.yumCup.infrastructure.deadline.RequestDeadline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QuorumTaskScope 테스트
+ */
+@DisplayName("QuorumTaskScope 테스트")
+class QuorumTaskScopeTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	@DisplayName("required 개가 성공하면 join이 끝나고 남은 작업은 취소")
+	void join_CancelsRemainingAfterQuorum() throws Exception {
+		AtomicBoolean interrupted = new AtomicBoolean();
+		CountDownLatch started = new CountDownLatch( 1 );
+		Subtask<String> slow;
+		Subtask<String> first;
+		Subtask<String> second;
+
+		try (QuorumTaskScope<String> scope = new QuorumTaskScope<>( "test", 2, meterRegistry )) {
+			first = scope.fork( () -> "a" );
+			second = scope.fork( () -> "b" );
+			slow = scope.fork( () -> {
+				started.countDown();
+				return sleepUntilInterrupted( interrupted );
+			} );
+			started.await();
+
+			long startedAt = System.nanoTime();
+			scope.join( Optional.empty() );
+
+			assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startedAt ) ).isLessThan( 5000 );
+		}
+
+		assertThat( first.get() ).isEqualTo( "a" );
+		assertThat( second.get() ).isEqualTo( "b" );
+		assertThat( slow.state() ).isEqualTo( Subtask.State.CANCELLED );
+		assertThat( interrupted ).isTrue();
+		assertThat( count( "succeeded" ) ).isEqualTo( 2 );
+		assertThat( count( "cancelled" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("요청 마감이 지나면 join이 끝나고 실행 중인 작업은 취소")
+	void join_StopsAtDeadline() throws Exception {
+		AtomicBoolean interrupted = new AtomicBoolean();
+		CountDownLatch started = new CountDownLatch( 1 );
+		Subtask<String> slow;
+
+		try (QuorumTaskScope<String> scope = new QuorumTaskScope<>( "test", 2, meterRegistry )) {
+			scope.fork( () -> "a" );
+			slow = scope.fork( () -> {
+				started.countDown();
+				return sleepUntilInterrupted( interrupted );
+			} );
+			started.await();
+
+			long startedAt = System.nanoTime();
+			scope.join( Optional.of( RequestDeadline.after( Duration.ofMillis( 200 ) ) ) );
+
+			assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startedAt ) ).isBetween( 150L, 2000L );
+		}
+
+		assertThat( slow.state() ).isEqualTo( Subtask.State.CANCELLED );
+		assertThat( interrupted ).isTrue();
+		assertThat( count( "cancelled" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("실패한 작업도 끝난 것으로 보고, 모두 끝나면 join 종료")
+	void join_CountsFailures() throws Exception {
+		Subtask<String> failed;
+
+		try (QuorumTaskScope<String> scope = new QuorumTaskScope<>( "test", 2, meterRegistry )) {
+			scope.fork( () -> "a" );
+			failed = scope.fork( () -> {
+				throw new IllegalStateException( "boom" );
+			} );
+
+			scope.join( Optional.empty() );
+		}
+
+		assertThat( failed.state() ).isEqualTo( Subtask.State.FAILED );
+		assertThat( failed.exception() ).hasMessage( "boom" );
+		assertThatThrownBy( failed::get ).isInstanceOf( IllegalStateException.class );
+		assertThat( count( "succeeded" ) ).isEqualTo( 1 );
+		assertThat( count( "failed" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("join 전에 실패해도 scope를 닫으면 작업이 취소되고 모두 끝난 뒤 반환")
+	void close_CancelsWhenParentFails() throws Exception {
+		AtomicBoolean interrupted = new AtomicBoolean();
+		CountDownLatch started = new CountDownLatch( 1 );
+
+		assertThatThrownBy( () -> {
+			try (QuorumTaskScope<String> scope = new QuorumTaskScope<>( "test", 1, meterRegistry )) {
+				scope.fork( () -> {
+					started.countDown();
+					return sleepUntilInterrupted( interrupted );
+				} );
+				started.await();
+				throw new IllegalStateException( "parent failed" );
+			}
+		} ).hasMessage( "parent failed" );
+
+		assertThat( interrupted ).isTrue();
+		assertThat( count( "cancelled" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName("close() - interrupt에 응답하지 않는 작업은 closeGrace까지만 기다리고 abandoned로 기록")
+	void close_AbandonsSubtaskIgnoringInterrupt() throws Exception {
+		CountDownLatch release = new CountDownLatch( 1 );
+		CountDownLatch started = new CountDownLatch( 1 );
+		Subtask<String> stuck;
+
+		try {
+			long startedAt = System.nanoTime();
+			try (QuorumTaskScope<String> scope = new QuorumTaskScope<>( "test", 1, meterRegistry, Duration.ofMillis( 100 ) )) {
+				stuck = scope.fork( () -> {
+					started.countDown();
+					return awaitIgnoringInterrupt( release );
+				} );
+				started.await();
+
+				scope.join( Optional.of( RequestDeadline.after( Duration.ofMillis( 50 ) ) ) );
+			}
+
+			assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startedAt ) ).isLessThan( 2000 );
+			assertThat( stuck.state() ).isEqualTo( Subtask.State.RUNNING );
+			assertThat( count( "abandoned" ) ).isEqualTo( 1 );
+		}
+		finally {
+			release.countDown();
+		}
+	}
+
+	private static String sleepUntilInterrupted(AtomicBoolean interrupted) {
+		try {
+			Thread.sleep( Duration.ofSeconds( 30 ) );
+			return "slow";
+		}
+		catch (InterruptedException e) {
+			interrupted.set( true );
+			throw new IllegalStateException( "interrupted", e );
+		}
+	}
+
+	private static String awaitIgnoringInterrupt(CountDownLatch release) {
+		while ( true ) {
+			try {
+				if ( release.await( 10, TimeUnit.SECONDS ) ) {
+					return "late";
+				}
+			}
+			catch (InterruptedException e) {
+				// interrupt 무시
+			}
+		}
+	}
+
+	private double count(String result) {
+		return meterRegistry.counter( QuorumTaskScope.SUBTASKS_METRIC, "scope", "test", "result", result ).count();
+	}
+}
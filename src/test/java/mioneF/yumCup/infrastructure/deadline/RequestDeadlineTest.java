@@ -0,0 +1,87 @@
+package mioneF.yumCup.infrastructure.deadline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RequestDeadline 테스트
+ */
+@DisplayName("RequestDeadline 테스트")
+class RequestDeadlineTest {
+
+	@Test
+	@DisplayName("남은 시간 - 마감 전에는 양수, 지나면 0")
+	void remaining_ClampedAtZero() {
+		RequestDeadline deadline = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+		RequestDeadline expired = RequestDeadline.after( Duration.ofMillis( -1 ) );
+
+		assertThat( deadline.isExpired() ).isFalse();
+		assertThat( deadline.remaining() ).isPositive().isLessThanOrEqualTo( Duration.ofSeconds( 10 ) );
+		assertThat( expired.isExpired() ).isTrue();
+		assertThat( expired.remaining() ).isZero();
+	}
+
+	@Test
+	@DisplayName("minus() - reserve 만큼 앞당긴 마감")
+	void minus_ReservesTime() {
+		RequestDeadline deadline = RequestDeadline.after( Duration.ofMillis( 300 ) );
+
+		assertThat( deadline.minus( Duration.ofMillis( 500 ) ).isExpired() ).isTrue();
+		assertThat( deadline.minus( Duration.ofMillis( 100 ) ).remaining() ).isLessThanOrEqualTo( Duration.ofMillis( 200 ) );
+	}
+
+	@Test
+	@DisplayName("sequence() - 먼저 만든 요청이 더 작고, minus로 만든 마감은 같은 요청이므로 같은 값")
+	void sequence_OrdersRequests() {
+		RequestDeadline first = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+		RequestDeadline second = RequestDeadline.after( Duration.ofSeconds( 1 ) );
+
+		assertThat( first.sequence() ).isLessThan( second.sequence() );
+		assertThat( first.minus( Duration.ofSeconds( 1 ) ).sequence() ).isEqualTo( first.sequence() );
+	}
+
+	@Test
+	@DisplayName("callWith() - 실행 중에만 현재 스레드에 설정되고 끝나면 이전 값 복원")
+	void callWith_RestoresPrevious() {
+		RequestDeadline outer = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+		RequestDeadline inner = outer.minus( Duration.ofSeconds( 1 ) );
+
+		Optional<RequestDeadline> seen = RequestDeadline.callWith( outer, () -> {
+			assertThat( RequestDeadline.callWith( inner, RequestDeadline::current ) ).contains( inner );
+			return RequestDeadline.current();
+		} );
+
+		assertThat( seen ).contains( outer );
+		assertThat( RequestDeadline.current() ).isEmpty();
+	}
+
+	@Test
+	@DisplayName("propagate() - 현재 스레드의 마감을 Reactor Context로 전달, 이미 있으면 유지")
+	void propagate_CopiesCurrentIntoContext() {
+		RequestDeadline deadline = RequestDeadline.after( Duration.ofSeconds( 10 ) );
+		RequestDeadline existing = RequestDeadline.after( Duration.ofSeconds( 1 ) );
+		Mono<Optional<RequestDeadline>> fromContext = Mono.deferContextual(
+				context -> Mono.just( RequestDeadline.from( context ) )
+		);
+
+		Optional<RequestDeadline> propagated = RequestDeadline.callWith(
+				deadline,
+				() -> fromContext.contextWrite( RequestDeadline::propagate ).block()
+		);
+		Optional<RequestDeadline> kept = RequestDeadline.callWith(
+				deadline,
+				() -> fromContext.contextWrite( RequestDeadline::propagate ).contextWrite( existing::putInto ).block()
+		);
+
+		assertThat( propagated ).contains( deadline );
+		assertThat( kept ).contains( existing );
+		assertThat( RequestDeadline.propagate( Context.empty() ).isEmpty() ).isTrue();
+	}
+}
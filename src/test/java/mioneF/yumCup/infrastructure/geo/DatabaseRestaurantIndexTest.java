@@ -0,0 +1,81 @@
+package mioneF.yumCup.infrastructure.geo;
+
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.repository.RestaurantRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * DatabaseRestaurantIndex H2 범위 조회 fallback 테스트
+ */
+@DataJpaTest(properties = { "spring.flyway.enabled=false", "spring.jpa.hibernate.ddl-auto=create-drop" })
+@Import(DatabaseRestaurantIndex.class)
+@DisplayName("DatabaseRestaurantIndex H2 fallback 테스트")
+class DatabaseRestaurantIndexTest {
+
+	private static final double LATITUDE = 37.5665;
+	private static final double LONGITUDE = 126.9780;
+
+	@Autowired
+	private RestaurantRepository restaurantRepository;
+
+	@Autowired
+	private DatabaseRestaurantIndex databaseIndex;
+
+	private Restaurant near;
+	private Restaurant middle;
+	private Restaurant edge;
+
+	@BeforeEach
+	void setUp() {
+		// 위도 0.001도 ≈ 111m (북쪽 방향)
+		edge = save( "edge", LATITUDE + 0.0085, LONGITUDE );
+		near = save( "near", LATITUDE + 0.0009, LONGITUDE );
+		save( "far", LATITUDE + 0.0135, LONGITUDE );
+		middle = save( "middle", LATITUDE, LONGITUDE + 0.0055 );
+		save( "unknown", null, null );
+
+		databaseIndex.detectSpatialColumn();
+	}
+
+	@Test
+	@DisplayName("detectSpatialColumn() - MySQL이 아니면 spatial 컬럼 없이 동작")
+	void detectSpatialColumn_NotMySql() {
+		assertThat( databaseIndex.isSpatialAvailable() ).isFalse();
+	}
+
+	@Test
+	@DisplayName("findWithinRadius() - 반경 내 레스토랑만 가까운 순으로")
+	void findWithinRadius_NearestFirst() {
+		List<Long> ids = databaseIndex.findWithinRadius( LATITUDE, LONGITUDE, 1000, 45 );
+
+		assertThat( ids ).containsExactly( near.getId(), middle.getId(), edge.getId() );
+	}
+
+	@Test
+	@DisplayName("findWithinRadius() - limit 적용")
+	void findWithinRadius_Limit() {
+		List<Long> ids = databaseIndex.findWithinRadius( LATITUDE, LONGITUDE, 1000, 2 );
+
+		assertThat( ids ).containsExactly( near.getId(), middle.getId() );
+	}
+
+	private Restaurant save(String kakaoId, Double latitude, Double longitude) {
+		return restaurantRepository.save( Restaurant.builder()
+				.name( kakaoId )
+				.kakaoId( kakaoId )
+				.latitude( latitude )
+				.longitude( longitude )
+				.build() );
+	}
+}
@@ -0,0 +1,116 @@
+package mioneF.yumCup.infrastructure.geo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.repository.RestaurantRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 레스토랑 100만 건 기준 프로세스 내 좌표 인덱스 메모리 / 반경 검색 지연 측정
+ * -Dbenchmark=true 로 실행할 때만 동작 (예: ./gradlew test --tests '*InMemoryRestaurantIndexBenchmarkTest' -Dbenchmark=true)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("InMemoryRestaurantIndex 벤치마크")
+class InMemoryRestaurantIndexBenchmarkTest {
+
+	private static final Logger log = LoggerFactory.getLogger( InMemoryRestaurantIndexBenchmarkTest.class );
+
+	private static final int RESTAURANTS = 1_000_000;
+	private static final int WARMUP_QUERIES = 2_000;
+	private static final int MEASURE_QUERIES = 20_000;
+
+	@Test
+	@DisplayName("100만 건 - 메모리 footprint와 반경별 검색 지연")
+	void oneMillionRestaurants() {
+		// Given: 절반은 서울 도심, 나머지는 전국에 분포
+		Random random = new Random( 42 );
+		long[] ids = new long[RESTAURANTS];
+		double[] latitudes = new double[RESTAURANTS];
+		double[] longitudes = new double[RESTAURANTS];
+
+		for ( int i = 0; i < RESTAURANTS; i++ ) {
+			ids[i] = i + 1;
+			if ( i % 2 == 0 ) {
+				latitudes[i] = 37.45 + random.nextDouble() * 0.25;
+				longitudes[i] = 126.80 + random.nextDouble() * 0.35;
+			}
+			else {
+				latitudes[i] = 34.5 + random.nextDouble() * 3.5;
+				longitudes[i] = 126.5 + random.nextDouble() * 3.0;
+			}
+		}
+
+		InMemoryRestaurantIndex index = new InMemoryRestaurantIndex(
+				mock( RestaurantRepository.class ),
+				new SimpleMeterRegistry(),
+				10_000,
+				1_000
+		);
+
+		long heapBefore = usedHeap();
+		long startedAt = System.nanoTime();
+		index.loadAll( ids, latitudes, longitudes, RESTAURANTS );
+		long buildMillis = ( System.nanoTime() - startedAt ) / 1_000_000;
+		long heapAfter = usedHeap();
+
+		log.info( String.format(
+				"[%,d restaurants] build: %dms, index arrays: %.1fMB, heap delta: %.1fMB",
+				RESTAURANTS, buildMillis, index.footprintBytes() / 1048576.0, ( heapAfter - heapBefore ) / 1048576.0
+		) );
+
+		// When & Then
+		for ( int radius : new int[] { 500, 1000, 3000 } ) {
+			long[] latencies = measure( index, radius, random );
+			Arrays.sort( latencies );
+
+			log.info( String.format(
+					"[radius %dm] p50: %.1fus, p99: %.1fus, max: %.1fus",
+					radius,
+					latencies[latencies.length / 2] / 1000.0,
+					latencies[latencies.length * 99 / 100] / 1000.0,
+					latencies[latencies.length - 1] / 1000.0
+			) );
+
+			assertThat( latencies[latencies.length / 2] ).isLessThan( 1_000_000L );
+		}
+
+		assertThat( index.footprintBytes() ).isEqualTo( RESTAURANTS * 32L );
+	}
+
+	/**
+	 * 서울 도심 임의 위치 검색 지연(ns)
+	 */
+	private long[] measure(InMemoryRestaurantIndex index, int radius, Random random) {
+		for ( int i = 0; i < WARMUP_QUERIES; i++ ) {
+			index.findWithinRadius( 37.45 + random.nextDouble() * 0.25, 126.80 + random.nextDouble() * 0.35, radius, 45 );
+		}
+
+		long[] latencies = new long[MEASURE_QUERIES];
+		for ( int i = 0; i < MEASURE_QUERIES; i++ ) {
+			double latitude = 37.45 + random.nextDouble() * 0.25;
+			double longitude = 126.80 + random.nextDouble() * 0.35;
+
+			long startedAt = System.nanoTime();
+			index.findWithinRadius( latitude, longitude, radius, 45 );
+			latencies[i] = System.nanoTime() - startedAt;
+		}
+		return latencies;
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,117 @@
+package mioneF.yumCup.infrastructure.geo;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.repository.RestaurantRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * InMemoryRestaurantIndex 단위 테스트
+ */
+@DisplayName("InMemoryRestaurantIndex 단위 테스트")
+class InMemoryRestaurantIndexTest {
+
+	private static final double LATITUDE = 37.5665;
+	private static final double LONGITUDE = 126.9780;
+	private static final int COUNT = 5000;
+
+	private InMemoryRestaurantIndex index;
+	private double[] latitudes;
+	private double[] longitudes;
+
+	@BeforeEach
+	void setUp() {
+		index = new InMemoryRestaurantIndex( mock( RestaurantRepository.class ), new SimpleMeterRegistry(), 1000, 3 );
+
+		Random random = new Random( 42 );
+		long[] ids = new long[COUNT];
+		latitudes = new double[COUNT];
+		longitudes = new double[COUNT];
+		for ( int i = 0; i < COUNT; i++ ) {
+			ids[i] = i + 1;
+			latitudes[i] = LATITUDE + ( random.nextDouble() - 0.5 ) * 0.2;
+			longitudes[i] = LONGITUDE + ( random.nextDouble() - 0.5 ) * 0.2;
+		}
+		index.loadAll( ids, latitudes, longitudes, COUNT );
+	}
+
+	@Test
+	@DisplayName("findWithinRadius() - 전수 비교 결과와 동일, 가까운 순")
+	void findWithinRadius_MatchesBruteForce() {
+		for ( int radius : new int[] { 300, 1000, 3000 } ) {
+			List<Long> expected = bruteForce( LATITUDE, LONGITUDE, radius );
+
+			List<Long> actual = index.findWithinRadius( LATITUDE, LONGITUDE, radius, COUNT );
+
+			assertThat( actual ).as( "radius %dm", radius ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	@DisplayName("findWithinRadius() - limit 만큼만 반환")
+	void findWithinRadius_RespectsLimit() {
+		assertThat( index.findWithinRadius( LATITUDE, LONGITUDE, 3000, 16 ) )
+				.isEqualTo( bruteForce( LATITUDE, LONGITUDE, 3000 ).subList( 0, 16 ) );
+	}
+
+	@Test
+	@DisplayName("index() - 추가된 레스토랑은 재생성 전후 모두 검색되고 좌표 갱신이 반영됨")
+	void index_VisibleBeforeAndAfterRebuild() {
+		// Given
+		Restaurant added = restaurant( 100_001L, LATITUDE, LONGITUDE );
+		Restaurant moved = restaurant( 1L, LATITUDE + 0.0001, LONGITUDE );
+
+		// When (재생성 임계치 3 미만)
+		index.index( List.of( added, moved ) );
+
+		// Then
+		assertThat( index.findWithinRadius( LATITUDE, LONGITUDE, 50, 100 ) ).contains( 100_001L, 1L );
+
+		// When (임계치 도달 → 재생성)
+		index.index( List.of( restaurant( 100_002L, LATITUDE, LONGITUDE + 0.0001 ) ) );
+
+		// Then
+		assertThat( index.size() ).isEqualTo( COUNT + 2 );
+		List<Long> nearby = index.findWithinRadius( LATITUDE, LONGITUDE, 50, 100 );
+		assertThat( nearby ).contains( 100_001L, 100_002L, 1L ).doesNotHaveDuplicates();
+	}
+
+	private List<Long> bruteForce(double latitude, double longitude, int radius) {
+		List<double[]> hits = new ArrayList<>();
+		IntStream.range( 0, COUNT ).forEach( i -> {
+			double distance = GeoDistance.meters( latitude, longitude, latitudes[i], longitudes[i] );
+			if ( distance <= radius ) {
+				hits.add( new double[] { i + 1, distance } );
+			}
+		} );
+		return hits.stream()
+				.sorted( Comparator.comparingDouble( hit -> hit[1] ) )
+				.map( hit -> (long) hit[0] )
+				.toList();
+	}
+
+	private Restaurant restaurant(Long id, double latitude, double longitude) {
+		Restaurant restaurant = Restaurant.builder()
+				.name( "테스트 식당" )
+				.kakaoId( String.valueOf( id ) )
+				.latitude( latitude )
+				.longitude( longitude )
+				.build();
+		ReflectionTestUtils.setField( restaurant, "id", id );
+		return restaurant;
+	}
+}
@@ -0,0 +1,88 @@
+package mioneF.yumCup.infrastructure.geo;
+
+import mioneF.yumCup.domain.entity.Restaurant;
+import mioneF.yumCup.repository.RestaurantRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.GeoOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisGeoRestaurantIndex 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisGeoRestaurantIndex 단위 테스트")
+class RedisGeoRestaurantIndexTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private GeoOperations<String, String> geoOperations;
+
+	@Mock
+	private RestaurantRepository restaurantRepository;
+
+	private RedisGeoRestaurantIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new RedisGeoRestaurantIndex( redisTemplate, restaurantRepository, false );
+	}
+
+	@Test
+	@DisplayName("index() - id와 좌표가 있는 레스토랑만 (경도, 위도) 순서로 GEOADD")
+	@SuppressWarnings("unchecked")
+	void index_AddsOnlyLocatedRestaurants() {
+		// Given
+		when( redisTemplate.opsForGeo() ).thenReturn( geoOperations );
+		Restaurant located = restaurant( 1L, 37.5665, 126.9780 );
+		Restaurant unsaved = restaurant( null, 37.5, 127.0 );
+		Restaurant noLocation = restaurant( 3L, null, null );
+
+		// When
+		index.index( List.of( located, unsaved, noLocation ) );
+
+		// Then
+		ArgumentCaptor<Map<String, Point>> captor = ArgumentCaptor.forClass( Map.class );
+		verify( geoOperations ).add( eq( RedisGeoRestaurantIndex.GEO_KEY ), captor.capture() );
+		assertThat( captor.getValue() ).containsOnlyKeys( "1" );
+		assertThat( captor.getValue().get( "1" ) ).isEqualTo( new Point( 126.9780, 37.5665 ) );
+	}
+
+	@Test
+	@DisplayName("index() - 인덱싱할 레스토랑이 없으면 Redis 호출 없음")
+	void index_SkipsEmptyBatch() {
+		index.index( List.of( restaurant( null, 37.5, 127.0 ) ) );
+
+		verifyNoInteractions( redisTemplate );
+	}
+
+	private Restaurant restaurant(Long id, Double latitude, Double longitude) {
+		Restaurant restaurant = Restaurant.builder()
+				.name( "테스트 식당" )
+				.kakaoId( String.valueOf( id ) )
+				.latitude( latitude )
+				.longitude( longitude )
+				.build();
+		ReflectionTestUtils.setField( restaurant, "id", id );
+		return restaurant;
+	}
+}